@@ -0,0 +1,105 @@
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import model.Internship;
+import model.Student;
+import service.ApplicationManager;
+import service.ColumnarApplicationManager;
+import service.IApplicationManager;
+import service.OffHeapApplicationManager;
+
+/**
+ * Compares the memory per application of ApplicationManager, ColumnarApplicationManager and
+ * OffHeapApplicationManager, split into retained heap and direct (off-heap) buffer memory, along with
+ * how long a full collection takes with each one's applications live.
+ * Students and internships are created up front and shared by every run, so only what each manager
+ * allocates for its applications is counted. Every student applies to three internships, the cap.
+ * Heap figures come from Runtime after repeated GCs; run with a fixed heap (-Xms = -Xmx) for steadier numbers.
+ * Garbage left behind by an earlier run can make a near-zero heap figure come out slightly negative.
+ *
+ * Usage: ApplicationMemoryBenchmark [applications] (default 1500000)
+ */
+public class ApplicationMemoryBenchmark {
+    private static final String[] MAJORS = {"CSC", "EEE", "MAE", "CHE", "BIO", "DSAI"};
+    private static final int INTERNSHIPS = 2_000;
+    private static final int APPLICATIONS_PER_STUDENT = 3;
+
+    public static void main(String[] args) {
+        int applications = args.length > 0 ? Integer.parseInt(args[0]) : 1_500_000;
+        int studentCount = applications / APPLICATIONS_PER_STUDENT;
+
+        List<Student> students = new ArrayList<>(studentCount);
+        for (int i = 0; i < studentCount; i++) {
+            students.add(new Student(String.format("U%07dA", i), "pw", "Student " + i, 3, MAJORS[i % MAJORS.length]));
+        }
+        List<Internship> internships = new ArrayList<>(INTERNSHIPS);
+        for (int i = 0; i < INTERNSHIPS; i++) {
+            Internship internship = new Internship("Role " + i, "Desc", "Basic", MAJORS[i % MAJORS.length],
+                "2025-01-01", "2099-12-31", "Company " + (i % 100), "rep" + i, 10);
+            internship.setStatus("Approved");
+            internship.setVisible(true);
+            internships.add(internship);
+        }
+        System.out.printf("%,d students applying to %,d internships%n", studentCount, INTERNSHIPS);
+
+        measure("ApplicationManager", ApplicationManager::new, students, internships);
+        measure("ColumnarApplicationManager", ColumnarApplicationManager::new, students, internships);
+        measure("OffHeapApplicationManager", OffHeapApplicationManager::new, students, internships);
+    }
+
+    private static void measure(String name, Supplier<IApplicationManager> factory,
+                                List<Student> students, List<Internship> internships) {
+        long before = usedHeap();
+        long directBefore = directMemory();
+        long start = System.nanoTime();
+        IApplicationManager manager = factory.get();
+        int applied = 0;
+        for (int i = 0; i < students.size(); i++) {
+            for (int j = 0; j < APPLICATIONS_PER_STUDENT; j++) {
+                if (manager.applyForInternship(students.get(i), internships.get((i * 7 + j * 131) % internships.size()))) {
+                    applied++;
+                }
+            }
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        long retained = usedHeap() - before;
+        long direct = directMemory() - directBefore;
+        long gcStart = System.nanoTime();
+        System.gc();
+        long gcMs = (System.nanoTime() - gcStart) / 1_000_000;
+
+        System.out.printf("%-28s %,d applications in %,d ms; heap %.1f bytes/application, off-heap %.1f bytes/application,"
+            + " full GC %,d ms%n", name, applied, elapsedMs, (double) retained / applied, (double) direct / applied, gcMs);
+        // Keep the manager reachable until after the measurement
+        if (manager.getApplicationCount(students.get(0).getUserId()) < 0) {
+            System.out.println();
+        }
+    }
+
+    private static long directMemory() {
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if (pool.getName().equals("direct")) {
+                return pool.getMemoryUsed();
+            }
+        }
+        return 0;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        // Collect until the figure stops dropping so lingering garbage is not counted
+        for (int i = 0; i < 10; i++) {
+            System.gc();
+            long now = runtime.totalMemory() - runtime.freeMemory();
+            if (now >= used) {
+                break;
+            }
+            used = now;
+        }
+        return used;
+    }
+}
@@ -0,0 +1,109 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileReader;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import util.CsvReader;
+
+/**
+ * Compares the original readLine/split student loader with the streaming CsvReader.
+ * Both parse every field of a generated students file the way CSVLoaderService does; only parsing is
+ * timed, so the numbers are not skewed by building millions of Student objects.
+ *
+ * Usage: CsvLoaderBenchmark [rows] [iterations]
+ */
+public class CsvLoaderBenchmark {
+    private static final String[] MAJORS = {"CSC", "EEE", "MAE", "CHE", "BIO", "DSAI"};
+
+    public static void main(String[] args) throws IOException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        Path file = Files.createTempFile("students-bench", ".csv");
+        try {
+            generate(file, rows);
+            System.out.printf("File: %,d rows, %,d bytes%n", rows, Files.size(file));
+
+            // Warm both paths up before measuring
+            splitLoader(file);
+            streamingLoader(file);
+
+            for (int i = 1; i <= iterations; i++) {
+                measure("split    #" + i, file, rows, true);
+                measure("streaming#" + i, file, rows, false);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void measure(String label, Path file, int rows, boolean split) throws IOException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        long checksum = split ? splitLoader(file) : streamingLoader(file);
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        System.out.printf("%s  %7.1f ms  %,12.0f rows/s  %6.1f bytes/row allocated  (checksum %d)%n",
+            label, elapsed / 1e6, rows / (elapsed / 1e9), (double) allocated / rows, checksum);
+    }
+
+    // The loader as it was: one String per line, a String[] per split, and a trimmed copy per column
+    private static long splitLoader(Path file) throws IOException {
+        long checksum = 0;
+        try (BufferedReader br = new BufferedReader(new FileReader(file.toFile()))) {
+            String line;
+            boolean firstLine = true;
+            while ((line = br.readLine()) != null) {
+                if (firstLine) {
+                    firstLine = false;
+                    continue;
+                }
+                String[] parts = line.split(",");
+                if (parts.length == 5) {
+                    String id = parts[0].trim();
+                    String password = parts[1].trim();
+                    String name = parts[2].trim();
+                    String major = parts[3].trim();
+                    int year = Integer.parseInt(parts[4].trim());
+                    checksum += id.length() + password.length() + name.length() + major.length() + year;
+                }
+            }
+        }
+        return checksum;
+    }
+
+    private static long streamingLoader(Path file) throws IOException {
+        long checksum = 0;
+        try (CsvReader csv = new CsvReader(new FileReader(file.toFile()))) {
+            csv.next();
+            while (csv.next()) {
+                if (csv.getFieldCount() == 5) {
+                    String id = csv.getField(0);
+                    String password = csv.getField(1);
+                    String name = csv.getField(2);
+                    String major = csv.getField(3);
+                    int year = csv.getInt(4);
+                    checksum += id.length() + password.length() + name.length() + major.length() + year;
+                }
+            }
+        }
+        return checksum;
+    }
+
+    private static void generate(Path file, int rows) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(file)) {
+            out.write("StudentID,Password,Name,Major,Year\n");
+            for (int i = 0; i < rows; i++) {
+                out.write(String.format("U%07d%c,password%d,Student Number %d,%s,%d%n",
+                    i % 10_000_000, (char) ('A' + i % 26), i % 1000, i, MAJORS[i % MAJORS.length], 1 + i % 4));
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import model.Filter;
+import model.Internship;
+import service.FilterCompiler;
+import service.InternshipManager;
+
+/**
+ * Compares scanning every internship with a compiled filter against the bitmap index in InternshipManager.
+ * Each size gets a fresh manager filled with random postings; the queries are the staff listing filter
+ * (case-insensitive, via findInternships) and an exact report query (via generateReport). The scan side
+ * runs the same checks over a pre-fetched list, so only the matching itself is timed.
+ *
+ * Usage: InternshipFilterBenchmark [sizes...] (default 100000 1000000)
+ */
+public class InternshipFilterBenchmark {
+    private static final String[] STATUSES = {"Pending", "Approved", "Rejected", "Filled"};
+    private static final String[] MAJORS = {"CSC", "EEE", "MAE", "CHE", "BIO", "DSAI", "MSE", "CEE"};
+    private static final String[] LEVELS = {"Basic", "Intermediate", "Advanced"};
+    private static final int ROUNDS = 50;
+
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0 ? new int[] {100_000, 1_000_000} : new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sizes[i] = Integer.parseInt(args[i]);
+        }
+        for (int size : sizes) {
+            run(size);
+        }
+    }
+
+    private static void run(int size) {
+        InternshipManager manager = new InternshipManager();
+        Random random = new Random(7);
+        for (int i = 0; i < size; i++) {
+            Internship internship = new Internship("Role " + i, "Desc", LEVELS[random.nextInt(LEVELS.length)],
+                MAJORS[random.nextInt(MAJORS.length)], "2026-01-01",
+                String.format("2026-%02d-%02d", 1 + random.nextInt(12), 1 + random.nextInt(28)), "Company", "rep" + (i % 500), 3);
+            internship.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+            manager.addInternship(internship);
+        }
+        List<Internship> all = manager.getAllInternships();
+        System.out.printf("%n%,d internships%n", size);
+
+        Filter filter = new Filter();
+        filter.setStatus("approved");
+        filter.setMajor("csc");
+        filter.setLevel("basic");
+        Predicate<Internship> compiled = FilterCompiler.compile(filter);
+        compare("listing filter (status+major+level, ignore case)",
+            () -> FilterCompiler.apply(compiled, all).size(),
+            () -> manager.findInternships(filter).size());
+
+        Filter narrow = new Filter();
+        narrow.setMajor("DSAI");
+        narrow.setClosingDate("2026-06-15");
+        Predicate<Internship> compiledNarrow = FilterCompiler.compile(narrow);
+        compare("listing filter (major+closing date)",
+            () -> FilterCompiler.apply(compiledNarrow, all).size(),
+            () -> manager.findInternships(narrow).size());
+
+        compare("report (status+major+level, exact)",
+            () -> {
+                int count = 0;
+                for (Internship internship : all) {
+                    if (internship.getStatus().equals("Approved") && internship.getPreferredMajor().equals("CSC")
+                            && internship.getLevel().equals("Basic")) {
+                        count++;
+                    }
+                }
+                return count;
+            },
+            () -> manager.generateReport("Approved", "CSC", "Basic").size());
+    }
+
+    private interface Query {
+        int run();
+    }
+
+    private static void compare(String label, Query scan, Query bitmap) {
+        // Warm up both paths, and check they agree
+        int expected = 0;
+        int actual = 0;
+        for (int i = 0; i < 5; i++) {
+            expected = scan.run();
+            actual = bitmap.run();
+        }
+        if (expected != actual) {
+            throw new IllegalStateException(label + ": scan found " + expected + " but bitmaps found " + actual);
+        }
+
+        double scanMs = time(scan);
+        double bitmapMs = time(bitmap);
+        System.out.printf("  %-50s %,8d matches  scan %8.3f ms  bitmap %8.3f ms  (%.1fx)%n",
+            label, expected, scanMs, bitmapMs, scanMs / bitmapMs);
+    }
+
+    private static double time(Query query) {
+        long start = System.nanoTime();
+        long sink = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            sink += query.run();
+        }
+        if (sink < 0) {
+            System.out.println(sink);
+        }
+        return (System.nanoTime() - start) / 1e6 / ROUNDS;
+    }
+}
@@ -0,0 +1,122 @@
+import java.util.ArrayList;
+import java.util.List;
+
+import model.CompanyRep;
+import model.Internship;
+import model.Student;
+
+/**
+ * Measures the heap SymbolTable saves on a synthetic dataset of students, company representatives and
+ * internships. Every repeated field is built as a fresh String per row, the way a CSV or journal reader
+ * produces them. The model interns majors, levels and dates; company names, departments and positions
+ * are free text and are not interned, so they count the same in both figures.
+ * The pooled figure is the retained heap of the loaded objects. The unpooled figure adds what the same
+ * per-row copies cost when each object keeps its own, measured by retaining them in an array and
+ * subtracting the array's reference slots, which the objects' fields already account for.
+ *
+ * Usage: SymbolTableBenchmark [students] [internships] (default 1000000 100000)
+ */
+public class SymbolTableBenchmark {
+    private static final String[] MAJORS = {"CSC", "EEE", "MAE", "CHE", "BIO", "DSAI", "CEE", "MSE", "PHY", "MATH",
+        "ECON", "BUS", "ACC", "ENG", "HIST", "PSY", "SOC", "ART", "MED", "LAW"};
+    private static final String[] LEVELS = {"Basic", "Intermediate", "Advanced"};
+    private static final String[] POSITIONS = {"Recruiter", "HR Manager", "Engineering Manager", "Team Lead", "Director"};
+    private static final int COMPANIES = 5_000;
+    private static final int REPS_PER_COMPANY = 4;
+
+    public static void main(String[] args) {
+        int studentCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int internshipCount = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+        int repCount = COMPANIES * REPS_PER_COMPANY;
+
+        long before = usedHeap();
+        List<Object> dataset = new ArrayList<>(studentCount + internshipCount + repCount);
+        for (int i = 0; i < studentCount; i++) {
+            dataset.add(new Student(String.format("U%07dA", i), "pw", "Student " + i, 1 + i % 4, fresh(major(i))));
+        }
+        for (int i = 0; i < repCount; i++) {
+            int company = i / REPS_PER_COMPANY;
+            dataset.add(new CompanyRep("rep" + i + "@company" + company + ".com", "pw", "Rep " + i,
+                fresh(companyName(company)), fresh("Department " + (i % 30)), fresh(POSITIONS[i % POSITIONS.length])));
+        }
+        for (int i = 0; i < internshipCount; i++) {
+            int company = popularCompany(i);
+            dataset.add(new Internship("Role " + i, "Description " + i, fresh(LEVELS[i % LEVELS.length]), fresh(major(i * 7)),
+                fresh(date(i % 90)), fresh(date(90 + i % 120)), fresh(companyName(company)),
+                "rep" + company * REPS_PER_COMPANY + "@company" + company + ".com", 10));
+        }
+        long pooled = usedHeap() - before;
+
+        // What each row's own copies of its repeated fields retain when nothing is shared
+        int copies = studentCount + internshipCount * 4;
+        long copiesBefore = usedHeap();
+        String[] unshared = new String[copies];
+        int next = 0;
+        for (int i = 0; i < studentCount; i++) {
+            unshared[next++] = fresh(major(i));
+        }
+        for (int i = 0; i < internshipCount; i++) {
+            unshared[next++] = fresh(LEVELS[i % LEVELS.length]);
+            unshared[next++] = fresh(major(i * 7));
+            unshared[next++] = fresh(date(i % 90));
+            unshared[next++] = fresh(date(90 + i % 120));
+        }
+        long saved = usedHeap() - copiesBefore - arrayBytes(copies);
+
+        System.out.printf("%,d students, %,d company reps, %,d internships; %,d repeated field values%n",
+            studentCount, repCount, internshipCount, copies);
+        System.out.printf("with symbol table:    %,d MB%n", pooled / 1_000_000);
+        System.out.printf("without symbol table: %,d MB (estimated)%n", (pooled + saved) / 1_000_000);
+        System.out.printf("saved:                %,d MB (%.1f bytes per repeated value)%n",
+            saved / 1_000_000, (double) saved / copies);
+
+        // Keep the dataset reachable until after the measurement
+        if (dataset.size() + unshared.length < 0) {
+            System.out.println();
+        }
+    }
+
+    // Popular majors take most students: the first few majors cover about half the rows
+    private static String major(int i) {
+        int bucket = (int) ((i * 2654435761L) >>> 8) & 1023;
+        return MAJORS[Math.min(MAJORS.length - 1, bucket * bucket / 52_429)];
+    }
+
+    // A quarter of postings come from the 50 largest companies
+    private static int popularCompany(int i) {
+        return i % 4 == 0 ? i % 50 : (int) (((i * 2654435761L) >>> 8) % COMPANIES);
+    }
+
+    private static String companyName(int company) {
+        return "Company " + company;
+    }
+
+    private static String date(int dayOfYear) {
+        return String.format("2025-%02d-%02d", 1 + dayOfYear / 28, 1 + dayOfYear % 28);
+    }
+
+    // A new instance with its own characters, as a parser would produce
+    private static String fresh(String value) {
+        return new String(value.toCharArray());
+    }
+
+    // Compressed references, the default for heaps under 32 GB
+    private static long arrayBytes(int length) {
+        return 16 + 4L * length;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        // Collect until the figure stops dropping so lingering garbage is not counted
+        for (int i = 0; i < 10; i++) {
+            System.gc();
+            long now = runtime.totalMemory() - runtime.freeMemory();
+            if (now >= used) {
+                break;
+            }
+            used = now;
+        }
+        return used;
+    }
+}
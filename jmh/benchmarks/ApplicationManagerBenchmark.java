@@ -0,0 +1,123 @@
+package benchmarks;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.Application;
+import model.Internship;
+import model.Student;
+import service.ApplicationManager;
+
+/**
+ * ApplicationManager's student-facing operations.
+ * Applying and accepting change state that cannot be undone, so each measured invocation runs them for
+ * every student against a manager prepared fresh for that iteration; scores are time per full pass.
+ * Reading a student's applications is measured per call against a manager where everyone has applied.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ApplicationManagerBenchmark {
+    private static final int APPLICATIONS_PER_STUDENT = 3;
+
+    @Param({"10000", "300000"})
+    public int students;
+
+    private List<Student> studentList;
+    private List<Internship> internshipList;
+    // Replaced before each iteration: empty for applying, pre-applied with offers for accepting
+    private ApplicationManager emptyManager;
+    private ApplicationManager offeredManager;
+    private Application[] offers;
+    // Populated once and only read
+    private ApplicationManager populatedManager;
+    private String[] ids;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        studentList = Dataset.students(students);
+        internshipList = Dataset.internships(Dataset.internshipsFor(students));
+        populatedManager = new ApplicationManager();
+        applyAll(populatedManager);
+        ids = new String[1024];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = studentList.get((int) ((i * 2654435761L) % students)).getUserId();
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        for (Internship internship : internshipList) {
+            while (internship.getAvailableSlots() < internship.getTotalSlots()) {
+                internship.releaseSlot();
+            }
+            // Acceptances can fill a posting; reopen it so the next pass can apply again
+            internship.setStatus("Approved");
+        }
+        emptyManager = new ApplicationManager();
+        offeredManager = new ApplicationManager();
+        applyAll(offeredManager);
+        offers = new Application[students];
+        for (int i = 0; i < students; i++) {
+            Application offer = offeredManager.getApplicationsForStudent(studentList.get(i).getUserId()).get(0);
+            offeredManager.updateApplicationStatus(offer, "Successful");
+            offers[i] = offer;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int applyForInternship() {
+        return applyAll(emptyManager);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int acceptPlacement() {
+        int accepted = 0;
+        for (int i = 0; i < students; i++) {
+            if (offeredManager.acceptPlacement(studentList.get(i).getUserId(), offers[i])) {
+                accepted++;
+            }
+        }
+        return accepted;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public List<Application> getApplicationsForStudent() {
+        next = (next + 1) & (ids.length - 1);
+        return populatedManager.getApplicationsForStudent(ids[next]);
+    }
+
+    private int applyAll(ApplicationManager manager) {
+        int applied = 0;
+        int internshipCount = internshipList.size();
+        for (int i = 0; i < students; i++) {
+            for (int j = 0; j < APPLICATIONS_PER_STUDENT; j++) {
+                Internship internship = internshipList.get((i * 7 + j * 131) % internshipCount);
+                if (manager.applyForInternship(studentList.get(i), internship)) {
+                    applied++;
+                }
+            }
+        }
+        return applied;
+    }
+}
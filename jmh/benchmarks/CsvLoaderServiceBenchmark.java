@@ -0,0 +1,71 @@
+package benchmarks;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import service.CSVLoaderService;
+import service.UserManager;
+import service.ValidationService;
+
+/**
+ * CSVLoaderService.loadStudents from a generated file into an empty UserManager, one full load per
+ * invocation. Files of 32 MB and over take the parallel bulk importer, which the largest size reaches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class CsvLoaderServiceBenchmark {
+    @Param({"10000", "1000000"})
+    public int students;
+
+    private Path file;
+    private CSVLoaderService loader;
+    private UserManager userManager;
+
+    @Setup(Level.Trial)
+    public void writeFile() throws IOException {
+        file = Files.createTempFile("students-jmh", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("StudentID,Password,Name,Major,Year\n");
+            for (int i = 0; i < students; i++) {
+                writer.write(Dataset.studentId(i) + "," + Dataset.PASSWORD + ",\"Student, " + i + "\","
+                    + Dataset.MAJORS[i % Dataset.MAJORS.length] + "," + (1 + i % 4) + "\n");
+            }
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpLoader() {
+        userManager = new UserManager();
+        loader = new CSVLoaderService(userManager, new ValidationService(), new QuietConsoleUI());
+    }
+
+    @Benchmark
+    public int loadStudents() {
+        return loader.loadStudents(file.toString());
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+}
@@ -0,0 +1,54 @@
+package benchmarks;
+import java.util.ArrayList;
+import java.util.List;
+
+import model.Internship;
+import model.Student;
+
+/**
+ * Deterministic students and approved, visible internships for the service benchmarks.
+ * Majors and levels rotate so every eligibility view and report bucket is populated.
+ */
+final class Dataset {
+    static final String[] MAJORS = {"CSC", "EEE", "MAE", "CHE", "BIO", "DSAI"};
+    static final String[] LEVELS = {"Basic", "Intermediate", "Advanced"};
+    static final String PASSWORD = "password";
+
+    private Dataset() {
+    }
+
+    /**
+     * Ids in the U#######L form the validator accepts.
+     */
+    static String studentId(int index) {
+        return String.format("U%07dA", index);
+    }
+
+    static List<Student> students(int count) {
+        List<Student> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // Years 3-4 may apply at every level, so applications are not limited by level
+            students.add(new Student(studentId(i), PASSWORD, "Student " + i, 3 + i % 2, MAJORS[i % MAJORS.length]));
+        }
+        return students;
+    }
+
+    static List<Internship> internships(int count) {
+        List<Internship> internships = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Internship internship = new Internship("Role " + i, "Description", LEVELS[i % LEVELS.length],
+                MAJORS[i % MAJORS.length], "2025-01-01", "2099-12-31", "Company " + (i % 500), "rep" + (i / 5), 10);
+            internship.setStatus("Approved");
+            internship.setVisible(true);
+            internships.add(internship);
+        }
+        return internships;
+    }
+
+    /**
+     * One internship per ten students, the ratio the scale tests use, with a floor for small runs.
+     */
+    static int internshipsFor(int students) {
+        return Math.max(100, students / 10);
+    }
+}
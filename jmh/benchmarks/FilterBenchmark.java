@@ -0,0 +1,61 @@
+package benchmarks;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.Internship;
+import service.FilterService;
+import service.InternshipManager;
+
+/**
+ * Applying a user's filter to an internship listing, in memory through FilterService and through the
+ * InternshipManager's indexes. Filter itself only holds criteria; FilterService is what applies it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class FilterBenchmark {
+    @Param({"1000", "100000"})
+    public int internships;
+
+    private List<Internship> listing;
+    private FilterService filterService;
+    private InternshipManager internshipManager;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        listing = Dataset.internships(internships);
+        internshipManager = new InternshipManager();
+        for (Internship internship : listing) {
+            internshipManager.addInternship(internship);
+        }
+        filterService = new FilterService();
+        // Lower case on purpose: user-typed criteria are matched ignoring case
+        filterService.setFilters("approved", "csc", "basic", null);
+    }
+
+    @Benchmark
+    public List<Internship> applyFilters() {
+        return filterService.applyFilters(listing);
+    }
+
+    @Benchmark
+    public List<Internship> findInternships() {
+        return internshipManager.findInternships(filterService.getCurrentFilter());
+    }
+}
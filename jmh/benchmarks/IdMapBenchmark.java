@@ -0,0 +1,157 @@
+package benchmarks;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import util.primitive.IntIntMap;
+import util.primitive.IntObjectMap;
+
+/**
+ * Lookup throughput of the primitive id maps against the boxed maps they replaced, keyed by sequential ids
+ * the way application and internship ids are issued. Each invocation looks up a fixed batch of random
+ * ids, about a tenth of them missing. Footprint per entry is printed at setup, once per fork.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class IdMapBenchmark {
+    private static final int LOOKUPS = 1024;
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private HashMap<Integer, Object> hashMap;
+    private ConcurrentHashMap<Integer, Object> concurrentMap;
+    private IntObjectMap<Object> intObjectMap;
+    private HashMap<Integer, Integer> boxedIntMap;
+    private IntIntMap intIntMap;
+    private int[] keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Object value = new Object();
+        System.out.println();
+        long before = usedHeap();
+        hashMap = new HashMap<>();
+        for (int id = 1; id <= size; id++) {
+            hashMap.put(id, value);
+        }
+        long afterHashMap = usedHeap();
+        concurrentMap = new ConcurrentHashMap<>();
+        for (int id = 1; id <= size; id++) {
+            concurrentMap.put(id, value);
+        }
+        long afterConcurrent = usedHeap();
+        intObjectMap = new IntObjectMap<>();
+        for (int id = 1; id <= size; id++) {
+            intObjectMap.put(id, value);
+        }
+        long afterIntObject = usedHeap();
+        boxedIntMap = new HashMap<>();
+        for (int id = 1; id <= size; id++) {
+            boxedIntMap.put(id, id * 3);
+        }
+        long afterBoxedInt = usedHeap();
+        intIntMap = new IntIntMap();
+        for (int id = 1; id <= size; id++) {
+            intIntMap.put(id, id * 3);
+        }
+        long afterIntInt = usedHeap();
+
+        System.out.printf("footprint at %,d entries, bytes/entry: HashMap %.1f, ConcurrentHashMap %.1f, IntObjectMap %.1f,"
+                + " HashMap<Integer,Integer> %.1f, IntIntMap %.1f%n", size,
+            perEntry(afterHashMap - before), perEntry(afterConcurrent - afterHashMap),
+            perEntry(afterIntObject - afterConcurrent), perEntry(afterBoxedInt - afterIntObject),
+            perEntry(afterIntInt - afterBoxedInt));
+
+        Random random = new Random(42);
+        keys = new int[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            keys[i] = 1 + random.nextInt(size + size / 10);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void hashMapGet(Blackhole blackhole) {
+        Map<Integer, Object> map = hashMap;
+        for (int key : keys) {
+            blackhole.consume(map.get(key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void concurrentHashMapGet(Blackhole blackhole) {
+        Map<Integer, Object> map = concurrentMap;
+        for (int key : keys) {
+            blackhole.consume(map.get(key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void intObjectMapGet(Blackhole blackhole) {
+        IntObjectMap<Object> map = intObjectMap;
+        for (int key : keys) {
+            blackhole.consume(map.get(key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void boxedIntMapGet(Blackhole blackhole) {
+        Map<Integer, Integer> map = boxedIntMap;
+        for (int key : keys) {
+            blackhole.consume(map.getOrDefault(key, -1).intValue());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void intIntMapGet(Blackhole blackhole) {
+        IntIntMap map = intIntMap;
+        for (int key : keys) {
+            blackhole.consume(map.getOrDefault(key, -1));
+        }
+    }
+
+    private double perEntry(long bytes) {
+        return (double) bytes / size;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        // Collect until the figure stops dropping so lingering garbage is not counted
+        for (int i = 0; i < 10; i++) {
+            System.gc();
+            long now = runtime.totalMemory() - runtime.freeMemory();
+            if (now >= used) {
+                break;
+            }
+            used = now;
+        }
+        return used;
+    }
+}
@@ -0,0 +1,69 @@
+package benchmarks;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.Internship;
+import model.Student;
+import service.InternshipManager;
+
+/**
+ * Student listings and staff reports over a populated InternshipManager.
+ * Reports cover one selective query (status, major and level) and one matching every approved posting.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class InternshipManagerBenchmark {
+    @Param({"1000", "100000"})
+    public int internships;
+
+    private InternshipManager internshipManager;
+    private Student junior;
+    private Student senior;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        internshipManager = new InternshipManager();
+        for (Internship internship : Dataset.internships(internships)) {
+            internshipManager.addInternship(internship);
+        }
+        junior = new Student("U0000001A", Dataset.PASSWORD, "Junior", 1, "CSC");
+        senior = new Student("U0000002A", Dataset.PASSWORD, "Senior", 4, "EEE");
+    }
+
+    @Benchmark
+    public List<Internship> internshipsForJuniorStudent() {
+        return internshipManager.getInternshipsForStudent(junior);
+    }
+
+    @Benchmark
+    public List<Internship> internshipsForSeniorStudent() {
+        return internshipManager.getInternshipsForStudent(senior);
+    }
+
+    @Benchmark
+    public List<Internship> selectiveReport() {
+        return internshipManager.generateReport("Approved", "CSC", "Basic");
+    }
+
+    @Benchmark
+    public List<Internship> fullReport() {
+        return internshipManager.generateReport("Approved", null, null);
+    }
+}
@@ -0,0 +1,55 @@
+package benchmarks;
+import java.util.List;
+
+import model.Application;
+import model.Internship;
+import model.Student;
+import ui.ConsoleUI;
+
+/**
+ * ConsoleUI that discards output, so loader benchmarks time loading rather than printing.
+ */
+final class QuietConsoleUI implements ConsoleUI {
+    @Override
+    public void displayMessage(String message) {
+    }
+
+    @Override
+    public void displayError(String message) {
+    }
+
+    @Override
+    public String getInput(String prompt) {
+        throw new UnsupportedOperationException("Benchmarks do not read input");
+    }
+
+    @Override
+    public int getIntInput(String prompt) {
+        throw new UnsupportedOperationException("Benchmarks do not read input");
+    }
+
+    @Override
+    public void displayMenu(String title, List<String> options) {
+    }
+
+    @Override
+    public void displayInternship(Internship internship, int index) {
+    }
+
+    @Override
+    public void displayApplication(Application app, int index, Student student) {
+    }
+
+    @Override
+    public void displayActiveFilters(String filterDisplay) {
+    }
+
+    @Override
+    public void displaySeparator() {
+    }
+
+    @Override
+    public boolean promptNextPage() {
+        return false;
+    }
+}
@@ -0,0 +1,67 @@
+package benchmarks;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.User;
+import service.UserManager;
+
+/**
+ * UserManager.login against a populated user table: a correct password, a wrong one and an unknown id.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class UserManagerBenchmark {
+    @Param({"10000", "1000000"})
+    public int students;
+
+    private UserManager userManager;
+    private String[] ids;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        userManager = new UserManager();
+        userManager.addUsers(Dataset.students(students));
+        // Spread logins over the table so they are not all served from one warm cache line
+        ids = new String[1024];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = Dataset.studentId((int) ((i * 2654435761L) % students));
+        }
+    }
+
+    @Benchmark
+    public User login() {
+        return userManager.login(nextId(), Dataset.PASSWORD);
+    }
+
+    @Benchmark
+    public User loginWrongPassword() {
+        return userManager.login(nextId(), "wrong-password");
+    }
+
+    @Benchmark
+    public User loginUnknownUser() {
+        return userManager.login("U9999999Z", Dataset.PASSWORD);
+    }
+
+    private String nextId() {
+        next = (next + 1) & (ids.length - 1);
+        return ids[next];
+    }
+}
@@ -0,0 +1,18 @@
+#!/bin/bash
+# Compile the sources and write a synthetic user dataset as CSV files.
+# Usage: scripts/generate_dataset.sh <outputDir> [students] [seed]
+set -euo pipefail
+
+PROJECT_ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+cd "$PROJECT_ROOT"
+
+OUT_DIR="out-tools"
+rm -rf "$OUT_DIR"
+mkdir -p "$OUT_DIR"
+
+echo "[build] Compiling sources..."
+find src -name "*.java" > .tools_sources
+javac -d "$OUT_DIR" @.tools_sources
+rm .tools_sources
+
+java -Xmx2g -cp "$OUT_DIR" tools.DatasetGenerator "$@"
@@ -0,0 +1,22 @@
+#!/bin/bash
+# Compile the sources and benchmarks, then run one benchmark class.
+# Usage: scripts/run_benchmark.sh <BenchmarkClass> [args...]
+set -euo pipefail
+
+PROJECT_ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+cd "$PROJECT_ROOT"
+
+OUT_DIR="out-bench"
+BENCHMARK="${1:?usage: $0 <BenchmarkClass> [args...]}"
+shift
+
+rm -rf "$OUT_DIR"
+mkdir -p "$OUT_DIR"
+
+echo "[build] Compiling sources and benchmarks..."
+find src bench -name "*.java" > .bench_sources
+javac -d "$OUT_DIR" @.bench_sources
+rm .bench_sources
+
+echo "[bench] Running $BENCHMARK..."
+java -Xmx2g -cp "$OUT_DIR" "$BENCHMARK" "$@"
@@ -0,0 +1,42 @@
+#!/bin/bash
+# Compile the sources and the JMH benchmarks under jmh/, then run JMH.
+# The JMH jars are fetched from Maven Central into lib/jmh on first use.
+# Usage: scripts/run_jmh.sh [JMH options...] [benchmark regexp]
+#        e.g. scripts/run_jmh.sh IdMapBenchmark -p size=1000000
+set -euo pipefail
+
+PROJECT_ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+cd "$PROJECT_ROOT"
+
+JMH_VERSION="1.37"
+LIB_DIR="lib/jmh"
+OUT_DIR="out-jmh"
+MAVEN="https://repo1.maven.org/maven2"
+JARS=(
+    "org/openjdk/jmh/jmh-core/$JMH_VERSION/jmh-core-$JMH_VERSION.jar"
+    "org/openjdk/jmh/jmh-generator-annprocess/$JMH_VERSION/jmh-generator-annprocess-$JMH_VERSION.jar"
+    "net/sf/jopt-simple/jopt-simple/5.0.4/jopt-simple-5.0.4.jar"
+    "org/apache/commons/commons-math3/3.6.1/commons-math3-3.6.1.jar"
+)
+
+mkdir -p "$LIB_DIR"
+for jar in "${JARS[@]}"; do
+    target="$LIB_DIR/$(basename "$jar")"
+    if [ ! -f "$target" ]; then
+        echo "[fetch] $(basename "$jar")"
+        curl -fsSL -o "$target.part" "$MAVEN/$jar"
+        mv "$target.part" "$target"
+    fi
+done
+CLASSPATH="$(printf "%s:" "$LIB_DIR"/*.jar)"
+
+rm -rf "$OUT_DIR"
+mkdir -p "$OUT_DIR"
+
+echo "[build] Compiling sources and JMH benchmarks..."
+find src jmh -name "*.java" > .jmh_sources
+javac -cp "$CLASSPATH" -processorpath "$CLASSPATH" -d "$OUT_DIR" @.jmh_sources
+rm .jmh_sources
+
+echo "[jmh] Running..."
+java -cp "$OUT_DIR:$CLASSPATH" org.openjdk.jmh.Main "$@"
@@ -1,11 +1,19 @@
+import java.io.IOException;
+import java.nio.file.Paths;
+
 import controller.ApplicationController;
+import persistence.DataStore;
 import service.ApplicationManager;
 import service.CSVLoaderService;
+import service.ClockService;
+import service.DeadlineScheduler;
 import service.IApplicationManager;
+import service.IClockService;
 import service.IInternshipManager;
 import service.IUserManager;
 import service.IValidationService;
 import service.InternshipManager;
+import service.StartupLoader;
 import service.UserManager;
 import service.ValidationService;
 import ui.CompanyRepMenuHandlerFactory;
@@ -29,14 +37,44 @@ public class Main {
         IValidationService validationService = new ValidationService();
         IUserManager userManager = new UserManager();
         IInternshipManager internshipManager = new InternshipManager();
-        IApplicationManager applicationManager = new ApplicationManager();
+        IClockService clock = new ClockService();
+        IApplicationManager applicationManager = new ApplicationManager(clock);
 
         // Initialize CSV loader service (uses interfaces)
         CSVLoaderService csvLoader = new CSVLoaderService(userManager, validationService, ui);
 
-        // Load initial data from CSV files
-        csvLoader.loadStudents(BusinessRules.STUDENT_CSV_PATH);
-        csvLoader.loadStaff(BusinessRules.STAFF_CSV_PATH);
+        // Load initial data from all CSV files at once
+        new StartupLoader(ui)
+            .addSource(BusinessRules.STUDENT_CSV_PATH, csvLoader::loadStudents)
+            .addSource(BusinessRules.STAFF_CSV_PATH, csvLoader::loadStaff)
+            .addSource(BusinessRules.COMPANY_REP_CSV_PATH, csvLoader::loadCompanyReps)
+            .loadAll();
+
+        // Restore saved state on top of the CSV data, then journal everything from here on
+        DataStore dataStore = null;
+        try {
+            dataStore = DataStore.open(Paths.get(BusinessRules.DATA_DIR), userManager,
+                internshipManager, applicationManager, BusinessRules.SNAPSHOT_INTERVAL_MINUTES);
+            ui.displayMessage("Restored " + dataStore.getRestoredCount() + " records from " + BusinessRules.DATA_DIR);
+        } catch (IOException e) {
+            ui.displayError("Persistence unavailable, changes will not be saved: " + e.getMessage());
+        }
+
+        // Close postings as their deadlines pass, starting with any that passed while the system was down
+        DeadlineScheduler deadlines = new DeadlineScheduler(internshipManager, applicationManager, clock,
+            BusinessRules.REJECT_PENDING_ON_CLOSE);
+        deadlines.start(BusinessRules.DEADLINE_CHECK_SECONDS);
+
+        // One hook so the scheduler stops before the journal it writes to is closed, and the
+        // applications' storage is freed only after the store has finished with it
+        DataStore store = dataStore;
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            deadlines.close();
+            if (store != null) {
+                store.close();
+            }
+            applicationManager.release();
+        }));
 
         // Initialize authentication controller (uses interfaces)
         AuthenticationController authController = new AuthenticationController(
@@ -52,6 +90,7 @@ public class Main {
         factoryRegistry.register(new StudentMenuHandlerFactory(
             internshipManager,
             applicationManager,
+            userManager,
             ui
         ));
 
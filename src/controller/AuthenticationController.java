@@ -3,6 +3,7 @@ import model.CompanyRep;
 import model.User;
 import service.IUserManager;
 import service.IValidationService;
+import service.UserLookup;
 import ui.ConsoleUI;
 import util.BusinessRules;
 
@@ -30,40 +31,26 @@ public class AuthenticationController {
             String id = ui.getInput("Enter User ID: ");
             String password = ui.getInput("Enter Password: ");
 
-            // Step 1: Attempt the standard login (returns User on success, null on ANY failure)
-            User user = userManager.login(id, password);
-
-            if (user == null) {
-                // Step 2: If login failed, determine the specific reason using helper functions.
-                // Check if the User ID exists in the approved list.
-                User approvedUser = userManager.getUserById(id);
-                boolean isPending = false;
-                
-                // Check pending list explicitly, as the user could be unapproved.
-                for (CompanyRep rep : userManager.getPendingCompanyReps()) {
-                    if (rep.getUserId().equals(id)) {
-                        isPending = true;
-                        break;
-                    }
-                }
-
-                if (approvedUser != null || isPending) {
-                    // SCENARIO: User ID was found (approved or pending), but login failed. 
-                    // This definitively means the password was wrong.
-                    ui.displayError("Invalid credentials: Incorrect Password!");
-                } else {
-                    // SCENARIO: User ID was not found anywhere in the system.
-                    ui.displayError("Invalid credentials: User ID not found!");
-                }
+            // Step 1: Resolve the ID once across approved and pending accounts
+            UserLookup lookup = userManager.findUser(id);
+
+            if (!lookup.isFound()) {
+                // SCENARIO: User ID was not found anywhere in the system.
+                ui.displayError("Invalid credentials: User ID not found!");
+                return null;
+            }
+
+            // Step 2: User ID was found (approved or pending), so a mismatch means the password was wrong.
+            User user = lookup.getUser();
+            if (!user.getPassword().equals(password)) {
+                ui.displayError("Invalid credentials: Incorrect Password!");
                 return null;
             }
             
             // Step 3: Successful Login Logic (Includes the Company Rep approval check)
-            if (user instanceof CompanyRep rep) { // Using pattern matching for cleaner code
-                if (!rep.isApproved()) {
-                    ui.displayMessage("Your registration is awaiting staff approval.");
-                    return null;
-                }
+            if (lookup.isPendingApproval()) {
+                ui.displayMessage("Your registration is awaiting staff approval.");
+                return null;
             }
 
             ui.displayMessage("Login successful! Welcome, " + user.getName());
@@ -3,8 +3,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 import model.Application;
+import model.ApplicationStatus;
 import model.CompanyRep;
 import model.Internship;
+import model.InternshipStatus;
 import model.Student;
 import service.IApplicationManager;
 import service.IFilterService;
@@ -216,7 +218,7 @@ public class CompanyRepController {
 
             List<Application> pending = new ArrayList<>();
             for (Application app : applications) {
-                if (app.getStatus().equals("Pending")) {
+                if (app.getStatusCode() == ApplicationStatus.PENDING) {
                     pending.add(app);
                 }
             }
@@ -243,11 +245,17 @@ public class CompanyRepController {
                 String decision = ui.getInput("Approve or Reject? (A/R): ").toUpperCase();
 
                 if (decision.equals("A")) {
-                    applicationManager.updateApplicationStatus(pending.get(appChoice), "Successful");
-                    ui.displayMessage("Application approved! Student can now accept placement.");
+                    if (applicationManager.updateApplicationStatus(pending.get(appChoice), "Successful")) {
+                        ui.displayMessage("Application approved! Student can now accept placement.");
+                    } else {
+                        ui.displayError("This application is no longer pending.");
+                    }
                 } else if (decision.equals("R")) {
-                    applicationManager.updateApplicationStatus(pending.get(appChoice), "Unsuccessful");
-                    ui.displayMessage("Application rejected!");
+                    if (applicationManager.updateApplicationStatus(pending.get(appChoice), "Unsuccessful")) {
+                        ui.displayMessage("Application rejected!");
+                    } else {
+                        ui.displayError("This application is no longer pending.");
+                    }
                 }
             }
         }
@@ -351,7 +359,8 @@ public class CompanyRepController {
     }
 
     private boolean canModify(Internship internship) {
-        return internship.getStatus().equals("Pending") || internship.getStatus().equals("Rejected");
+        InternshipStatus status = internship.getStatusCode();
+        return status == InternshipStatus.PENDING || status == InternshipStatus.REJECTED;
     }
 
     private void updateInternshipDetails(Internship internship) {
@@ -427,7 +436,7 @@ public class CompanyRepController {
      */
     public void setFilters() {
         ui.displayMessage("\n=== Set Filters ===");
-        String status = ui.getInput("Filter by Status (Pending/Approved/Rejected/Filled) or press Enter to skip: ");
+        String status = ui.getInput("Filter by Status (Pending/Approved/Rejected/Filled/Closed) or press Enter to skip: ");
         String major = ui.getInput("Filter by Major (CSC/EEE/MAE) or press Enter to skip: ");
         String level = ui.getInput("Filter by Level (Basic/Intermediate/Advanced) or press Enter to skip: ");
         String date = ui.getInput("Filter by Closing Date (YYYY-MM-DD) or press Enter to skip: ");
@@ -464,7 +473,7 @@ public class CompanyRepController {
             return false;
         }
 
-        rep.setPassword(newPassword);
+        userManager.changePassword(rep, newPassword);
         ui.displayMessage("Password changed successfully!");
         return true;
     }
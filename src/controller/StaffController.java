@@ -5,13 +5,16 @@ import model.Application;
 import model.CompanyRep;
 import model.Filter;
 import model.Internship;
+import model.InternshipStatus;
 import model.Staff;
 import model.Student;
 import service.IApplicationManager;
 import service.IFilterService;
 import service.IInternshipManager;
 import service.IUserManager;
+import service.Page;
 import ui.ConsoleUI;
+import util.BusinessRules;
 
 /**
  * Coordinates staff capabilities such as approvals, reporting, and filters.
@@ -98,11 +101,11 @@ public class StaffController {
 
             Internship internship = pending.get(choice);
             if (decision.equals("A")) {
-                internship.setStatus("Approved");
+                internship.setStatusCode(InternshipStatus.APPROVED);
                 internship.setVisible(true);
                 ui.displayMessage("Internship approved!");
             } else if (decision.equals("R")) {
-                internship.setStatus("Rejected");
+                internship.setStatusCode(InternshipStatus.REJECTED);
                 ui.displayMessage("Internship rejected!");
             }
         }
@@ -139,11 +142,17 @@ public class StaffController {
 
             Application app = withdrawals.get(choice);
             if (decision.equals("A")) {
-                applicationManager.approveWithdrawal(app);
-                ui.displayMessage("Withdrawal approved!");
+                if (applicationManager.approveWithdrawal(app)) {
+                    ui.displayMessage("Withdrawal approved!");
+                } else {
+                    ui.displayError("This withdrawal request has already been decided.");
+                }
             } else if (decision.equals("R")) {
-                app.setWithdrawalStatus("Rejected");
-                ui.displayMessage("Withdrawal rejected! Student can still accept placement.");
+                if (applicationManager.rejectWithdrawal(app)) {
+                    ui.displayMessage("Withdrawal rejected! Student can still accept placement.");
+                } else {
+                    ui.displayError("This withdrawal request has already been decided.");
+                }
             }
         }
     }
@@ -155,33 +164,33 @@ public class StaffController {
         ui.displayMessage("\n=== Generate Report (Using Current Filters) ===");
 
         Filter currentFilter = filterService.getCurrentFilter();
-        List<Internship> filtered = internshipManager.generateReport(
-            currentFilter.getStatus(),
-            currentFilter.getMajor(),
-            currentFilter.getLevel()
-        );
+        String status = currentFilter.getStatus();
+        String major = currentFilter.getMajor();
+        String level = currentFilter.getLevel();
 
         ui.displayMessage("\n=== Report ===");
         ui.displayActiveFilters(filterService.getActiveFiltersDisplay());
-        ui.displayMessage("Total Internships: " + filtered.size());
+        // The total comes from the indexes, so rows are written out as they are read instead of collected first
+        ui.displayMessage("Total Internships: " + internshipManager.countReport(status, major, level));
 
-        for (Internship internship : filtered) {
+        internshipManager.streamReport(status, major, level).forEachOrdered(internship -> {
             ui.displayMessage("\n- " + internship.getTitle());
             ui.displayMessage("  Company: " + internship.getCompanyName());
             ui.displayMessage("  Status: " + internship.getStatus());
             ui.displayMessage("  Level: " + internship.getLevel());
             ui.displayMessage("  Major: " + internship.getPreferredMajor());
-        }
+        });
     }
 
     /**
      * View all internships in the system.
      */
     public void viewAllInternships() {
-        List<Internship> all = internshipManager.getAllInternships();
-        all = filterService.applyFilters(all);
+        // Fetch one page at a time so a large system only costs what is actually shown
+        Filter filter = filterService.getCurrentFilter();
+        Page<Internship> page = internshipManager.findInternships(filter, null, BusinessRules.PAGE_SIZE);
 
-        if (all.isEmpty()) {
+        if (page.getItems().isEmpty()) {
             ui.displayMessage("No internships in system.");
             return;
         }
@@ -189,11 +198,17 @@ public class StaffController {
         ui.displayMessage("\n=== All Internships ===");
         ui.displayActiveFilters(filterService.getActiveFiltersDisplay());
 
-        for (Internship internship : all) {
-            ui.displayMessage("- " + internship.getTitle());
-            ui.displayMessage("  Company: " + internship.getCompanyName());
-            ui.displayMessage("  Status: " + internship.getStatus());
-            ui.displayMessage("  Slots: " + internship.getAvailableSlots() + "/" + internship.getTotalSlots());
+        while (true) {
+            for (Internship internship : page.getItems()) {
+                ui.displayMessage("- " + internship.getTitle());
+                ui.displayMessage("  Company: " + internship.getCompanyName());
+                ui.displayMessage("  Status: " + internship.getStatus());
+                ui.displayMessage("  Slots: " + internship.getAvailableSlots() + "/" + internship.getTotalSlots());
+            }
+            if (!page.hasNext() || !ui.promptNextPage()) {
+                break;
+            }
+            page = internshipManager.findInternships(filter, page.getNextCursor(), BusinessRules.PAGE_SIZE);
         }
     }
 
@@ -202,7 +217,7 @@ public class StaffController {
      */
     public void setFilters() {
         ui.displayMessage("\n=== Set Filters ===");
-        String status = ui.getInput("Filter by Status (Pending/Approved/Rejected/Filled) or press Enter to skip: ");
+        String status = ui.getInput("Filter by Status (Pending/Approved/Rejected/Filled/Closed) or press Enter to skip: ");
         String major = ui.getInput("Filter by Major (CSC/EEE/MAE) or press Enter to skip: ");
         String level = ui.getInput("Filter by Level (Basic/Intermediate/Advanced) or press Enter to skip: ");
         String date = ui.getInput("Filter by Closing Date (YYYY-MM-DD) or press Enter to skip: ");
@@ -239,7 +254,7 @@ public class StaffController {
             return false;
         }
 
-        staff.setPassword(newPassword);
+        userManager.changePassword(staff, newPassword);
         ui.displayMessage("Password changed successfully!");
         return true;
     }
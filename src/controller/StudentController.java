@@ -7,6 +7,7 @@ import model.Student;
 import service.IApplicationManager;
 import service.IFilterService;
 import service.IInternshipManager;
+import service.IUserManager;
 import ui.ConsoleUI;
 import util.BusinessRules;
 
@@ -17,17 +18,20 @@ public class StudentController {
     private Student student;
     private IInternshipManager internshipManager;
     private IApplicationManager applicationManager;
+    private IUserManager userManager;
     private IFilterService filterService;
     private ConsoleUI ui;
 
     public StudentController(Student student,
                             IInternshipManager internshipManager,
                             IApplicationManager applicationManager,
+                            IUserManager userManager,
                             IFilterService filterService,
                             ConsoleUI ui) {
         this.student = student;
         this.internshipManager = internshipManager;
         this.applicationManager = applicationManager;
+        this.userManager = userManager;
         this.filterService = filterService;
         this.ui = ui;
     }
@@ -129,9 +133,11 @@ public class StudentController {
 
         if (choice >= 0 && choice < successful.size()) {
             Application app = successful.get(choice);
-            applicationManager.acceptPlacement(student.getUserId(), app);
-            app.getInternship().decreaseAvailableSlots();
-            ui.displayMessage("Placement accepted! Other applications withdrawn.");
+            if (applicationManager.acceptPlacement(student.getUserId(), app)) {
+                ui.displayMessage("Placement accepted! Other applications withdrawn.");
+            } else {
+                ui.displayError("This offer can no longer be accepted. The internship may already be filled.");
+            }
         } else {
             ui.displayError("Invalid choice!");
         }
@@ -180,7 +186,7 @@ public class StudentController {
      */
     public void setFilters() {
         ui.displayMessage("\n=== Set Filters ===");
-        String status = ui.getInput("Filter by Status (Pending/Approved/Rejected/Filled) or press Enter to skip: ");
+        String status = ui.getInput("Filter by Status (Pending/Approved/Rejected/Filled/Closed) or press Enter to skip: ");
         String major = ui.getInput("Filter by Major (CSC/EEE/MAE) or press Enter to skip: ");
         String level = ui.getInput("Filter by Level (Basic/Intermediate/Advanced) or press Enter to skip: ");
         String date = ui.getInput("Filter by Closing Date (YYYY-MM-DD) or press Enter to skip: ");
@@ -217,7 +223,7 @@ public class StudentController {
             return false;
         }
 
-        student.setPassword(newPassword);
+        userManager.changePassword(student, newPassword);
         ui.displayMessage("Password changed successfully!");
         return true;
     }
@@ -1,23 +1,54 @@
 package model;
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class Application {
-    private static int idCounter = 1;
+    private static final AtomicInteger idCounter = new AtomicInteger(1);
+
+    // Layout of the packed state byte: status in bits 0-1, withdrawal status in bits 2-3, placement flag in bit 4
+    private static final int STATUS_MASK = 0x03;
+    private static final int WITHDRAWAL_SHIFT = 2;
+    private static final int WITHDRAWAL_MASK = 0x0C;
+    private static final int PLACEMENT_ACCEPTED = 0x10;
 
-    private int id;
-    private String studentId;
-    private Internship internship;
-    private String status;
-    private String withdrawalReason;
-    private String withdrawalStatus;
-    private boolean placementAccepted;
+    private final int id;
+    private final String studentId;
+    private final Internship internship;
+    private volatile String withdrawalReason;
+    // Status, withdrawal status and placement flag in one byte; writes are serialised on this instance
+    private volatile byte state;
 
     public Application(String studentId, Internship internship) {
-        this.id = idCounter++;
+        this(idCounter.getAndIncrement(), studentId, internship);
+    }
+
+    /**
+     * For views whose state is stored elsewhere; such subclasses override every accessor except getId.
+     * The id must already have been issued, so the id counter is left alone and views stay cheap to create.
+     */
+    protected Application(int id) {
+        this.id = id;
+        this.studentId = null;
+        this.internship = null;
+    }
+
+    /**
+     * Recreate an application under a previously issued id, e.g. when restoring persisted state.
+     */
+    public Application(int id, String studentId, Internship internship) {
+        this.id = id;
+        idCounter.accumulateAndGet(id + 1, Math::max);
         this.studentId = studentId;
         this.internship = internship;
-        this.status = "Pending";
         this.withdrawalReason = null;
-        this.withdrawalStatus = null;
-        this.placementAccepted = false;
+        this.state = (byte) (ApplicationStatus.PENDING.ordinal()
+            | WithdrawalStatus.NONE.ordinal() << WITHDRAWAL_SHIFT);
+    }
+
+    /**
+     * Issue a fresh application id without creating an application, for stores that keep no objects.
+     */
+    public static int nextId() {
+        return idCounter.getAndIncrement();
     }
 
     public int getId() {
@@ -33,11 +64,25 @@ public class Application {
     }
 
     public String getStatus() {
-        return status;
+        return getStatusCode().getLabel();
     }
 
+    /**
+     * @throws IllegalArgumentException if the label names no status
+     */
     public void setStatus(String status) {
-        this.status = status;
+        setStatusCode(ApplicationStatus.fromLabel(status));
+    }
+
+    public ApplicationStatus getStatusCode() {
+        return ApplicationStatus.fromOrdinal(state & STATUS_MASK);
+    }
+
+    /**
+     * Set the status without checking the lifecycle; the application manager enforces the allowed moves.
+     */
+    public synchronized void setStatusCode(ApplicationStatus status) {
+        state = (byte) (state & ~STATUS_MASK | status.ordinal());
     }
 
     public String getWithdrawalReason() {
@@ -48,19 +93,33 @@ public class Application {
         this.withdrawalReason = withdrawalReason;
     }
 
+    /**
+     * @return the withdrawal status label, or null if no withdrawal was requested
+     */
     public String getWithdrawalStatus() {
-        return withdrawalStatus;
+        return getWithdrawalCode().getLabel();
     }
 
+    /**
+     * @throws IllegalArgumentException if the label names no status
+     */
     public void setWithdrawalStatus(String withdrawalStatus) {
-        this.withdrawalStatus = withdrawalStatus;
+        setWithdrawalCode(WithdrawalStatus.fromLabel(withdrawalStatus));
+    }
+
+    public WithdrawalStatus getWithdrawalCode() {
+        return WithdrawalStatus.fromOrdinal((state & WITHDRAWAL_MASK) >>> WITHDRAWAL_SHIFT);
+    }
+
+    public synchronized void setWithdrawalCode(WithdrawalStatus withdrawalStatus) {
+        state = (byte) (state & ~WITHDRAWAL_MASK | withdrawalStatus.ordinal() << WITHDRAWAL_SHIFT);
     }
 
     public boolean isPlacementAccepted() {
-        return placementAccepted;
+        return (state & PLACEMENT_ACCEPTED) != 0;
     }
 
-    public void setPlacementAccepted(boolean placementAccepted) {
-        this.placementAccepted = placementAccepted;
+    public synchronized void setPlacementAccepted(boolean placementAccepted) {
+        state = (byte) (placementAccepted ? state | PLACEMENT_ACCEPTED : state & ~PLACEMENT_ACCEPTED);
     }
 }
\ No newline at end of file
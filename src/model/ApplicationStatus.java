@@ -0,0 +1,69 @@
+package model;
+/**
+ * Lifecycle of an application, with the moves a company or student decision may make.
+ * Pending applications are decided Successful or Unsuccessful; either live state may be Withdrawn,
+ * and Unsuccessful and Withdrawn are final.
+ */
+public enum ApplicationStatus {
+    PENDING("Pending"),
+    SUCCESSFUL("Successful"),
+    UNSUCCESSFUL("Unsuccessful"),
+    WITHDRAWN("Withdrawn");
+
+    private static final ApplicationStatus[] VALUES = values();
+
+    static {
+        PENDING.allowed = mask(SUCCESSFUL, UNSUCCESSFUL, WITHDRAWN);
+        SUCCESSFUL.allowed = mask(WITHDRAWN);
+    }
+
+    private final String label;
+    // Bit i set when moving to the constant with ordinal i is allowed
+    private int allowed;
+
+    ApplicationStatus(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public boolean canMoveTo(ApplicationStatus next) {
+        return (allowed & (1 << next.ordinal())) != 0;
+    }
+
+    /**
+     * Whether the application is still in play, i.e. may yet be accepted or withdrawn.
+     */
+    public boolean isActive() {
+        return this == PENDING || this == SUCCESSFUL;
+    }
+
+    /**
+     * Decode a status stored as its ordinal, without copying the values array.
+     */
+    public static ApplicationStatus fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * @throws IllegalArgumentException if the label names no status
+     */
+    public static ApplicationStatus fromLabel(String label) {
+        for (ApplicationStatus status : VALUES) {
+            if (status.label.equals(label)) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown application status: " + label);
+    }
+
+    private static int mask(ApplicationStatus... targets) {
+        int mask = 0;
+        for (ApplicationStatus target : targets) {
+            mask |= 1 << target.ordinal();
+        }
+        return mask;
+    }
+}
@@ -1,9 +1,13 @@
 package model;
+/**
+ * Company details are typed in by each rep at registration, so they stay ordinary Strings rather than
+ * SymbolTable entries, which are never freed.
+ */
 public class CompanyRep extends User {
     private String companyName;
     private String department;
     private String position;
-    private boolean approved;
+    private volatile boolean approved;
 
     public CompanyRep(String userId, String password, String name,
                       String companyName, String department, String position) {
@@ -1,7 +1,4 @@
 package model;
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Encapsulates filter criteria for internships.
  */
@@ -10,6 +7,7 @@ public class Filter {
     private String major;
     private String level;
     private String closingDate;
+    private int version;
 
     public Filter() {
         this.status = null;
@@ -21,18 +19,22 @@ public class Filter {
     // Setters
     public void setStatus(String status) {
         this.status = (status == null || status.trim().isEmpty()) ? null : status.trim();
+        version++;
     }
 
     public void setMajor(String major) {
         this.major = (major == null || major.trim().isEmpty()) ? null : major.trim();
+        version++;
     }
 
     public void setLevel(String level) {
         this.level = (level == null || level.trim().isEmpty()) ? null : level.trim();
+        version++;
     }
 
     public void setClosingDate(String closingDate) {
         this.closingDate = (closingDate == null || closingDate.trim().isEmpty()) ? null : closingDate.trim();
+        version++;
     }
 
     // Getters
@@ -60,43 +62,21 @@ public class Filter {
         this.major = null;
         this.level = null;
         this.closingDate = null;
+        version++;
     }
 
     /**
-     * Check if any filters are active
+     * Changes every time a criterion is set or cleared, so compiled forms of this filter can tell they are stale.
      */
-    public boolean hasActiveFilters() {
-        return status != null || major != null || level != null || closingDate != null;
+    public int getVersion() {
+        return version;
     }
 
     /**
-     * Apply filters to a list of internships.
+     * Check if any filters are active
      */
-    public List<Internship> apply(List<Internship> internships) {
-        List<Internship> filtered = new ArrayList<>();
-
-        for (Internship internship : internships) {
-            boolean matches = true;
-
-            if (status != null && !internship.getStatus().equalsIgnoreCase(status)) {
-                matches = false;
-            }
-            if (major != null && !internship.getPreferredMajor().equalsIgnoreCase(major)) {
-                matches = false;
-            }
-            if (level != null && !internship.getLevel().equalsIgnoreCase(level)) {
-                matches = false;
-            }
-            if (closingDate != null && !internship.getClosingDate().equals(closingDate)) {
-                matches = false;
-            }
-
-            if (matches) {
-                filtered.add(internship);
-            }
-        }
-
-        return filtered;
+    public boolean hasActiveFilters() {
+        return status != null || major != null || level != null || closingDate != null;
     }
 
     /**
@@ -1,40 +1,80 @@
 package model;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import util.EpochDays;
+import util.SymbolTable;
 
 public class Internship {
-    private static int idCounter = 1;
-
-    private int id;
-    private String title;
-    private String description;
-    private String level;
-    private String preferredMajor;
-    private String openingDate;
-    private String closingDate;
-    private String status;
-    private String companyName;
-    private String repId;
-    private int totalSlots;
-    private int availableSlots;
-    private boolean visible;
+    /**
+     * Attributes that are reported to registered {@link InternshipListener}s.
+     */
+    public enum Field {
+        TITLE,
+        DESCRIPTION,
+        LEVEL,
+        PREFERRED_MAJOR,
+        OPENING_DATE,
+        CLOSING_DATE,
+        STATUS,
+        TOTAL_SLOTS,
+        VISIBLE
+    }
+
+    private static final AtomicInteger idCounter = new AtomicInteger(1);
+
+    // Mutable state is volatile for lock-free reads; changes are serialised on this instance
+    private final int id;
+    private volatile String title;
+    private volatile String description;
+    // Level, major and dates come from small fixed sets, so they hold SymbolTable instances; the company name
+    // is whatever the rep typed in and stays an ordinary String
+    private volatile String level;
+    private volatile String preferredMajor;
+    private volatile String openingDate;
+    private volatile String closingDate;
+    // Dates parsed once on every write; EpochDays.INVALID when the text is not a date
+    private volatile int openingDay;
+    private volatile int closingDay;
+    private volatile InternshipStatus status;
+    private final String companyName;
+    private final String repId;
+    private volatile int totalSlots;
+    private final AtomicInteger availableSlots;
+    private volatile boolean visible;
+    private final CopyOnWriteArrayList<InternshipListener> listeners;
 
     public Internship(String title, String description, String level,
                       String preferredMajor, String openingDate, String closingDate,
                       String companyName, String repId, int totalSlots) {
-        this.id = idCounter++;
+        this(idCounter.getAndIncrement(), title, description, level, preferredMajor,
+             openingDate, closingDate, companyName, repId, totalSlots);
+    }
+
+    /**
+     * Recreate an internship under a previously issued id, e.g. when restoring persisted state.
+     */
+    public Internship(int id, String title, String description, String level,
+                      String preferredMajor, String openingDate, String closingDate,
+                      String companyName, String repId, int totalSlots) {
+        this.id = id;
+        idCounter.accumulateAndGet(id + 1, Math::max);
         this.title = title;
         this.description = description;
-        this.level = level;
-        this.preferredMajor = preferredMajor;
-        this.openingDate = openingDate;
-        this.closingDate = closingDate;
-        this.status = "Pending";
+        this.level = SymbolTable.intern(level);
+        this.preferredMajor = SymbolTable.intern(preferredMajor);
+        this.openingDate = SymbolTable.intern(openingDate);
+        this.closingDate = SymbolTable.intern(closingDate);
+        this.openingDay = EpochDays.parse(openingDate);
+        this.closingDay = EpochDays.parse(closingDate);
+        this.status = InternshipStatus.PENDING;
         this.companyName = companyName;
         this.repId = repId;
         this.totalSlots = totalSlots;
-        this.availableSlots = totalSlots;
+        this.availableSlots = new AtomicInteger(totalSlots);
         this.visible = false;
+        this.listeners = new CopyOnWriteArrayList<>();
     }
 
     public int getId() {
@@ -45,56 +85,114 @@ public class Internship {
         return title;
     }
 
-    public void setTitle(String title) {
+    public synchronized void setTitle(String title) {
+        String oldTitle = this.title;
         this.title = title;
+        if (!Objects.equals(oldTitle, title)) {
+            notifyListeners(Field.TITLE, oldTitle);
+        }
     }
 
     public String getDescription() {
         return description;
     }
 
-    public void setDescription(String description) {
+    public synchronized void setDescription(String description) {
+        String oldDescription = this.description;
         this.description = description;
+        if (!Objects.equals(oldDescription, description)) {
+            notifyListeners(Field.DESCRIPTION, oldDescription);
+        }
     }
 
     public String getLevel() {
         return level;
     }
 
-    public void setLevel(String level) {
-        this.level = level;
+    public synchronized void setLevel(String level) {
+        String oldLevel = this.level;
+        this.level = SymbolTable.intern(level);
+        if (!Objects.equals(oldLevel, level)) {
+            notifyListeners(Field.LEVEL, oldLevel);
+        }
     }
 
     public String getPreferredMajor() {
         return preferredMajor;
     }
 
-    public void setPreferredMajor(String preferredMajor) {
-        this.preferredMajor = preferredMajor;
+    public synchronized void setPreferredMajor(String preferredMajor) {
+        String oldPreferredMajor = this.preferredMajor;
+        this.preferredMajor = SymbolTable.intern(preferredMajor);
+        if (!Objects.equals(oldPreferredMajor, preferredMajor)) {
+            notifyListeners(Field.PREFERRED_MAJOR, oldPreferredMajor);
+        }
     }
 
     public String getOpeningDate() {
         return openingDate;
     }
 
-    public void setOpeningDate(String openingDate) {
-        this.openingDate = openingDate;
+    /**
+     * Opening date as days since 1970-01-01, or {@link EpochDays#INVALID} if it is not a valid date.
+     */
+    public int getOpeningDay() {
+        return openingDay;
+    }
+
+    public synchronized void setOpeningDate(String openingDate) {
+        String oldOpeningDate = this.openingDate;
+        this.openingDate = SymbolTable.intern(openingDate);
+        this.openingDay = EpochDays.parse(openingDate);
+        if (!Objects.equals(oldOpeningDate, openingDate)) {
+            notifyListeners(Field.OPENING_DATE, oldOpeningDate);
+        }
     }
 
     public String getClosingDate() {
         return closingDate;
     }
 
-    public void setClosingDate(String closingDate) {
-        this.closingDate = closingDate;
+    /**
+     * Closing date as days since 1970-01-01, or {@link EpochDays#INVALID} if it is not a valid date.
+     */
+    public int getClosingDay() {
+        return closingDay;
+    }
+
+    public synchronized void setClosingDate(String closingDate) {
+        String oldClosingDate = this.closingDate;
+        this.closingDate = SymbolTable.intern(closingDate);
+        this.closingDay = EpochDays.parse(closingDate);
+        if (!Objects.equals(oldClosingDate, closingDate)) {
+            notifyListeners(Field.CLOSING_DATE, oldClosingDate);
+        }
     }
 
     public String getStatus() {
-        return status;
+        return status.getLabel();
     }
 
+    /**
+     * @throws IllegalArgumentException if the label names no status
+     */
     public void setStatus(String status) {
+        setStatusCode(InternshipStatus.fromLabel(status));
+    }
+
+    public InternshipStatus getStatusCode() {
+        return status;
+    }
+
+    /**
+     * Listeners receive the previous status as its label, matching the attribute indexes.
+     */
+    public synchronized void setStatusCode(InternshipStatus status) {
+        InternshipStatus oldStatus = this.status;
         this.status = status;
+        if (oldStatus != status) {
+            notifyListeners(Field.STATUS, oldStatus.getLabel());
+        }
     }
 
     public String getCompanyName() {
@@ -109,61 +207,121 @@ public class Internship {
         return totalSlots;
     }
 
-    public void setTotalSlots(int totalSlots) {
+    public synchronized void setTotalSlots(int totalSlots) {
+        int oldTotalSlots = this.totalSlots;
         this.totalSlots = totalSlots;
-        this.availableSlots = totalSlots;
+        this.availableSlots.set(totalSlots);
+        if (oldTotalSlots != totalSlots) {
+            notifyListeners(Field.TOTAL_SLOTS, oldTotalSlots);
+        }
     }
 
     public int getAvailableSlots() {
-        return availableSlots;
+        return availableSlots.get();
     }
 
-    public void decreaseAvailableSlots() {
-        if (availableSlots > 0) {
-            availableSlots--;
-            if (availableSlots == 0) {
-                status = "Filled";
+    /**
+     * Atomically claim one slot without locking; the posting flips to Filled when the last slot goes.
+     * @return true if a slot was claimed, false if none were left
+     */
+    public boolean tryReserveSlot() {
+        while (true) {
+            int current = availableSlots.get();
+            if (current <= 0) {
+                return false;
+            }
+            if (availableSlots.compareAndSet(current, current - 1)) {
+                if (current == 1) {
+                    syncFilledStatus();
+                }
+                return true;
             }
         }
     }
 
-    public void increaseAvailableSlots() {
-        if (availableSlots < totalSlots) {
-            availableSlots++;
-            if (status.equals("Filled")) {
-                status = "Approved";
+    /**
+     * Atomically return a previously claimed slot, reopening a Filled posting.
+     * @return true if a slot was returned, false if all slots were already free
+     */
+    public boolean releaseSlot() {
+        while (true) {
+            int current = availableSlots.get();
+            if (current >= totalSlots) {
+                return false;
+            }
+            if (availableSlots.compareAndSet(current, current + 1)) {
+                if (current == 0) {
+                    syncFilledStatus();
+                }
+                return true;
             }
         }
     }
 
+    /**
+     * Overwrite the free slot count when restoring persisted state; slot claims are not journaled
+     * because they are derived from accepted placements.
+     */
+    public synchronized void restoreAvailableSlots(int available) {
+        availableSlots.set(available);
+    }
+
+    public void decreaseAvailableSlots() {
+        tryReserveSlot();
+    }
+
+    public void increaseAvailableSlots() {
+        releaseSlot();
+    }
+
+    // Only runs on the empty/non-empty boundary; re-reads the counter so racing claims and releases settle correctly
+    private synchronized void syncFilledStatus() {
+        int current = availableSlots.get();
+        // A closed posting stays closed; only the deadline scheduler moves postings out of Approved by date
+        if (current == 0 && status != InternshipStatus.FILLED && status != InternshipStatus.CLOSED) {
+            setStatusCode(InternshipStatus.FILLED);
+        } else if (current > 0 && status == InternshipStatus.FILLED) {
+            setStatusCode(InternshipStatus.APPROVED);
+        }
+    }
+
     public boolean isVisible() {
         return visible;
     }
 
-    public void setVisible(boolean visible) {
+    public synchronized void setVisible(boolean visible) {
+        boolean oldVisible = this.visible;
         this.visible = visible;
+        if (oldVisible != visible) {
+            notifyListeners(Field.VISIBLE, oldVisible);
+        }
     }
 
-    public void toggleVisibility() {
-        this.visible = !this.visible;
+    public synchronized void toggleVisibility() {
+        setVisible(!this.visible);
     }
 
-    public boolean isOpenForApplications() {
-        // Check if status is approved, has available slots, and closing date hasn't passed
-        if (!status.equals("Approved") || availableSlots <= 0) {
-            return false;
-        }
+    public void addListener(InternshipListener listener) {
+        listeners.addIfAbsent(listener);
+    }
 
-        // Check if closing date has passed
-        try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-            LocalDate closeDate = LocalDate.parse(closingDate, formatter);
-            LocalDate today = LocalDate.now();
+    public void removeListener(InternshipListener listener) {
+        listeners.remove(listener);
+    }
 
-            // Applications not allowed if today is after closing date
-            return !today.isAfter(closeDate);
-        } catch (Exception e) {
-            return false;
+    private void notifyListeners(Field field, Object oldValue) {
+        for (InternshipListener listener : listeners) {
+            listener.onInternshipChanged(this, field, oldValue);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Whether students may apply on the given day.
+     * @param today days since 1970-01-01, usually from the clock service
+     */
+    public boolean isOpenForApplications(int today) {
+        // Approved, with a free slot, and the closing date not yet passed; an unparseable date stays closed
+        return status == InternshipStatus.APPROVED && availableSlots.get() > 0
+            && closingDay != EpochDays.INVALID && today <= closingDay;
+    }
+}
@@ -0,0 +1,15 @@
+package model;
+/**
+ * Observer notified after an attribute of an internship changes.
+ * Lets managers keep their lookup indexes and journal consistent when controllers mutate the model directly.
+ * Notifications are delivered while the internship's monitor is held, so they arrive in change order.
+ */
+public interface InternshipListener {
+    /**
+     * Called after the given field has changed.
+     * @param internship the internship that changed
+     * @param field the attribute that changed
+     * @param oldValue the value held before the change
+     */
+    void onInternshipChanged(Internship internship, Internship.Field field, Object oldValue);
+}
@@ -0,0 +1,33 @@
+package model;
+/**
+ * Status of an internship posting.
+ */
+public enum InternshipStatus {
+    PENDING("Pending"),
+    APPROVED("Approved"),
+    REJECTED("Rejected"),
+    FILLED("Filled"),
+    CLOSED("Closed");
+
+    private final String label;
+
+    InternshipStatus(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the label names no status
+     */
+    public static InternshipStatus fromLabel(String label) {
+        for (InternshipStatus status : values()) {
+            if (status.label.equals(label)) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown internship status: " + label);
+    }
+}
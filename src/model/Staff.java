@@ -1,11 +1,13 @@
 package model;
+import util.SymbolTable;
+
 public class Staff extends User {
     private String department;
     private String email;
 
     public Staff(String userId, String password, String name, String department) {
         super(userId, password, name);
-        this.department = department;
+        this.department = SymbolTable.intern(department);
         this.email = "";
     }
 
@@ -14,7 +16,7 @@ public class Staff extends User {
     }
 
     public void setDepartment(String department) {
-        this.department = department;
+        this.department = SymbolTable.intern(department);
     }
 
     public String getEmail() {
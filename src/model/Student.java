@@ -1,4 +1,6 @@
 package model;
+import util.SymbolTable;
+
 public class Student extends User {
     private int year;
     private String major;
@@ -6,7 +8,7 @@ public class Student extends User {
     public Student(String userId, String password, String name, int year, String major) {
         super(userId, password, name);
         this.year = year;
-        this.major = major;
+        this.major = SymbolTable.intern(major);
     }
 
     public int getYear() {
@@ -22,7 +24,7 @@ public class Student extends User {
     }
 
     public void setMajor(String major) {
-        this.major = major;
+        this.major = SymbolTable.intern(major);
     }
 
     public boolean canApplyForLevel(String level) {
@@ -1,8 +1,8 @@
 package model;
 public class User {
-    private String userId;
-    private String password;
-    private String name;
+    private final String userId;
+    private volatile String password;
+    private volatile String name;
 
     public User(String userId, String password, String name) {
         this.userId = userId;
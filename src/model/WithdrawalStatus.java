@@ -0,0 +1,69 @@
+package model;
+/**
+ * Progress of a student's request to withdraw an application.
+ * A request may be made when none is open or after a rejection; staff then approve or reject it.
+ */
+public enum WithdrawalStatus {
+    NONE(null),
+    PENDING("Pending"),
+    APPROVED("Approved"),
+    REJECTED("Rejected");
+
+    private static final WithdrawalStatus[] VALUES = values();
+
+    static {
+        NONE.allowed = mask(PENDING);
+        PENDING.allowed = mask(APPROVED, REJECTED);
+        REJECTED.allowed = mask(PENDING);
+    }
+
+    private final String label;
+    // Bit i set when moving to the constant with ordinal i is allowed
+    private int allowed;
+
+    WithdrawalStatus(String label) {
+        this.label = label;
+    }
+
+    /**
+     * @return the display label, or null when no withdrawal was requested
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    public boolean canMoveTo(WithdrawalStatus next) {
+        return (allowed & (1 << next.ordinal())) != 0;
+    }
+
+    /**
+     * Decode a status stored as its ordinal, without copying the values array.
+     */
+    public static WithdrawalStatus fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * @param label a status label, or null for no request
+     * @throws IllegalArgumentException if the label names no status
+     */
+    public static WithdrawalStatus fromLabel(String label) {
+        if (label == null) {
+            return NONE;
+        }
+        for (WithdrawalStatus status : VALUES) {
+            if (label.equals(status.label)) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown withdrawal status: " + label);
+    }
+
+    private static int mask(WithdrawalStatus... targets) {
+        int mask = 0;
+        for (WithdrawalStatus target : targets) {
+            mask |= 1 << target.ordinal();
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,184 @@
+package persistence;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import service.IApplicationManager;
+import service.IInternshipManager;
+import service.IUserManager;
+
+/**
+ * Ties the journal and snapshots together for one data directory.
+ * Startup loads the newest readable snapshot and replays the journal segments after it; a background
+ * task then snapshots periodically and drops history older than the previous snapshot, so cold start
+ * cost is bounded by the size of the state rather than the length of its history. Two snapshots are
+ * kept, so an unreadable newest one falls back to the one before it and its segments.
+ */
+public class DataStore implements Closeable {
+    private final Path directory;
+    private final IUserManager userManager;
+    private final IInternshipManager internshipManager;
+    private final IApplicationManager applicationManager;
+    private final WriteAheadLog journal;
+    private final ScheduledExecutorService scheduler;
+    private final long restoredCount;
+    // Guarded by this; appended-record count at the last snapshot, used to skip idle runs
+    private long snapshotMark;
+    private boolean closed;
+
+    private DataStore(Path directory, IUserManager userManager, IInternshipManager internshipManager,
+                      IApplicationManager applicationManager, WriteAheadLog journal, long restoredCount) {
+        this.directory = directory;
+        this.userManager = userManager;
+        this.internshipManager = internshipManager;
+        this.applicationManager = applicationManager;
+        this.journal = journal;
+        this.restoredCount = restoredCount;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "snapshot-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Restore state into the managers and start journaling their changes.
+     * Each manager must also implement {@link Journaled}.
+     * @param snapshotIntervalMinutes how often to snapshot in the background; 0 disables it
+     */
+    public static DataStore open(Path directory, IUserManager userManager,
+                                 IInternshipManager internshipManager,
+                                 IApplicationManager applicationManager,
+                                 long snapshotIntervalMinutes) throws IOException {
+        // Check before touching the directory, so an unsupported manager cannot leave state half restored
+        Journaled[] targets = {journaled(userManager), journaled(internshipManager), journaled(applicationManager)};
+        JournalReplayer replayer = new JournalReplayer(userManager, internshipManager, applicationManager);
+
+        long firstSegment = restoreSnapshot(directory, replayer);
+        WriteAheadLog journal = WriteAheadLog.open(directory, firstSegment, replayer::apply);
+        replayer.finish();
+
+        for (Journaled target : targets) {
+            target.setJournal(journal);
+        }
+
+        DataStore store = new DataStore(directory, userManager, internshipManager, applicationManager,
+            journal, replayer.getAppliedCount());
+        if (snapshotIntervalMinutes > 0) {
+            store.scheduler.scheduleWithFixedDelay(store::snapshotQuietly,
+                snapshotIntervalMinutes, snapshotIntervalMinutes, TimeUnit.MINUTES);
+        }
+        return store;
+    }
+
+    /**
+     * Number of snapshot and journal records applied at startup.
+     */
+    public long getRestoredCount() {
+        return restoredCount;
+    }
+
+    /**
+     * Write a snapshot now and, once it reads back in full, discard what the previous snapshot no longer needs.
+     * The previous snapshot and the segments after it stay as the fallback should the new one go bad later.
+     * @return false if nothing changed since the last snapshot
+     */
+    public synchronized boolean snapshot() throws IOException {
+        long appended = journal.getAppendedCount();
+        if (closed || appended == snapshotMark) {
+            return false;
+        }
+
+        List<Long> existing = Snapshot.list(directory);
+        long previous = existing.isEmpty() ? 0 : existing.get(existing.size() - 1);
+        // Everything journaled before the rotation is in older segments and visible to the copy below
+        long segment = journal.rotate();
+        Snapshot.write(directory, segment, userManager, internshipManager, applicationManager);
+        Path written = Snapshot.snapshotPath(directory, segment);
+        try {
+            Snapshot.verify(written);
+        } catch (IOException e) {
+            Files.deleteIfExists(written);
+            throw e;
+        }
+        snapshotMark = appended;
+        journal.sync();
+
+        // With no previous snapshot the fallback is the full journal, so nothing can go yet
+        if (previous > 0) {
+            journal.deleteSegmentsBefore(previous);
+            Snapshot.deleteBefore(directory, previous);
+        }
+        return true;
+    }
+
+    /**
+     * Stop background snapshots, take a final one so the next start is quick, and close the journal.
+     */
+    public void close() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            snapshotQuietly();
+            closed = true;
+        }
+        journal.close();
+    }
+
+    /**
+     * Apply the newest snapshot that reads back in full.
+     * A snapshot that fails partway is set aside and the next older one is tried; its records carry full
+     * state, and the journal segments after the older snapshot cover everything the failed one held,
+     * so whatever it applied before failing is overwritten on the way.
+     * @return the first journal segment to replay
+     * @throws IOException if no snapshot is readable and the journal no longer starts from the beginning
+     */
+    private static long restoreSnapshot(Path directory, JournalReplayer replayer) throws IOException {
+        List<Long> snapshots = Snapshot.list(directory);
+        IOException unreadable = null;
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            Path snapshot = Snapshot.snapshotPath(directory, snapshots.get(i));
+            try {
+                return Snapshot.read(snapshot, replayer::apply);
+            } catch (IOException e) {
+                unreadable = e;
+                Snapshot.quarantine(snapshot);
+            }
+        }
+        long oldest = WriteAheadLog.oldestSegment(directory);
+        if (unreadable != null && oldest > 1) {
+            throw new IOException("No readable snapshot, and journal segments before " + oldest + " are gone",
+                unreadable);
+        }
+        return 0;
+    }
+
+    private static Journaled journaled(Object manager) {
+        if (manager instanceof Journaled journaled) {
+            return journaled;
+        }
+        throw new IllegalArgumentException(manager.getClass().getSimpleName() + " cannot journal its changes");
+    }
+
+    // The journal still holds every change if a snapshot fails; the next run simply tries again
+    private synchronized void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            // Keep the scheduler alive
+        }
+    }
+}
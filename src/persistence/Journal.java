@@ -0,0 +1,34 @@
+package persistence;
+/**
+ * Sink for state changes made through the service layer.
+ * Follows Dependency Inversion Principle - managers depend on this abstraction, not on a log file.
+ */
+public interface Journal {
+    /**
+     * Journal that discards every record; used until persistence is enabled.
+     */
+    Journal NONE = record -> 0;
+
+    /**
+     * Hand a record over without waiting for the disk. Records are written in the order they are enqueued,
+     * so callers enqueue while holding the lock that orders changes to the affected entity.
+     * Implementations must not throw: the change is already made, so a failure could only leave the caller
+     * half done.
+     * @return a ticket to pass to {@link #await}
+     */
+    long enqueue(JournalRecord record);
+
+    /**
+     * Block until the record holding the ticket, and every record enqueued before it, is durable.
+     * Call once shared locks are released, so changes from other sessions can join the same flush.
+     */
+    default void await(long ticket) {
+    }
+
+    /**
+     * Enqueue and wait in one step, for callers holding no lock that others contend on.
+     */
+    default void append(JournalRecord record) {
+        await(enqueue(record));
+    }
+}
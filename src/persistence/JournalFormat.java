@@ -0,0 +1,72 @@
+package persistence;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.zip.CRC32;
+
+/**
+ * On-disk framing shared by journal segments and snapshots.
+ * Frame layout: payload length (int), record type (byte), payload, CRC32 of type and payload (int).
+ */
+final class JournalFormat {
+    private static final int MAX_PAYLOAD = 1 << 20;
+
+    private JournalFormat() {
+    }
+
+    static void writeFrame(DataOutputStream out, JournalRecord record) throws IOException {
+        if (!fits(record)) {
+            throw new IOException(record.getType() + " record of " + record.getPayload().length + " bytes is too large");
+        }
+        byte typeCode = record.getType().getCode();
+        byte[] payload = record.getPayload();
+        out.writeInt(payload.length);
+        out.writeByte(typeCode);
+        out.write(payload);
+        out.writeInt(checksum(typeCode, payload));
+    }
+
+    /**
+     * Read the next frame.
+     * @return the record, or null at end of input or at a torn or corrupt frame
+     */
+    static JournalRecord readFrame(DataInputStream in) throws IOException {
+        try {
+            int length = in.readInt();
+            if (length < 0 || length > MAX_PAYLOAD) {
+                return null;
+            }
+            byte typeCode = in.readByte();
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+            int checksum = in.readInt();
+
+            JournalRecord.Type type = JournalRecord.Type.fromCode(typeCode);
+            if (type == null || checksum != checksum(typeCode, payload)) {
+                return null;
+            }
+            return new JournalRecord(type, payload);
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Whether readFrame will accept the record back; larger frames would read as a torn tail.
+     */
+    static boolean fits(JournalRecord record) {
+        return record.getPayload().length <= MAX_PAYLOAD;
+    }
+
+    static long frameLength(JournalRecord record) {
+        return Integer.BYTES + 1 + record.getPayload().length + Integer.BYTES;
+    }
+
+    private static int checksum(byte typeCode, byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(typeCode);
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,224 @@
+package persistence;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import model.Application;
+import model.CompanyRep;
+import model.Internship;
+import model.User;
+
+/**
+ * One binary journal entry. Records carry the full resulting state of the entity they describe,
+ * so replaying a record twice, or replaying it over a newer snapshot, leaves the same result.
+ */
+public final class JournalRecord {
+    /**
+     * Record kinds; the code is what gets written to disk, so existing codes must never change.
+     */
+    public enum Type {
+        REP_REGISTERED(1),
+        REP_APPROVED(2),
+        REP_REJECTED(3),
+        PASSWORD_CHANGED(4),
+        INTERNSHIP_SAVED(5),
+        INTERNSHIP_REMOVED(6),
+        APPLICATION_SAVED(7),
+        APPLICATIONS_REMOVED(8);
+
+        private final byte code;
+
+        Type(int code) {
+            this.code = (byte) code;
+        }
+
+        public byte getCode() {
+            return code;
+        }
+
+        public static Type fromCode(byte code) {
+            for (Type type : values()) {
+                if (type.code == code) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+
+    // Length prefix that marks a string too long for writeUTF
+    private static final int LONG_TEXT = 0xFFFF;
+    // Byte length written after LONG_TEXT for a null string
+    private static final int NULL_TEXT = -1;
+
+    private final Type type;
+    private final byte[] payload;
+
+    JournalRecord(Type type, byte[] payload) {
+        this.type = type;
+        this.payload = payload;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    byte[] getPayload() {
+        return payload;
+    }
+
+    /**
+     * Stream over the payload; fields are read in the order the factory below wrote them.
+     */
+    DataInputStream openPayload() {
+        return new DataInputStream(new ByteArrayInputStream(payload));
+    }
+
+    public static JournalRecord repRegistered(CompanyRep rep) {
+        return encode(Type.REP_REGISTERED, out -> {
+            writeText(out, rep.getUserId());
+            writeText(out, rep.getPassword());
+            writeText(out, rep.getName());
+            writeText(out, rep.getCompanyName());
+            writeText(out, rep.getDepartment());
+            writeText(out, rep.getPosition());
+        });
+    }
+
+    public static JournalRecord repApproved(String userId) {
+        return encode(Type.REP_APPROVED, out -> writeText(out, userId));
+    }
+
+    public static JournalRecord repRejected(String userId) {
+        return encode(Type.REP_REJECTED, out -> writeText(out, userId));
+    }
+
+    public static JournalRecord passwordChanged(User user) {
+        return passwordChanged(user.getUserId(), user.getPassword());
+    }
+
+    /**
+     * Built from the new password, so the record exists before the change is made.
+     */
+    public static JournalRecord passwordChanged(String userId, String password) {
+        return encode(Type.PASSWORD_CHANGED, out -> {
+            writeText(out, userId);
+            writeText(out, password);
+        });
+    }
+
+    // Slot counts are left out: they are derived from accepted placements when state is restored
+    public static JournalRecord internshipSaved(Internship internship) {
+        return encode(Type.INTERNSHIP_SAVED, out -> {
+            out.writeInt(internship.getId());
+            writeText(out, internship.getTitle());
+            writeText(out, internship.getDescription());
+            writeText(out, internship.getLevel());
+            writeText(out, internship.getPreferredMajor());
+            writeText(out, internship.getOpeningDate());
+            writeText(out, internship.getClosingDate());
+            writeText(out, internship.getStatus());
+            writeText(out, internship.getCompanyName());
+            writeText(out, internship.getRepId());
+            out.writeInt(internship.getTotalSlots());
+            out.writeBoolean(internship.isVisible());
+        });
+    }
+
+    public static JournalRecord internshipRemoved(int internshipId) {
+        return encode(Type.INTERNSHIP_REMOVED, out -> out.writeInt(internshipId));
+    }
+
+    public static JournalRecord applicationSaved(Application application) {
+        return encode(Type.APPLICATION_SAVED, out -> {
+            out.writeInt(application.getId());
+            writeText(out, application.getStudentId());
+            out.writeInt(application.getInternship().getId());
+            writeText(out, application.getStatus());
+            writeNullableText(out, application.getWithdrawalReason());
+            writeNullableText(out, application.getWithdrawalStatus());
+            out.writeBoolean(application.isPlacementAccepted());
+        });
+    }
+
+    public static JournalRecord applicationsRemoved(int internshipId) {
+        return encode(Type.APPLICATIONS_REMOVED, out -> out.writeInt(internshipId));
+    }
+
+    /**
+     * Read a string written by {@link #writeText}; null comes back as null.
+     */
+    static String readText(DataInputStream in) throws IOException {
+        in.mark(Short.BYTES);
+        if (in.readUnsignedShort() != LONG_TEXT) {
+            in.reset();
+            return in.readUTF();
+        }
+        int length = in.readInt();
+        if (length == NULL_TEXT) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static String readNullableText(DataInputStream in) throws IOException {
+        return in.readBoolean() ? readText(in) : null;
+    }
+
+    // writeUTF rejects strings over 65535 encoded bytes, which would fail the record after its change was made.
+    // Those get a length marker writeUTF is never given here, followed by an int length; null gets the
+    // marker and a length no string has, since an entity left with a null field must still journal.
+    private static void writeText(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeShort(LONG_TEXT);
+            out.writeInt(NULL_TEXT);
+            return;
+        }
+        if (modifiedUtfLength(value) < LONG_TEXT) {
+            out.writeUTF(value);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(LONG_TEXT);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeNullableText(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeText(out, value);
+        }
+    }
+
+    // Bytes writeUTF would produce, counting no further than the marker
+    private static int modifiedUtfLength(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length() && length < LONG_TEXT; i++) {
+            char c = value.charAt(i);
+            length += (c >= 0x0001 && c <= 0x007F) ? 1 : (c <= 0x07FF ? 2 : 3);
+        }
+        return length;
+    }
+
+    private static JournalRecord encode(Type type, PayloadWriter writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writer.write(out);
+        } catch (IOException e) {
+            // Every field is written by writeText or a fixed-size write, so an in-memory stream cannot fail
+            throw new UncheckedIOException("Cannot encode " + type + " record", e);
+        }
+        return new JournalRecord(type, bytes.toByteArray());
+    }
+
+    private interface PayloadWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+}
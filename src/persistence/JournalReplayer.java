@@ -0,0 +1,163 @@
+package persistence;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import model.Application;
+import model.CompanyRep;
+import model.Internship;
+import service.IApplicationManager;
+import service.IInternshipManager;
+import service.IUserManager;
+import service.UserLookup;
+
+/**
+ * Applies journal records to the managers at startup.
+ * Must run before the managers' journals are attached, otherwise replay would journal itself again.
+ */
+public class JournalReplayer {
+    private IUserManager userManager;
+    private IInternshipManager internshipManager;
+    private IApplicationManager applicationManager;
+    private long applied;
+
+    public JournalReplayer(IUserManager userManager,
+                           IInternshipManager internshipManager,
+                           IApplicationManager applicationManager) {
+        this.userManager = userManager;
+        this.internshipManager = internshipManager;
+        this.applicationManager = applicationManager;
+    }
+
+    /**
+     * Apply one record; fields are read in the order JournalRecord's factories wrote them.
+     */
+    public void apply(JournalRecord record) {
+        try (DataInputStream in = record.openPayload()) {
+            switch (record.getType()) {
+                case REP_REGISTERED -> registerRep(in);
+                case REP_APPROVED -> approveRep(JournalRecord.readText(in));
+                case REP_REJECTED -> rejectRep(JournalRecord.readText(in));
+                case PASSWORD_CHANGED -> changePassword(JournalRecord.readText(in), JournalRecord.readText(in));
+                case INTERNSHIP_SAVED -> saveInternship(in);
+                case INTERNSHIP_REMOVED -> removeInternship(in.readInt());
+                case APPLICATION_SAVED -> saveApplication(in);
+                case APPLICATIONS_REMOVED -> applicationManager.removeApplicationsForInternship(in.readInt());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt " + record.getType() + " record", e);
+        }
+        applied++;
+    }
+
+    /**
+     * Complete the replay by deriving each internship's free slots from its accepted placements.
+     */
+    public void finish() {
+        for (Internship internship : internshipManager.getAllInternships()) {
+            int accepted = 0;
+            for (Application app : applicationManager.getApplicationsForInternship(internship.getId())) {
+                if (app.isPlacementAccepted()) {
+                    accepted++;
+                }
+            }
+            internship.restoreAvailableSlots(Math.max(0, internship.getTotalSlots() - accepted));
+        }
+    }
+
+    public long getAppliedCount() {
+        return applied;
+    }
+
+    private void registerRep(DataInputStream in) throws IOException {
+        CompanyRep rep = new CompanyRep(JournalRecord.readText(in), JournalRecord.readText(in), JournalRecord.readText(in),
+            JournalRecord.readText(in), JournalRecord.readText(in), JournalRecord.readText(in));
+        if (!userManager.findUser(rep.getUserId()).isFound()) {
+            userManager.addPendingCompanyRep(rep);
+        }
+    }
+
+    private void approveRep(String userId) {
+        UserLookup lookup = userManager.findUser(userId);
+        if (lookup.isPendingApproval()) {
+            userManager.approveCompanyRep((CompanyRep) lookup.getUser());
+        }
+    }
+
+    private void rejectRep(String userId) {
+        UserLookup lookup = userManager.findUser(userId);
+        if (lookup.isPendingApproval()) {
+            userManager.rejectCompanyRep((CompanyRep) lookup.getUser());
+        }
+    }
+
+    private void changePassword(String userId, String password) {
+        userManager.restorePassword(userId, password);
+    }
+
+    private void saveInternship(DataInputStream in) throws IOException {
+        int id = in.readInt();
+        String title = JournalRecord.readText(in);
+        String description = JournalRecord.readText(in);
+        String level = JournalRecord.readText(in);
+        String preferredMajor = JournalRecord.readText(in);
+        String openingDate = JournalRecord.readText(in);
+        String closingDate = JournalRecord.readText(in);
+        String status = JournalRecord.readText(in);
+        String companyName = JournalRecord.readText(in);
+        String repId = JournalRecord.readText(in);
+        int totalSlots = in.readInt();
+        boolean visible = in.readBoolean();
+
+        Internship internship = internshipManager.getInternshipById(id);
+        if (internship == null) {
+            internship = new Internship(id, title, description, level, preferredMajor,
+                openingDate, closingDate, companyName, repId, totalSlots);
+        } else {
+            internship.setTitle(title);
+            internship.setDescription(description);
+            internship.setLevel(level);
+            internship.setPreferredMajor(preferredMajor);
+            internship.setOpeningDate(openingDate);
+            internship.setClosingDate(closingDate);
+            internship.setTotalSlots(totalSlots);
+        }
+        internship.setStatus(status);
+        internship.setVisible(visible);
+        internshipManager.addInternship(internship);
+    }
+
+    private void removeInternship(int internshipId) {
+        Internship internship = internshipManager.getInternshipById(internshipId);
+        if (internship != null) {
+            internshipManager.removeInternship(internship);
+        }
+        // Deleting a posting always drops its applications, including any journaled after their own removal
+        applicationManager.removeApplicationsForInternship(internshipId);
+    }
+
+    private void saveApplication(DataInputStream in) throws IOException {
+        int id = in.readInt();
+        String studentId = JournalRecord.readText(in);
+        int internshipId = in.readInt();
+        String status = JournalRecord.readText(in);
+        String withdrawalReason = JournalRecord.readNullableText(in);
+        String withdrawalStatus = JournalRecord.readNullableText(in);
+        boolean placementAccepted = in.readBoolean();
+
+        Application application = applicationManager.getApplicationById(id);
+        if (application == null) {
+            Internship internship = internshipManager.getInternshipById(internshipId);
+            if (internship == null) {
+                // A racing update journaled after the internship was deleted; its applications went with it
+                return;
+            }
+            application = new Application(id, studentId, internship);
+        }
+        application.setStatus(status);
+        application.setWithdrawalReason(withdrawalReason);
+        application.setWithdrawalStatus(withdrawalStatus);
+        application.setPlacementAccepted(placementAccepted);
+        applicationManager.restoreApplication(application);
+    }
+}
@@ -0,0 +1,8 @@
+package persistence;
+/**
+ * A manager whose changes can be recorded in a journal.
+ * Kept out of the service interfaces so controllers never see persistence; DataStore attaches through this.
+ */
+public interface Journaled {
+    void setJournal(Journal journal);
+}
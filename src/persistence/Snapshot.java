@@ -0,0 +1,223 @@
+package persistence;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import model.Application;
+import model.CompanyRep;
+import model.Internship;
+import model.User;
+import service.IApplicationManager;
+import service.IInternshipManager;
+import service.IUserManager;
+
+/**
+ * Compact binary image of all journaled state.
+ * A snapshot numbered N holds the effect of every journal segment before N, so startup loads it
+ * and replays segments N onwards. It is written while the system keeps running; changes that race
+ * with it are also in segment N or later, and replaying those full-state records converges.
+ *
+ * Layout: magic (int), format version (short), segment (long), record count (int), then the
+ * records in {@link JournalFormat} frames: users, rejected reps, internships, then applications.
+ */
+public final class Snapshot {
+    private static final int MAGIC = 0x49504D53;
+    private static final short VERSION = 1;
+    private static final int COUNT_OFFSET = Integer.BYTES + Short.BYTES + Long.BYTES;
+    private static final String PREFIX = "snapshot-";
+    private static final String SUFFIX = ".snap";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String CORRUPT_SUFFIX = ".corrupt";
+
+    private Snapshot() {
+    }
+
+    /**
+     * Write a snapshot for the given segment. The file only appears under its final name once
+     * it is complete and on disk, so a crash mid-write leaves the previous snapshot in charge.
+     * @return the number of records written
+     */
+    public static int write(Path directory, long segment, IUserManager userManager,
+                            IInternshipManager internshipManager,
+                            IApplicationManager applicationManager) throws IOException {
+        Path target = snapshotPath(directory, segment);
+        Path temp = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+        int count = 0;
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeLong(segment);
+            out.writeInt(0);
+
+            // Pending reps go first: a rep approved while we copy then still shows up in one of the two lists
+            for (CompanyRep rep : userManager.getPendingCompanyReps()) {
+                JournalFormat.writeFrame(out, JournalRecord.repRegistered(rep));
+                count++;
+            }
+            for (User user : userManager.getAllUsers()) {
+                if (user instanceof CompanyRep rep) {
+                    JournalFormat.writeFrame(out, JournalRecord.repRegistered(rep));
+                    JournalFormat.writeFrame(out, JournalRecord.repApproved(rep.getUserId()));
+                    count += 2;
+                }
+            }
+            // CSV-seeded accounts are reloaded at startup; only passwords changed since then need carrying over
+            for (String userId : userManager.getChangedPasswordUserIds()) {
+                User user = userManager.getUserById(userId);
+                if (user != null) {
+                    JournalFormat.writeFrame(out, JournalRecord.passwordChanged(user));
+                    count++;
+                }
+            }
+
+            // Rejections go after the pending list so a rep rejected mid-copy ends up rejected on restore
+            for (String userId : userManager.getRejectedCompanyRepIds()) {
+                JournalFormat.writeFrame(out, JournalRecord.repRejected(userId));
+                count++;
+            }
+
+            List<Internship> internships = internshipManager.getAllInternships();
+            for (Internship internship : internships) {
+                JournalFormat.writeFrame(out, JournalRecord.internshipSaved(internship));
+                count++;
+            }
+            for (Internship internship : internships) {
+                for (Application app : applicationManager.getApplicationsForInternship(internship.getId())) {
+                    JournalFormat.writeFrame(out, JournalRecord.applicationSaved(app));
+                    count++;
+                }
+            }
+            out.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(Integer.BYTES).putInt(0, count);
+            channel.write(header, COUNT_OFFSET);
+            channel.force(true);
+        }
+
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        syncDirectory(directory);
+        return count;
+    }
+
+    /**
+     * Feed every record of a snapshot to the consumer.
+     * @return the journal segment the snapshot covers up to
+     * @throws IOException if the snapshot is unreadable, truncated or fails its checksums
+     */
+    public static long read(Path path, Consumer<JournalRecord> consumer) throws IOException {
+        try (InputStream file = Files.newInputStream(path);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(file, 1 << 16))) {
+            if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+                throw new IOException("Not a snapshot: " + path);
+            }
+            long segment = in.readLong();
+            int count = in.readInt();
+
+            for (int i = 0; i < count; i++) {
+                JournalRecord record = JournalFormat.readFrame(in);
+                if (record == null) {
+                    throw new IOException("Snapshot " + path + " is corrupt at record " + i + " of " + count);
+                }
+                consumer.accept(record);
+            }
+            return segment;
+        }
+    }
+
+    /**
+     * The newest complete snapshot in the directory, or null if there is none.
+     * Leftover temporary files from interrupted writes are removed.
+     */
+    public static Path latest(Path directory) throws IOException {
+        List<Long> segments = listSnapshots(directory);
+        return segments.isEmpty() ? null : snapshotPath(directory, segments.get(segments.size() - 1));
+    }
+
+    /**
+     * Segment numbers of the complete snapshots in the directory, oldest first.
+     */
+    public static List<Long> list(Path directory) throws IOException {
+        return listSnapshots(directory);
+    }
+
+    /**
+     * Read a snapshot through without applying it.
+     * @throws IOException if it would not restore in full
+     */
+    public static void verify(Path path) throws IOException {
+        read(path, record -> { });
+    }
+
+    /**
+     * Move an unreadable snapshot out of the way, keeping it for inspection, so it is never chosen again.
+     */
+    public static void quarantine(Path path) throws IOException {
+        Files.move(path, path.resolveSibling(path.getFileName() + CORRUPT_SUFFIX), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Delete snapshots older than the given segment's.
+     */
+    public static void deleteBefore(Path directory, long segment) throws IOException {
+        for (long existing : listSnapshots(directory)) {
+            if (existing < segment) {
+                Files.deleteIfExists(snapshotPath(directory, existing));
+            }
+        }
+    }
+
+    public static Path snapshotPath(Path directory, long segment) {
+        return directory.resolve(String.format("%s%020d%s", PREFIX, segment, SUFFIX));
+    }
+
+    private static List<Long> listSnapshots(Path directory) throws IOException {
+        List<Long> segments = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return segments;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, PREFIX + "*")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(TEMP_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                } else if (name.endsWith(SUFFIX)) {
+                    try {
+                        segments.add(Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length())));
+                    } catch (NumberFormatException e) {
+                        // Not one of ours
+                    }
+                }
+            }
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    // Makes the rename durable; not every platform can open a directory, which is harmless there
+    private static void syncDirectory(Path directory) {
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            // Best effort
+        }
+    }
+}
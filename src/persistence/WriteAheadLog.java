@@ -0,0 +1,344 @@
+package persistence;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * Append-only binary journal with group commit, split into numbered segment files.
+ * A single writer thread drains everything queued since its last flush, writes it in one go and issues
+ * one fsync for the whole batch. Records are enqueued in order under the caller's lock and waited for
+ * once the caller has let go of it, so a change is on disk before the call that made it returns while
+ * changes from concurrent sessions share a batch.
+ *
+ * Frames follow {@link JournalFormat}. A torn or corrupt frame marks the end of a segment;
+ * in the newest segment it and anything after it are discarded on open.
+ */
+public class WriteAheadLog implements Journal, Closeable {
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int MAX_BATCH = 4096;
+    private static final JournalRecord SHUTDOWN = new JournalRecord(null, new byte[0]);
+    private static final JournalRecord ROTATE = new JournalRecord(null, new byte[0]);
+
+    private final Path directory;
+    private final BlockingQueue<JournalRecord> queue;
+    private final Thread writer;
+    // Owned by the writer thread once started
+    private FileChannel channel;
+    private long currentSegment;
+    // Guarded by this: sequence numbers of records handed to enqueue() and of records known to be on disk
+    private long appended;
+    private long durable;
+    private long lastSegment;
+    private long dropped;
+    private boolean closed;
+    private volatile IOException failure;
+
+    private WriteAheadLog(Path directory, FileChannel channel, long segment) {
+        this.directory = directory;
+        this.queue = new LinkedBlockingQueue<>();
+        this.channel = channel;
+        this.currentSegment = segment;
+        this.lastSegment = segment;
+        this.writer = new Thread(this::writeLoop, "journal-writer");
+        this.writer.setDaemon(true);
+    }
+
+    /**
+     * Open the journal in a directory, feed every intact record from segment {@code firstSegment}
+     * onwards to the replay consumer in order, then append after the last intact record.
+     * Older segments are already covered by a snapshot; they are left for the caller to prune,
+     * since they back an older snapshot should the newest one turn out unreadable.
+     */
+    public static WriteAheadLog open(Path directory, long firstSegment,
+                                     Consumer<JournalRecord> replay) throws IOException {
+        Files.createDirectories(directory);
+
+        List<Long> segments = listSegments(directory);
+        long segment = Math.max(firstSegment, 1);
+        long validLength = 0;
+        for (long existing : segments) {
+            if (existing < firstSegment) {
+                continue;
+            }
+            validLength = readRecords(segmentPath(directory, existing), replay);
+            segment = existing;
+        }
+
+        FileChannel channel = FileChannel.open(segmentPath(directory, segment),
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (channel.size() > validLength) {
+            channel.truncate(validLength);
+            channel.force(true);
+        }
+        channel.position(validLength);
+
+        WriteAheadLog log = new WriteAheadLog(directory, channel, segment);
+        log.writer.start();
+        return log;
+    }
+
+    /**
+     * Read intact records from the start of one segment file.
+     * @return the length of the intact prefix in bytes
+     */
+    public static long readRecords(Path path, Consumer<JournalRecord> consumer) throws IOException {
+        long offset = 0;
+        try (InputStream file = Files.newInputStream(path);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(file, 1 << 16))) {
+            JournalRecord record;
+            while ((record = JournalFormat.readFrame(in)) != null) {
+                consumer.accept(record);
+                offset += JournalFormat.frameLength(record);
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * The lowest segment number in the directory, or 0 if it holds none.
+     */
+    public static long oldestSegment(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        List<Long> segments = listSegments(directory);
+        return segments.isEmpty() ? 0 : segments.get(0);
+    }
+
+    public static Path segmentPath(Path directory, long segment) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    }
+
+    /**
+     * Queue a record for the writer thread.
+     * Never throws: once the log is closed or has failed, or for a record too large to read back, the
+     * record is dropped and counted instead, because the change it describes has already been made in memory.
+     * @return the record's sequence number, or 0 for a dropped record, which there is nothing to wait for
+     */
+    public synchronized long enqueue(JournalRecord record) {
+        if (closed || failure != null || !JournalFormat.fits(record)) {
+            dropped++;
+            return 0;
+        }
+        // Enqueued under the lock so queue order matches sequence order
+        queue.add(record);
+        return ++appended;
+    }
+
+    /**
+     * Return once the batch holding the given sequence number has been forced to disk, or the log has failed.
+     */
+    public synchronized void await(long ticket) {
+        awaitDurable(ticket);
+    }
+
+    /**
+     * Start a new segment. Every record appended before this call lands in an older segment,
+     * every record appended after it in the returned one or later.
+     * @return the number of the new segment
+     * @throws IOException if the log is closed or has failed
+     */
+    public synchronized long rotate() throws IOException {
+        ensureWritable();
+        queue.add(ROTATE);
+        return ++lastSegment;
+    }
+
+    /**
+     * Delete segments older than the given one, typically once a snapshot covers them.
+     */
+    public void deleteSegmentsBefore(long segment) throws IOException {
+        for (long existing : listSegments(directory)) {
+            if (existing < segment) {
+                Files.deleteIfExists(segmentPath(directory, existing));
+            }
+        }
+    }
+
+    public synchronized long getAppendedCount() {
+        return appended;
+    }
+
+    /**
+     * Number of records dropped because the log was closed or had failed when they arrived, or was too large.
+     */
+    public synchronized long getDroppedCount() {
+        return dropped;
+    }
+
+    /**
+     * The write error that stopped the log, or null while it is healthy.
+     */
+    public IOException getFailure() {
+        return failure;
+    }
+
+    /**
+     * Block until every record appended before this call is on disk.
+     */
+    public synchronized void sync() throws IOException {
+        awaitDurable(appended);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Flush outstanding records and release the file. Safe to call more than once.
+     */
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.add(SHUTDOWN);
+        }
+
+        boolean interrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Every record has already been forced; nothing is lost
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Callers must hold this; waiting releases it so the writer and other appenders can proceed
+    private void awaitDurable(long sequence) {
+        boolean interrupted = false;
+        while (durable < sequence && failure == null) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void ensureWritable() throws IOException {
+        if (closed) {
+            throw new IOException("Journal is closed");
+        }
+        if (failure != null) {
+            throw new IOException("Journal is unavailable", failure);
+        }
+    }
+
+    private void writeLoop() {
+        List<JournalRecord> batch = new ArrayList<>();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1 << 16);
+        DataOutputStream out = new DataOutputStream(bytes);
+        boolean running = true;
+
+        try {
+            while (running) {
+                batch.add(takeNext());
+                queue.drainTo(batch, MAX_BATCH - 1);
+
+                int pending = 0;
+                for (JournalRecord record : batch) {
+                    if (record == SHUTDOWN) {
+                        running = false;
+                    } else if (record == ROTATE) {
+                        flush(bytes, pending);
+                        pending = 0;
+                        startNextSegment();
+                    } else {
+                        JournalFormat.writeFrame(out, record);
+                        pending++;
+                    }
+                }
+                flush(bytes, pending);
+                batch.clear();
+            }
+        } catch (IOException e) {
+            synchronized (this) {
+                failure = e;
+                notifyAll();
+            }
+        }
+    }
+
+    private JournalRecord takeNext() {
+        while (true) {
+            try {
+                return queue.take();
+            } catch (InterruptedException e) {
+                // Only close() stops the writer, so pending records are never dropped
+            }
+        }
+    }
+
+    private void flush(ByteArrayOutputStream bytes, int records) throws IOException {
+        if (records == 0) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+        bytes.reset();
+        markDurable(records);
+    }
+
+    private void startNextSegment() throws IOException {
+        channel.close();
+        currentSegment++;
+        channel = FileChannel.open(segmentPath(directory, currentSegment),
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        channel.force(true);
+    }
+
+    private synchronized void markDurable(int count) {
+        durable += count;
+        notifyAll();
+    }
+
+    private static List<Long> listSegments(Path directory) throws IOException {
+        List<Long> segments = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    segments.add(Long.parseLong(
+                        name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())));
+                } catch (NumberFormatException e) {
+                    // Not one of ours
+                }
+            }
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+}
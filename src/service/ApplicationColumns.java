@@ -0,0 +1,102 @@
+package service;
+/**
+ * Storage behind {@link ColumnarApplicationManager}: a fixed set of primitive fields per application row,
+ * the chains linking each student's and each internship's rows, and the tables giving students and
+ * internships their small int keys. New rows and keys start unlinked, with every chain pointer NO_ROW.
+ * Freed rows are handed out again by later adds, so storage tracks live applications, not every id issued.
+ * Implementations do no locking; the manager guards every call.
+ */
+interface ApplicationColumns {
+    int NO_ROW = -1;
+    int NO_KEY = -1;
+
+    /**
+     * Add a row with status, withdrawal and flags all zero, reusing a freed row if there is one.
+     * @return the new row
+     */
+    int addRow(int id, int studentKey, int internshipKey);
+
+    /**
+     * Drop the row's application from the id index and keep the row for reuse.
+     * The caller must already have unlinked it from its chains; its other columns stay readable until reused.
+     */
+    void freeRow(int row);
+
+    int id(int row);
+
+    int studentKey(int row);
+
+    int internshipKey(int row);
+
+    byte status(int row);
+
+    void setStatus(int row, byte status);
+
+    byte withdrawal(int row);
+
+    void setWithdrawal(int row, byte withdrawal);
+
+    byte flags(int row);
+
+    void setFlags(int row, byte flags);
+
+    int nextForStudent(int row);
+
+    void setNextForStudent(int row, int next);
+
+    int nextForInternship(int row);
+
+    void setNextForInternship(int row, int next);
+
+    /**
+     * @return the row holding the application, or NO_ROW
+     */
+    int rowOf(int applicationId);
+
+    void setRowOf(int applicationId, int row);
+
+    /**
+     * @return the student's key, or NO_KEY if the student has never applied
+     */
+    int findStudent(String studentId);
+
+    /**
+     * @return the student's key, assigning the next one if the student is new
+     */
+    int addStudent(String studentId);
+
+    String studentId(int studentKey);
+
+    int firstRowOfStudent(int studentKey);
+
+    void setFirstRowOfStudent(int studentKey, int row);
+
+    int lastRowOfStudent(int studentKey);
+
+    void setLastRowOfStudent(int studentKey, int row);
+
+    /**
+     * @return the internship's key, or NO_KEY if it has never had an application
+     */
+    int findInternship(int internshipId);
+
+    /**
+     * @return the internship's key, assigning the next one if the internship is new
+     */
+    int addInternship(int internshipId);
+
+    int firstRowOfInternship(int internshipKey);
+
+    void setFirstRowOfInternship(int internshipKey, int row);
+
+    int lastRowOfInternship(int internshipKey);
+
+    void setLastRowOfInternship(int internshipKey, int row);
+
+    /**
+     * Free any storage held outside the Java heap now rather than when the collector finds it.
+     * Nothing may be read or written afterwards.
+     */
+    default void release() {
+    }
+}
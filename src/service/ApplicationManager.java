@@ -1,15 +1,58 @@
 package service;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
 
 import model.Application;
+import model.ApplicationStatus;
 import model.Internship;
 import model.Student;
-
-public class ApplicationManager implements IApplicationManager {
-    private List<Application> applications;
+import model.WithdrawalStatus;
+import persistence.Journal;
+import persistence.Journaled;
+import persistence.JournalRecord;
+import util.primitive.IntObjectMap;
+import util.primitive.SortedIntObjectMap;
+
+public class ApplicationManager implements IApplicationManager, Journaled {
+    private static final int LOCK_STRIPES = 64;
+
+    // Per-entity indexes so student and internship queries only touch that entity's applications.
+    // A student's applications are only read or changed while holding that student's lock stripe,
+    // which makes per-student rules (application cap, single placement) atomic without a global lock.
+    // Changes are enqueued to the journal under the same stripe, so each application's records follow change
+    // order; callers wait for the disk only after letting the stripe go.
+    // Status changes follow the ApplicationStatus and WithdrawalStatus transition tables, checked under the stripe.
+    // Id-keyed indexes are primitive maps, sorted where they are listed in id order, so looking up or
+    // listing applications boxes nothing
+    private IntObjectMap<Application> applicationsById;
+    private Map<String, List<Application>> applicationsByStudent;
+    private IntObjectMap<SortedIntObjectMap<Application>> applicationsByInternship;
+    private Set<AppliedKey> appliedKeys;
+    // Candidates only; entries whose request was resolved elsewhere are pruned on read
+    private SortedIntObjectMap<Application> pendingWithdrawals;
+    private LockStripes studentLocks;
+    private volatile Journal journal;
+    private IClockService clock;
 
     public ApplicationManager() {
-        this.applications = new ArrayList<>();
+        this(new ClockService());
+    }
+
+    public ApplicationManager(IClockService clock) {
+        this.applicationsById = new IntObjectMap<>();
+        this.applicationsByStudent = new ConcurrentHashMap<>();
+        this.applicationsByInternship = new IntObjectMap<>();
+        this.appliedKeys = ConcurrentHashMap.newKeySet();
+        this.pendingWithdrawals = new SortedIntObjectMap<>();
+        this.studentLocks = new LockStripes(LOCK_STRIPES);
+        this.journal = Journal.NONE;
+        this.clock = clock;
+    }
+
+    public void setJournal(Journal journal) {
+        this.journal = journal;
     }
 
     public boolean applyForInternship(Student student, Internship internship) {
@@ -17,131 +60,190 @@ public class ApplicationManager implements IApplicationManager {
             return false;
         }
 
-        if (getApplicationCount(student.getUserId()) >= 3) {
-            return false;
-        }
+        long ticket;
+        ReentrantLock lock = lockStudent(student.getUserId());
+        try {
+            if (getApplicationCount(student.getUserId()) >= 3) {
+                return false;
+            }
 
-        if (!internship.isOpenForApplications()) {
-            return false;
-        }
+            if (!internship.isOpenForApplications(clock.today())) {
+                return false;
+            }
 
-        // Check if already applied to this internship
-        if (hasAppliedToInternship(student.getUserId(), internship.getId())) {
-            return false;
-        }
+            // Check if already applied to this internship
+            if (hasAppliedToInternship(student.getUserId(), internship.getId())) {
+                return false;
+            }
 
-        Application application = new Application(student.getUserId(), internship);
-        applications.add(application);
+            Application application = new Application(student.getUserId(), internship);
+            JournalRecord record = JournalRecord.applicationSaved(application);
+            index(application);
+            ticket = journal.enqueue(record);
+        } finally {
+            lock.unlock();
+        }
+        journal.await(ticket);
         return true;
     }
 
     public boolean hasAppliedToInternship(String studentId, int internshipId) {
-        for (Application app : applications) {
-            if (app.getStudentId().equals(studentId) &&
-                    app.getInternship().getId() == internshipId) {
-                return true;
-            }
-        }
-        return false;
+        return appliedKeys.contains(new AppliedKey(studentId, internshipId));
     }
 
     public int getApplicationCount(String studentId) {
-        int count = 0;
-        for (Application app : applications) {
-            if (app.getStudentId().equals(studentId) &&
-                    app.getStatus().equals("Pending")) {
-                count++;
+        ReentrantLock lock = lockStudent(studentId);
+        try {
+            int count = 0;
+            for (Application app : studentApplications(studentId)) {
+                if (app.getStatusCode() == ApplicationStatus.PENDING) {
+                    count++;
+                }
             }
+            return count;
+        } finally {
+            lock.unlock();
         }
-        return count;
     }
 
     public List<Application> getApplicationsForStudent(String studentId) {
-        List<Application> result = new ArrayList<>();
-
-        for (Application app : applications) {
-            if (app.getStudentId().equals(studentId)) {
-                result.add(app);
-            }
+        ReentrantLock lock = lockStudent(studentId);
+        try {
+            return new ArrayList<>(studentApplications(studentId));
+        } finally {
+            lock.unlock();
         }
-
-        return result;
     }
 
     public List<Application> getSuccessfulApplications(String studentId) {
         List<Application> result = new ArrayList<>();
 
-        for (Application app : applications) {
-            if (app.getStudentId().equals(studentId) &&
-                    app.getStatus().equals("Successful") &&
-                    !app.isPlacementAccepted()) {
-                result.add(app);
+        ReentrantLock lock = lockStudent(studentId);
+        try {
+            for (Application app : studentApplications(studentId)) {
+                if (app.getStatusCode() == ApplicationStatus.SUCCESSFUL && !app.isPlacementAccepted()) {
+                    result.add(app);
+                }
             }
+        } finally {
+            lock.unlock();
         }
 
         return result;
     }
 
     public List<Application> getApplicationsForInternship(int internshipId) {
-        List<Application> result = new ArrayList<>();
+        SortedIntObjectMap<Application> internshipApplications = applicationsByInternship.get(internshipId);
+        return internshipApplications == null ? new ArrayList<>() : internshipApplications.values();
+    }
 
-        for (Application app : applications) {
-            if (app.getInternship().getId() == internshipId) {
-                result.add(app);
-            }
-        }
+    public Stream<Application> streamApplicationsForInternship(int internshipId) {
+        SortedIntObjectMap<Application> internshipApplications = applicationsByInternship.get(internshipId);
+        return internshipApplications == null ? Stream.empty() : internshipApplications.stream();
+    }
 
-        return result;
+    public Page<Application> getApplicationsForInternship(int internshipId, String cursor, int limit) {
+        SortedIntObjectMap<Application> internshipApplications = applicationsByInternship.get(internshipId);
+        if (internshipApplications == null) {
+            Page.requirePositive(limit);
+            return new Page<>(new ArrayList<>(), null);
+        }
+        return Page.of(internshipApplications, Page.idAfter(cursor), limit, Application::getId);
     }
 
-    public void updateApplicationStatus(Application application, String status) {
-        application.setStatus(status);
+    public boolean updateApplicationStatus(Application application, String status) {
+        ApplicationStatus next = ApplicationStatus.fromLabel(status);
+        long ticket;
+        ReentrantLock lock = lockStudent(application.getStudentId());
+        try {
+            if (!application.getStatusCode().canMoveTo(next)) {
+                return false;
+            }
+            application.setStatusCode(next);
+            ticket = journal.enqueue(JournalRecord.applicationSaved(application));
+        } finally {
+            lock.unlock();
+        }
+        journal.await(ticket);
+        return true;
     }
 
-    public void acceptPlacement(String studentId, Application acceptedApp) {
-        acceptedApp.setPlacementAccepted(true);
+    public boolean acceptPlacement(String studentId, Application acceptedApp) {
+        long ticket;
+        ReentrantLock lock = lockStudent(studentId);
+        try {
+            // Re-check under the lock: a concurrent acceptance may have withdrawn this offer
+            if (acceptedApp.isPlacementAccepted() || acceptedApp.getStatusCode() != ApplicationStatus.SUCCESSFUL) {
+                return false;
+            }
+            // An offer whose posting was deleted has been unlinked and can no longer be taken up
+            if (applicationsById.get(acceptedApp.getId()) != acceptedApp) {
+                return false;
+            }
+            for (Application app : studentApplications(studentId)) {
+                if (app.isPlacementAccepted()) {
+                    return false;
+                }
+            }
 
-        for (Application app : applications) {
-            if (app.getStudentId().equals(studentId) &&
-                    app.getId() != acceptedApp.getId() &&
-                    (app.getStatus().equals("Pending") || app.getStatus().equals("Successful"))) {
-                app.setStatus("Withdrawn");
+            // Claim the slot in the same step so concurrent acceptances can never oversubscribe
+            if (!acceptedApp.getInternship().tryReserveSlot()) {
+                return false;
+            }
+            acceptedApp.setPlacementAccepted(true);
+            ticket = journal.enqueue(JournalRecord.applicationSaved(acceptedApp));
+
+            for (Application app : studentApplications(studentId)) {
+                if (app.getId() != acceptedApp.getId() && app.getStatusCode().canMoveTo(ApplicationStatus.WITHDRAWN)) {
+                    app.setStatusCode(ApplicationStatus.WITHDRAWN);
+                    ticket = journal.enqueue(JournalRecord.applicationSaved(app));
+                }
             }
+        } finally {
+            lock.unlock();
         }
+        journal.await(ticket);
+        return true;
     }
 
     public boolean requestWithdrawal(String studentId, int applicationId, String reason) {
-        for (Application app : applications) {
-            if (app.getStudentId().equals(studentId) && app.getId() == applicationId) {
-                // Can only withdraw if application is Pending, Successful, or placement is accepted
-                if (app.getStatus().equals("Pending") ||
-                    app.getStatus().equals("Successful") ||
-                    app.isPlacementAccepted()) {
-
-                    app.setWithdrawalReason(reason);
-                    app.setWithdrawalStatus("Pending");
-                    return true;
-                }
+        Application app = applicationsById.get(applicationId);
+        if (app == null || !app.getStudentId().equals(studentId)) {
+            return false;
+        }
+
+        long ticket;
+        ReentrantLock lock = lockStudent(studentId);
+        try {
+            // Accepted placements are Successful, so this covers Pending, Successful and accepted applications
+            if (!app.getStatusCode().isActive() || !app.getWithdrawalCode().canMoveTo(WithdrawalStatus.PENDING)) {
+                return false;
             }
+            app.setWithdrawalReason(reason);
+            app.setWithdrawalCode(WithdrawalStatus.PENDING);
+            pendingWithdrawals.put(app.getId(), app);
+            ticket = journal.enqueue(JournalRecord.applicationSaved(app));
+        } finally {
+            lock.unlock();
         }
-        return false;
+        journal.await(ticket);
+        return true;
     }
 
     public List<Application> getWithdrawableApplications(String studentId) {
         List<Application> result = new ArrayList<>();
 
-        for (Application app : applications) {
-            if (app.getStudentId().equals(studentId)) {
+        ReentrantLock lock = lockStudent(studentId);
+        try {
+            for (Application app : studentApplications(studentId)) {
                 // Can withdraw Pending, Successful, or accepted placements
                 // Cannot withdraw Unsuccessful or already Withdrawn applications
-                if ((app.getStatus().equals("Pending") ||
-                     app.getStatus().equals("Successful") ||
-                     app.isPlacementAccepted()) &&
-                    (app.getWithdrawalStatus() == null ||
-                     !app.getWithdrawalStatus().equals("Pending"))) {
+                if (app.getStatusCode().isActive() && app.getWithdrawalCode().canMoveTo(WithdrawalStatus.PENDING)) {
                     result.add(app);
                 }
             }
+        } finally {
+            lock.unlock();
         }
 
         return result;
@@ -150,30 +252,188 @@ public class ApplicationManager implements IApplicationManager {
     public List<Application> getPendingWithdrawals() {
         List<Application> result = new ArrayList<>();
 
-        for (Application app : applications) {
-            if (app.getWithdrawalStatus() != null &&
-                    app.getWithdrawalStatus().equals("Pending")) {
+        for (Application app : pendingWithdrawals) {
+            if (app.getWithdrawalCode() == WithdrawalStatus.PENDING) {
                 result.add(app);
+            } else {
+                pendingWithdrawals.remove(app.getId(), app);
             }
         }
 
         return result;
     }
 
-    public void approveWithdrawal(Application application) {
-        application.setWithdrawalStatus("Approved");
+    public Stream<Application> streamPendingWithdrawals() {
+        // Stale entries are skipped here and pruned by the list and page variants
+        return pendingWithdrawals.stream()
+            .filter(app -> app.getWithdrawalCode() == WithdrawalStatus.PENDING);
+    }
+
+    public Page<Application> getPendingWithdrawals(String cursor, int limit) {
+        Page.requirePositive(limit);
+        Integer after = Page.idAfter(cursor);
+        List<Application> items = new ArrayList<>(Math.min(limit, 256));
+        Iterator<Application> candidates = after == null ? pendingWithdrawals.iterator() : pendingWithdrawals.iteratorAfter(after);
+        boolean more = false;
+        while (candidates.hasNext()) {
+            Application app = candidates.next();
+            if (app.getWithdrawalCode() != WithdrawalStatus.PENDING) {
+                pendingWithdrawals.remove(app.getId(), app);
+            } else if (items.size() < limit) {
+                items.add(app);
+            } else {
+                more = true;
+                break;
+            }
+        }
+        return new Page<>(items, more ? Page.idCursor(items.get(items.size() - 1).getId()) : null);
+    }
+
+    public boolean approveWithdrawal(Application application) {
+        long ticket;
+        ReentrantLock lock = lockStudent(application.getStudentId());
+        try {
+            // The application must still be able to end Withdrawn; a decision made since the request is final
+            if (!application.getWithdrawalCode().canMoveTo(WithdrawalStatus.APPROVED)
+                    || !application.getStatusCode().canMoveTo(ApplicationStatus.WITHDRAWN)) {
+                return false;
+            }
+            application.setWithdrawalCode(WithdrawalStatus.APPROVED);
+            pendingWithdrawals.remove(application.getId(), application);
+
+            // Only increase slots if the placement was actually accepted
+            // Pending/Successful applications that were never accepted don't need slot adjustment
+            if (application.isPlacementAccepted()) {
+                application.setPlacementAccepted(false);
+                application.getInternship().releaseSlot();
+            }
 
-        // Only increase slots if the placement was actually accepted
-        // Pending/Successful applications that were never accepted don't need slot adjustment
-        if (application.isPlacementAccepted()) {
-            application.setPlacementAccepted(false);
-            application.getInternship().increaseAvailableSlots();
+            application.setStatusCode(ApplicationStatus.WITHDRAWN);
+            ticket = journal.enqueue(JournalRecord.applicationSaved(application));
+        } finally {
+            lock.unlock();
         }
+        journal.await(ticket);
+        return true;
+    }
 
-        application.setStatus("Withdrawn");
+    public boolean rejectWithdrawal(Application application) {
+        long ticket;
+        ReentrantLock lock = lockStudent(application.getStudentId());
+        try {
+            if (!application.getWithdrawalCode().canMoveTo(WithdrawalStatus.REJECTED)) {
+                return false;
+            }
+            application.setWithdrawalCode(WithdrawalStatus.REJECTED);
+            pendingWithdrawals.remove(application.getId(), application);
+            ticket = journal.enqueue(JournalRecord.applicationSaved(application));
+        } finally {
+            lock.unlock();
+        }
+        journal.await(ticket);
+        return true;
     }
 
     public void removeApplicationsForInternship(int internshipId) {
-        applications.removeIf(app -> app.getInternship().getId() == internshipId);
+        // Every stripe, so no applicant can attach to or accept from the internship midway through the unlink.
+        // Postings are only deleted by their company, so this is rare enough to stop all students briefly;
+        // the wait for the disk comes after they are let go.
+        long ticket;
+        studentLocks.lockAll();
+        try {
+            SortedIntObjectMap<Application> removed = applicationsByInternship.remove(internshipId);
+            if (removed == null) {
+                return;
+            }
+
+            for (Application app : removed) {
+                applicationsById.remove(app.getId());
+                appliedKeys.remove(new AppliedKey(app.getStudentId(), internshipId));
+                pendingWithdrawals.remove(app.getId(), app);
+
+                List<Application> studentApps = applicationsByStudent.get(app.getStudentId());
+                if (studentApps != null) {
+                    studentApps.remove(app);
+                    if (studentApps.isEmpty()) {
+                        applicationsByStudent.remove(app.getStudentId());
+                    }
+                }
+            }
+            ticket = journal.enqueue(JournalRecord.applicationsRemoved(internshipId));
+        } finally {
+            studentLocks.unlockAll();
+        }
+        journal.await(ticket);
+    }
+
+    public int rejectPendingApplications(int internshipId) {
+        int rejected = 0;
+        long ticket = 0;
+        for (Application app : getApplicationsForInternship(internshipId)) {
+            ReentrantLock lock = lockStudent(app.getStudentId());
+            try {
+                // Re-check under the lock: the company may have decided on it in the meantime
+                if (app.getStatusCode() == ApplicationStatus.PENDING) {
+                    app.setStatusCode(ApplicationStatus.UNSUCCESSFUL);
+                    ticket = journal.enqueue(JournalRecord.applicationSaved(app));
+                    rejected++;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        journal.await(ticket);
+        return rejected;
+    }
+
+    public Application getApplicationById(int applicationId) {
+        return applicationsById.get(applicationId);
+    }
+
+    /**
+     * Register an application recreated from persisted state, bypassing the application rules.
+     * Re-registering a known application refreshes the withdrawal queue from its current state.
+     */
+    public void restoreApplication(Application application) {
+        ReentrantLock lock = lockStudent(application.getStudentId());
+        try {
+            if (!applicationsById.containsKey(application.getId())) {
+                index(application);
+            }
+            if (application.getWithdrawalCode() == WithdrawalStatus.PENDING) {
+                pendingWithdrawals.put(application.getId(), application);
+            } else {
+                pendingWithdrawals.remove(application.getId(), application);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Callers must hold the student's lock stripe
+    private void index(Application application) {
+        applicationsById.put(application.getId(), application);
+        applicationsByStudent.computeIfAbsent(application.getStudentId(), k -> new ArrayList<>()).add(application);
+        applicationsByInternship.computeIfAbsent(application.getInternship().getId(), k -> new SortedIntObjectMap<>())
+            .put(application.getId(), application);
+        appliedKeys.add(new AppliedKey(application.getStudentId(), application.getInternship().getId()));
+    }
+
+    private ReentrantLock lockStudent(String studentId) {
+        ReentrantLock lock = studentLocks.forKey(studentId);
+        lock.lock();
+        return lock;
+    }
+
+    // Callers must hold the student's lock stripe
+    private List<Application> studentApplications(String studentId) {
+        List<Application> studentApps = applicationsByStudent.get(studentId);
+        return studentApps == null ? Collections.emptyList() : studentApps;
+    }
+
+    /**
+     * (studentId, internshipId) pair used for constant-time duplicate application checks.
+     */
+    private record AppliedKey(String studentId, int internshipId) {
     }
 }
\ No newline at end of file
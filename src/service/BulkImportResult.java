@@ -0,0 +1,62 @@
+package service;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a bulk import: how many rows were read, kept and rejected, and how fast.
+ */
+public class BulkImportResult {
+    private final long rowsRead;
+    private final long imported;
+    private final long rejected;
+    private final long duplicates;
+    private final long elapsedNanos;
+    private final List<String> rejectionSamples;
+
+    public BulkImportResult(long rowsRead, long imported, long rejected, long duplicates,
+                            long elapsedNanos, List<String> rejectionSamples) {
+        this.rowsRead = rowsRead;
+        this.imported = imported;
+        this.rejected = rejected;
+        this.duplicates = duplicates;
+        this.elapsedNanos = elapsedNanos;
+        this.rejectionSamples = Collections.unmodifiableList(rejectionSamples);
+    }
+
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    /**
+     * Rows skipped because they were malformed or failed validation.
+     */
+    public long getRejected() {
+        return rejected;
+    }
+
+    /**
+     * Valid rows skipped because a user with the same ID already existed.
+     */
+    public long getDuplicates() {
+        return duplicates;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getRowsPerSecond() {
+        return elapsedNanos == 0 ? 0 : rowsRead / (elapsedNanos / 1e9);
+    }
+
+    /**
+     * The first few rejection messages, with line numbers, in file order.
+     */
+    public List<String> getRejectionSamples() {
+        return rejectionSamples;
+    }
+}
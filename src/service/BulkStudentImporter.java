@@ -0,0 +1,252 @@
+package service;
+import java.io.CharArrayReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import model.Student;
+import ui.ConsoleUI;
+import util.CsvReader;
+
+/**
+ * Imports large student rosters in parallel.
+ * The file is memory-mapped and cut into chunks on record boundaries; chunks are parsed and validated
+ * on a ForkJoin pool and the surviving students are added to the user manager in one bulk call.
+ * Split points come from one sequential pass that follows CsvReader's quoting rules, so a line break
+ * inside a quoted field never starts a chunk.
+ */
+public class BulkStudentImporter {
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final long MIN_CHUNK_BYTES = 1 << 20;
+    private static final int MAX_REJECTION_SAMPLES = 10;
+    private static final int SCAN_BUFFER_BYTES = 1 << 16;
+
+    // Where the boundary scan is within a record, matching CsvReader's states
+    private static final int FIELD_START = 0;
+    private static final int UNQUOTED = 1;
+    private static final int QUOTED = 2;
+    private static final int AFTER_QUOTE = 3;
+
+    private IUserManager userManager;
+    private StudentRowParser rowParser;
+    private ConsoleUI ui;
+    private ForkJoinPool pool;
+
+    public BulkStudentImporter(IUserManager userManager,
+                               IValidationService validationService,
+                               ConsoleUI ui) {
+        this(userManager, validationService, ui, ForkJoinPool.commonPool());
+    }
+
+    public BulkStudentImporter(IUserManager userManager,
+                               IValidationService validationService,
+                               ConsoleUI ui,
+                               ForkJoinPool pool) {
+        this.userManager = userManager;
+        this.rowParser = new StudentRowParser(validationService);
+        this.ui = ui;
+        this.pool = pool;
+    }
+
+    /**
+     * Import students from a CSV file with the same columns as students.csv and report the outcome.
+     */
+    public BulkImportResult importStudents(String filePath) throws IOException {
+        long start = System.nanoTime();
+        Path path = Paths.get(filePath);
+
+        ChunkResult parsed;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long[] boundaries = chunkBoundaries(channel, pool.getParallelism());
+            try {
+                parsed = pool.invoke(new ChunkTask(channel, rowParser, boundaries, 0, boundaries.length - 1));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+
+        int added = userManager.addUsers(parsed.students);
+        long duplicates = parsed.students.size() - added;
+        BulkImportResult result = new BulkImportResult(parsed.rows, added, parsed.rejected, duplicates,
+            System.nanoTime() - start, parsed.sampleMessages());
+
+        ui.displayMessage(String.format("Imported %,d students from %s in %d ms (%,.0f rows/s); %,d rejected, %,d duplicates",
+            result.getImported(), filePath, result.getElapsedNanos() / 1_000_000, result.getRowsPerSecond(),
+            result.getRejected(), result.getDuplicates()));
+        for (String sample : result.getRejectionSamples()) {
+            ui.displayError(sample);
+        }
+        return result;
+    }
+
+    /**
+     * Split points for the file: chunk i spans [boundaries[i], boundaries[i + 1]).
+     * Every inner boundary sits just after a line break that ends a record. The bytes are walked in order
+     * to track quoting; the structural characters are ASCII, so UTF-8 text needs no decoding for this.
+     */
+    private static long[] chunkBoundaries(FileChannel channel, int parallelism) throws IOException {
+        long size = channel.size();
+        int chunks = (int) Math.max(1, Math.min((long) parallelism * CHUNKS_PER_THREAD, size / MIN_CHUNK_BYTES));
+        long target = size / chunks;
+
+        long[] boundaries = new long[chunks + 1];
+        int count = 1;
+        ByteBuffer probe = ByteBuffer.allocate(SCAN_BUFFER_BYTES);
+        byte[] bytes = probe.array();
+        int state = FIELD_START;
+        long position = 0;
+        while (count < chunks) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read && count < chunks; i++) {
+                byte b = bytes[i];
+                if (state == QUOTED) {
+                    if (b == '"') {
+                        state = AFTER_QUOTE;
+                    }
+                    continue;
+                }
+                if (b == '"' && state != UNQUOTED) {
+                    // Opens a quoted field, or is the second half of an escaped quote; elsewhere it is literal
+                    state = QUOTED;
+                } else if (b == ',' || b == '\r') {
+                    state = FIELD_START;
+                } else if (b == '\n') {
+                    state = FIELD_START;
+                    long recordStart = position + i + 1;
+                    if (recordStart >= target * count && recordStart < size) {
+                        boundaries[count++] = recordStart;
+                    }
+                } else {
+                    state = UNQUOTED;
+                }
+            }
+            position += read;
+        }
+        boundaries[count++] = size;
+        return Arrays.copyOf(boundaries, count);
+    }
+
+    /**
+     * Parses a range of chunks, splitting the range until a single chunk remains.
+     */
+    private static class ChunkTask extends RecursiveTask<ChunkResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient FileChannel channel;
+        private final transient StudentRowParser rowParser;
+        private final long[] boundaries;
+        private final int from;
+        private final int to;
+
+        ChunkTask(FileChannel channel, StudentRowParser rowParser, long[] boundaries, int from, int to) {
+            this.channel = channel;
+            this.rowParser = rowParser;
+            this.boundaries = boundaries;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected ChunkResult compute() {
+            if (to - from == 1) {
+                try {
+                    return parseChunk(channel, rowParser, boundaries[from], boundaries[to], from == 0);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            int mid = (from + to) >>> 1;
+            ChunkTask right = new ChunkTask(channel, rowParser, boundaries, mid, to);
+            right.fork();
+            ChunkResult left = new ChunkTask(channel, rowParser, boundaries, from, mid).compute();
+            return left.append(right.join());
+        }
+    }
+
+    private static ChunkResult parseChunk(FileChannel channel, StudentRowParser rowParser, long start, long end,
+                                          boolean hasHeader) throws IOException {
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        CharBuffer chars = StandardCharsets.UTF_8.decode(mapped);
+        ChunkResult result = new ChunkResult();
+
+        CsvReader csv = new CsvReader(new CharArrayReader(chars.array(), chars.arrayOffset() + chars.position(),
+            chars.remaining()));
+        try {
+            if (hasHeader) {
+                csv.next();
+            }
+            while (csv.next()) {
+                result.rows++;
+                Student student = rowParser.parse(csv, result::reject);
+                if (student != null) {
+                    result.students.add(student);
+                }
+            }
+        } catch (IOException e) {
+            // An unterminated quote swallows the rest of the chunk; count it as one bad row
+            result.rows++;
+            result.reject(csv.getLineNumber(), e.getMessage());
+        }
+        // CsvReader counts lines from 1, so after the last record this is one past the chunk's line count
+        result.lines = csv.getLineNumber() - 1;
+        return result;
+    }
+
+    /**
+     * Students and rejections from a run of consecutive chunks, kept in file order.
+     */
+    private static class ChunkResult {
+        private final List<Student> students = new ArrayList<>();
+        private final List<String> samples = new ArrayList<>();
+        private final List<Long> sampleLines = new ArrayList<>();
+        private long rows;
+        private long rejected;
+        private long lines;
+
+        void reject(long line, String reason) {
+            rejected++;
+            if (samples.size() < MAX_REJECTION_SAMPLES) {
+                samples.add(reason);
+                sampleLines.add(line);
+            }
+        }
+
+        // Line numbers are local to the run until merged; shift the right-hand run past this one
+        ChunkResult append(ChunkResult next) {
+            students.addAll(next.students);
+            for (int i = 0; i < next.samples.size() && samples.size() < MAX_REJECTION_SAMPLES; i++) {
+                samples.add(next.samples.get(i));
+                sampleLines.add(next.sampleLines.get(i) + lines);
+            }
+            rows += next.rows;
+            rejected += next.rejected;
+            lines += next.lines;
+            return this;
+        }
+
+        List<String> sampleMessages() {
+            List<String> messages = new ArrayList<>();
+            for (int i = 0; i < samples.size(); i++) {
+                messages.add("Rejected line " + sampleLines.get(i) + ": " + samples.get(i));
+            }
+            return messages;
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package service;
-import java.io.BufferedReader;
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
+import model.CompanyRep;
 import model.Staff;
 import model.Student;
 import ui.ConsoleUI;
+import util.BusinessRules;
+import util.CsvReader;
 
 /**
  * Loads user data from CSV files into the application.
@@ -25,82 +31,122 @@ public class CSVLoaderService {
 
     /**
      * Load students from a CSV file.
+     * @return the number of students added
      */
-    public void loadStudents(String filePath) {
-        try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            boolean firstLine = true;
-            int studentCount = 0;
-
-            while ((line = br.readLine()) != null) {
-                if (firstLine) {
-                    firstLine = false;
-                    continue; // Skip header
-                }
+    public int loadStudents(String filePath) {
+        File file = new File(filePath);
+        if (file.length() >= BusinessRules.BULK_IMPORT_MIN_BYTES) {
+            try {
+                return (int) new BulkStudentImporter(userManager, validationService, ui)
+                    .importStudents(filePath).getImported();
+            } catch (Exception e) {
+                ui.displayError("Error reading student file: " + e.getMessage());
+                return 0;
+            }
+        }
 
-                String[] parts = line.split(",");
-                if (parts.length == 5) {
-                    String id = parts[0].trim();
+        try (CsvReader csv = new CsvReader(new FileReader(filePath))) {
+            List<Student> students = new ArrayList<>();
+            StudentRowParser rowParser = new StudentRowParser(validationService);
+            StudentRowParser.Rejections skip = (line, reason) ->
+                ui.displayError("Skipping line " + line + ": " + reason);
+            csv.next(); // Skip header
 
-                    // Validate student ID format
-                    if (!validationService.isValidStudentId(id)) {
-                        ui.displayError("Invalid student ID format '" + id +
-                            "' - skipping entry. Expected format: U#######L");
-                        continue;
+            try {
+                while (csv.next()) {
+                    // One bad row must not cost the rest of the roster
+                    Student student = rowParser.parse(csv, skip);
+                    if (student != null) {
+                        students.add(student);
                     }
-
-                    String password = parts[1].trim();
-                    String name = parts[2].trim();
-                    String major = parts[3].trim();
-                    int year = Integer.parseInt(parts[4].trim());
-
-                    Student student = new Student(id, password, name, year, major);
-                    userManager.addUser(student);
-                    studentCount++;
                 }
+            } catch (IOException e) {
+                // An unterminated quote swallows the rest of the file; keep the rows before it
+                skip.reject(csv.getLineNumber(), e.getMessage());
             }
+            int studentCount = userManager.addUsers(students);
             ui.displayMessage("Loaded " + studentCount + " students from " + filePath);
+            return studentCount;
         } catch (FileNotFoundException e) {
             ui.displayError("Student CSV file not found: " + filePath);
         } catch (Exception e) {
             ui.displayError("Error reading student file: " + e.getMessage());
         }
+        return 0;
     }
 
     /**
      * Load staff from a CSV file.
+     * @return the number of staff added
      */
-    public void loadStaff(String filePath) {
-        try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            boolean firstLine = true;
-            int staffCount = 0;
-
-            while ((line = br.readLine()) != null) {
-                if (firstLine) {
-                    firstLine = false;
-                    continue; // Skip header
-                }
+    public int loadStaff(String filePath) {
+        try (CsvReader csv = new CsvReader(new FileReader(filePath))) {
+            List<Staff> staffList = new ArrayList<>();
+            csv.next(); // Skip header
 
-                String[] parts = line.split(",");
-                if (parts.length == 5) {
-                    String id = parts[0].trim();
-                    String password = parts[1].trim();
-                    String email = parts[2].trim();
-                    String name = parts[3].trim();
-                    String department = parts[4].trim();
+            while (csv.next()) {
+                if (csv.getFieldCount() == 5) {
+                    String id = csv.getField(0);
+                    String password = csv.getField(1);
+                    String email = csv.getField(2);
+                    String name = csv.getField(3);
+                    String department = csv.getSymbol(4);
 
                     Staff staff = new Staff(id, password, name, department);
                     staff.setEmail(email);
-                    userManager.addUser(staff);
-                    staffCount++;
+                    staffList.add(staff);
                 }
             }
+            int staffCount = userManager.addUsers(staffList);
             ui.displayMessage("Loaded " + staffCount + " staff members from " + filePath);
+            return staffCount;
         } catch (FileNotFoundException e) {
             ui.displayError("Staff CSV file not found: " + filePath);
         } catch (Exception e) {
             ui.displayError("Error reading staff file: " + e.getMessage());
         }
+        return 0;
+    }
+
+    /**
+     * Load company representatives from a CSV file.
+     * The file carries no passwords, so reps start with the default password. Approved reps can log in
+     * straight away, pending ones join the staff approval queue and rejected ones are skipped.
+     * @return the number of representatives added
+     */
+    public int loadCompanyReps(String filePath) {
+        try (CsvReader csv = new CsvReader(new FileReader(filePath))) {
+            List<CompanyRep> approvedReps = new ArrayList<>();
+            int repCount = 0;
+            csv.next(); // Skip header
+
+            while (csv.next()) {
+                if (csv.getFieldCount() == 7) {
+                    String id = csv.getField(0);
+                    String name = csv.getField(1);
+                    String companyName = csv.getField(2);
+                    String department = csv.getField(3);
+                    String position = csv.getField(4);
+                    String status = csv.getField(6);
+
+                    CompanyRep rep = new CompanyRep(id, BusinessRules.DEFAULT_PASSWORD, name,
+                        companyName, department, position);
+                    if (status.equalsIgnoreCase("Approved")) {
+                        rep.setApproved(true);
+                        approvedReps.add(rep);
+                    } else if (!status.equalsIgnoreCase("Rejected") && userManager.addPendingCompanyRep(rep)) {
+                        repCount++;
+                    }
+                }
+            }
+            repCount += userManager.addUsers(approvedReps);
+            ui.displayMessage("Loaded " + repCount + " company representatives from " + filePath);
+            return repCount;
+        } catch (FileNotFoundException e) {
+            ui.displayError("Company representative CSV file not found: " + filePath);
+        } catch (Exception e) {
+            ui.displayError("Error reading company representative file: " + e.getMessage());
+        }
+        return 0;
     }
 }
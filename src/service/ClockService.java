@@ -0,0 +1,45 @@
+package service;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Supplies today's date from a {@link Clock}, working it out once per day.
+ * Between midnights a call costs one clock read and a range check; the first call after midnight
+ * recomputes the date and the next boundary.
+ */
+public class ClockService implements IClockService {
+    private final Clock clock;
+    private final ZoneId zone;
+    // today is written before the bounds, and the bounds are read first, so a reader that sees the
+    // new bounds also sees the new date
+    private volatile int today;
+    private volatile long dayStartMillis;
+    private volatile long nextDayStartMillis;
+
+    public ClockService() {
+        this(Clock.systemDefaultZone());
+    }
+
+    public ClockService(Clock clock) {
+        this.clock = clock;
+        this.zone = clock.getZone();
+        refresh(clock.millis());
+    }
+
+    public int today() {
+        long now = clock.millis();
+        if (now >= nextDayStartMillis || now < dayStartMillis) {
+            refresh(now);
+        }
+        return today;
+    }
+
+    private synchronized void refresh(long now) {
+        LocalDate date = LocalDate.ofInstant(Instant.ofEpochMilli(now), zone);
+        today = (int) date.toEpochDay();
+        dayStartMillis = date.atStartOfDay(zone).toInstant().toEpochMilli();
+        nextDayStartMillis = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,741 @@
+package service;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import model.Application;
+import model.ApplicationStatus;
+import model.Internship;
+import model.Student;
+import model.WithdrawalStatus;
+import persistence.Journal;
+import persistence.Journaled;
+import persistence.JournalRecord;
+import util.BusinessRules;
+import util.primitive.IntObjectMap;
+
+import static service.ApplicationColumns.NO_KEY;
+import static service.ApplicationColumns.NO_ROW;
+
+/**
+ * Application manager that stores applications as rows of primitive columns instead of one object each.
+ * Each row holds an application's id, student key, internship key and status bytes; students and
+ * internships are stored once and referred to by small int keys, and each one's applications are chained
+ * through next-row columns. An application therefore costs a few dozen bytes rather than an object graph
+ * plus several index entries.
+ * Callers get flyweight {@link Application} views that read and write the columns; views of the same
+ * application are equal. Rows of removed applications are recycled for new ones, so a view of a removed
+ * application stays readable only until its row is reused, and then throws IllegalStateException.
+ * One read-write lock guards every column, trading ApplicationManager's per-student striping for density.
+ * Changes are queued to the journal under that lock, so records keep lock order, but callers wait for them
+ * to reach disk only after releasing it; one caller's fsync never holds up the others.
+ * The rules are the same as ApplicationManager's.
+ */
+public class ColumnarApplicationManager implements IApplicationManager, Journaled {
+    private static final byte PLACEMENT_ACCEPTED = 0x01;
+
+    private final ReentrantReadWriteLock lock;
+    private final IClockService clock;
+    private final ApplicationColumns columns;
+    private volatile Journal journal;
+    // Internships by key; the columns only know their ids
+    private final List<Internship> internships;
+    // Few applications ever carry a reason, so reasons are kept aside by row
+    private final IntObjectMap<String> withdrawalReasons;
+    private final TreeSet<Integer> pendingWithdrawals;
+
+    public ColumnarApplicationManager() {
+        this(new ClockService());
+    }
+
+    public ColumnarApplicationManager(IClockService clock) {
+        this(clock, new HeapApplicationColumns());
+    }
+
+    ColumnarApplicationManager(IClockService clock, ApplicationColumns columns) {
+        this.lock = new ReentrantReadWriteLock();
+        this.clock = clock;
+        this.columns = columns;
+        this.journal = Journal.NONE;
+        this.internships = new ArrayList<>();
+        this.withdrawalReasons = new IntObjectMap<>();
+        this.pendingWithdrawals = new TreeSet<>();
+    }
+
+    public void setJournal(Journal journal) {
+        this.journal = journal;
+    }
+
+    public boolean applyForInternship(Student student, Internship internship) {
+        if (!student.canApplyForLevel(internship.getLevel())) {
+            return false;
+        }
+
+        long ticket;
+        lock.writeLock().lock();
+        try {
+            int studentKey = columns.findStudent(student.getUserId());
+            if (studentKey != NO_KEY && countPending(studentKey) >= BusinessRules.MAX_APPLICATIONS_PER_STUDENT) {
+                return false;
+            }
+            if (!internship.isOpenForApplications(clock.today())) {
+                return false;
+            }
+            int internshipKey = columns.findInternship(internship.getId());
+            if (studentKey != NO_KEY && internshipKey != NO_KEY && findRow(studentKey, internshipKey) != NO_ROW) {
+                return false;
+            }
+
+            int row = append(Application.nextId(), student.getUserId(), internship);
+            ticket = journal.enqueue(JournalRecord.applicationSaved(new Row(row)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        journal.await(ticket);
+        return true;
+    }
+
+    public boolean hasAppliedToInternship(String studentId, int internshipId) {
+        lock.readLock().lock();
+        try {
+            int studentKey = columns.findStudent(studentId);
+            int internshipKey = columns.findInternship(internshipId);
+            return studentKey != NO_KEY && internshipKey != NO_KEY && findRow(studentKey, internshipKey) != NO_ROW;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getApplicationCount(String studentId) {
+        lock.readLock().lock();
+        try {
+            int studentKey = columns.findStudent(studentId);
+            return studentKey == NO_KEY ? 0 : countPending(studentKey);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Application> getApplicationsForStudent(String studentId) {
+        List<Application> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            int studentKey = columns.findStudent(studentId);
+            if (studentKey != NO_KEY) {
+                for (int row = columns.firstRowOfStudent(studentKey); row != NO_ROW; row = columns.nextForStudent(row)) {
+                    result.add(new Row(row));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    public List<Application> getSuccessfulApplications(String studentId) {
+        List<Application> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            int studentKey = columns.findStudent(studentId);
+            if (studentKey != NO_KEY) {
+                for (int row = columns.firstRowOfStudent(studentKey); row != NO_ROW; row = columns.nextForStudent(row)) {
+                    if (status(row) == ApplicationStatus.SUCCESSFUL && !isAccepted(row)) {
+                        result.add(new Row(row));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    public List<Application> getApplicationsForInternship(int internshipId) {
+        // Views are made under the same lock as the walk: a row freed in between could be refilled by another application
+        lock.readLock().lock();
+        try {
+            int[] rowsInOrder = internshipRows(internshipId);
+            List<Application> result = new ArrayList<>(rowsInOrder.length);
+            for (int row : rowsInOrder) {
+                result.add(new Row(row));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Stream<Application> streamApplicationsForInternship(int internshipId) {
+        return getApplicationsForInternship(internshipId).stream();
+    }
+
+    public Page<Application> getApplicationsForInternship(int internshipId, String cursor, int limit) {
+        Page.requirePositive(limit);
+        Integer after = Page.idAfter(cursor);
+        lock.readLock().lock();
+        try {
+            int[] rowsInOrder = internshipRows(internshipId);
+            int start = 0;
+            if (after != null) {
+                while (start < rowsInOrder.length && columns.id(rowsInOrder[start]) <= after) {
+                    start++;
+                }
+            }
+            int end = Math.min(rowsInOrder.length, start + limit);
+            List<Application> items = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                items.add(new Row(rowsInOrder[i]));
+            }
+            return new Page<>(items, end < rowsInOrder.length ? Page.idCursor(columns.id(rowsInOrder[end - 1])) : null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean updateApplicationStatus(Application application, String status) {
+        ApplicationStatus next = ApplicationStatus.fromLabel(status);
+        long ticket;
+        lock.writeLock().lock();
+        try {
+            int row = columns.rowOf(application.getId());
+            if (row == NO_ROW || !status(row).canMoveTo(next)) {
+                return false;
+            }
+            columns.setStatus(row, (byte) next.ordinal());
+            ticket = journal.enqueue(JournalRecord.applicationSaved(new Row(row)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        journal.await(ticket);
+        return true;
+    }
+
+    public boolean acceptPlacement(String studentId, Application acceptedApp) {
+        long ticket;
+        lock.writeLock().lock();
+        try {
+            int accepted = columns.rowOf(acceptedApp.getId());
+            if (accepted == NO_ROW || !columns.studentId(columns.studentKey(accepted)).equals(studentId)
+                    || isAccepted(accepted) || status(accepted) != ApplicationStatus.SUCCESSFUL) {
+                return false;
+            }
+            int studentKey = columns.studentKey(accepted);
+            for (int row = columns.firstRowOfStudent(studentKey); row != NO_ROW; row = columns.nextForStudent(row)) {
+                if (isAccepted(row)) {
+                    return false;
+                }
+            }
+
+            if (!internships.get(columns.internshipKey(accepted)).tryReserveSlot()) {
+                return false;
+            }
+            setAccepted(accepted, true);
+            ticket = journal.enqueue(JournalRecord.applicationSaved(new Row(accepted)));
+
+            for (int row = columns.firstRowOfStudent(studentKey); row != NO_ROW; row = columns.nextForStudent(row)) {
+                if (row != accepted && status(row).canMoveTo(ApplicationStatus.WITHDRAWN)) {
+                    columns.setStatus(row, (byte) ApplicationStatus.WITHDRAWN.ordinal());
+                    ticket = journal.enqueue(JournalRecord.applicationSaved(new Row(row)));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        journal.await(ticket);
+        return true;
+    }
+
+    public boolean requestWithdrawal(String studentId, int applicationId, String reason) {
+        long ticket;
+        lock.writeLock().lock();
+        try {
+            int row = columns.rowOf(applicationId);
+            if (row == NO_ROW || !columns.studentId(columns.studentKey(row)).equals(studentId) || !isWithdrawable(row)) {
+                return false;
+            }
+            setReason(row, reason);
+            columns.setWithdrawal(row, (byte) WithdrawalStatus.PENDING.ordinal());
+            pendingWithdrawals.add(applicationId);
+            ticket = journal.enqueue(JournalRecord.applicationSaved(new Row(row)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        journal.await(ticket);
+        return true;
+    }
+
+    public List<Application> getWithdrawableApplications(String studentId) {
+        List<Application> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            int studentKey = columns.findStudent(studentId);
+            if (studentKey != NO_KEY) {
+                for (int row = columns.firstRowOfStudent(studentKey); row != NO_ROW; row = columns.nextForStudent(row)) {
+                    if (isWithdrawable(row)) {
+                        result.add(new Row(row));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    public List<Application> getPendingWithdrawals() {
+        List<Application> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int id : pendingWithdrawals) {
+                int row = columns.rowOf(id);
+                if (withdrawal(row) == WithdrawalStatus.PENDING) {
+                    result.add(new Row(row));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    public Stream<Application> streamPendingWithdrawals() {
+        return getPendingWithdrawals().stream();
+    }
+
+    public Page<Application> getPendingWithdrawals(String cursor, int limit) {
+        Page.requirePositive(limit);
+        Integer after = Page.idAfter(cursor);
+        List<Application> items = new ArrayList<>(Math.min(limit, 256));
+        boolean more = false;
+        lock.readLock().lock();
+        try {
+            for (int id : after == null ? pendingWithdrawals : pendingWithdrawals.tailSet(after, false)) {
+                int row = columns.rowOf(id);
+                if (withdrawal(row) != WithdrawalStatus.PENDING) {
+                    continue;
+                }
+                if (items.size() == limit) {
+                    more = true;
+                    break;
+                }
+                items.add(new Row(row));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new Page<>(items, more ? Page.idCursor(items.get(items.size() - 1).getId()) : null);
+    }
+
+    public boolean approveWithdrawal(Application application) {
+        long ticket;
+        lock.writeLock().lock();
+        try {
+            int row = columns.rowOf(application.getId());
+            if (row == NO_ROW || !withdrawal(row).canMoveTo(WithdrawalStatus.APPROVED)
+                    || !status(row).canMoveTo(ApplicationStatus.WITHDRAWN)) {
+                return false;
+            }
+            columns.setWithdrawal(row, (byte) WithdrawalStatus.APPROVED.ordinal());
+            pendingWithdrawals.remove(columns.id(row));
+
+            // Only an accepted placement holds a slot that needs returning
+            if (isAccepted(row)) {
+                setAccepted(row, false);
+                internships.get(columns.internshipKey(row)).releaseSlot();
+            }
+
+            columns.setStatus(row, (byte) ApplicationStatus.WITHDRAWN.ordinal());
+            ticket = journal.enqueue(JournalRecord.applicationSaved(new Row(row)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        journal.await(ticket);
+        return true;
+    }
+
+    public boolean rejectWithdrawal(Application application) {
+        long ticket;
+        lock.writeLock().lock();
+        try {
+            int row = columns.rowOf(application.getId());
+            if (row == NO_ROW || !withdrawal(row).canMoveTo(WithdrawalStatus.REJECTED)) {
+                return false;
+            }
+            columns.setWithdrawal(row, (byte) WithdrawalStatus.REJECTED.ordinal());
+            pendingWithdrawals.remove(columns.id(row));
+            ticket = journal.enqueue(JournalRecord.applicationSaved(new Row(row)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        journal.await(ticket);
+        return true;
+    }
+
+    public void removeApplicationsForInternship(int internshipId) {
+        long ticket;
+        lock.writeLock().lock();
+        try {
+            int internshipKey = columns.findInternship(internshipId);
+            if (internshipKey == NO_KEY || columns.firstRowOfInternship(internshipKey) == NO_ROW) {
+                return;
+            }
+            for (int row = columns.firstRowOfInternship(internshipKey); row != NO_ROW; row = columns.nextForInternship(row)) {
+                unlinkFromStudent(row);
+                pendingWithdrawals.remove(columns.id(row));
+                withdrawalReasons.remove(row);
+                // Freeing leaves the internship chain alone, so the walk can carry on from this row
+                columns.freeRow(row);
+            }
+            columns.setFirstRowOfInternship(internshipKey, NO_ROW);
+            columns.setLastRowOfInternship(internshipKey, NO_ROW);
+            ticket = journal.enqueue(JournalRecord.applicationsRemoved(internshipId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        journal.await(ticket);
+    }
+
+    public int rejectPendingApplications(int internshipId) {
+        int rejected = 0;
+        long ticket = 0;
+        lock.writeLock().lock();
+        try {
+            int internshipKey = columns.findInternship(internshipId);
+            if (internshipKey == NO_KEY) {
+                return 0;
+            }
+            for (int row = columns.firstRowOfInternship(internshipKey); row != NO_ROW; row = columns.nextForInternship(row)) {
+                if (status(row) == ApplicationStatus.PENDING) {
+                    columns.setStatus(row, (byte) ApplicationStatus.UNSUCCESSFUL.ordinal());
+                    ticket = journal.enqueue(JournalRecord.applicationSaved(new Row(row)));
+                    rejected++;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        journal.await(ticket);
+        return rejected;
+    }
+
+    public Application getApplicationById(int applicationId) {
+        lock.readLock().lock();
+        try {
+            int row = columns.rowOf(applicationId);
+            return row == NO_ROW ? null : new Row(row);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Register an application recreated from persisted state, bypassing the application rules.
+     * Applications from elsewhere are copied into a row; re-registering a known one refreshes its row
+     * and the withdrawal queue from its current state.
+     */
+    public void restoreApplication(Application application) {
+        lock.writeLock().lock();
+        try {
+            int row = columns.rowOf(application.getId());
+            if (row == NO_ROW) {
+                row = append(application.getId(), application.getStudentId(), application.getInternship());
+            }
+            if (!(application instanceof Row)) {
+                columns.setStatus(row, (byte) application.getStatusCode().ordinal());
+                columns.setWithdrawal(row, (byte) application.getWithdrawalCode().ordinal());
+                setAccepted(row, application.isPlacementAccepted());
+                setReason(row, application.getWithdrawalReason());
+            }
+            if (withdrawal(row) == WithdrawalStatus.PENDING) {
+                pendingWithdrawals.add(columns.id(row));
+            } else {
+                pendingWithdrawals.remove(columns.id(row));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Free the column storage now, under the write lock so no reader is mid-walk.
+     * For off-heap columns this returns their memory without waiting for a collection; the manager must
+     * not be used afterwards.
+     */
+    public void release() {
+        lock.writeLock().lock();
+        try {
+            columns.release();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Everything below expects the caller to hold the lock; methods that change state need the write lock
+
+    private int append(int id, String studentId, Internship internship) {
+        int studentKey = columns.addStudent(studentId);
+        int internshipKey = columns.addInternship(internship.getId());
+        if (internshipKey == internships.size()) {
+            internships.add(internship);
+        }
+
+        int row = columns.addRow(id, studentKey, internshipKey);
+        columns.setStatus(row, (byte) ApplicationStatus.PENDING.ordinal());
+        columns.setWithdrawal(row, (byte) WithdrawalStatus.NONE.ordinal());
+        columns.setRowOf(id, row);
+
+        int lastForStudent = columns.lastRowOfStudent(studentKey);
+        if (lastForStudent == NO_ROW) {
+            columns.setFirstRowOfStudent(studentKey, row);
+        } else {
+            columns.setNextForStudent(lastForStudent, row);
+        }
+        columns.setLastRowOfStudent(studentKey, row);
+
+        int lastForInternship = columns.lastRowOfInternship(internshipKey);
+        if (lastForInternship == NO_ROW) {
+            columns.setFirstRowOfInternship(internshipKey, row);
+        } else {
+            columns.setNextForInternship(lastForInternship, row);
+        }
+        columns.setLastRowOfInternship(internshipKey, row);
+        return row;
+    }
+
+    private void unlinkFromStudent(int row) {
+        int studentKey = columns.studentKey(row);
+        int previous = NO_ROW;
+        for (int current = columns.firstRowOfStudent(studentKey); current != row; current = columns.nextForStudent(current)) {
+            previous = current;
+        }
+        if (previous == NO_ROW) {
+            columns.setFirstRowOfStudent(studentKey, columns.nextForStudent(row));
+        } else {
+            columns.setNextForStudent(previous, columns.nextForStudent(row));
+        }
+        if (columns.lastRowOfStudent(studentKey) == row) {
+            columns.setLastRowOfStudent(studentKey, previous);
+        }
+    }
+
+    private int findRow(int studentKey, int internshipKey) {
+        for (int row = columns.firstRowOfStudent(studentKey); row != NO_ROW; row = columns.nextForStudent(row)) {
+            if (columns.internshipKey(row) == internshipKey) {
+                return row;
+            }
+        }
+        return NO_ROW;
+    }
+
+    private int countPending(int studentKey) {
+        int count = 0;
+        for (int row = columns.firstRowOfStudent(studentKey); row != NO_ROW; row = columns.nextForStudent(row)) {
+            if (status(row) == ApplicationStatus.PENDING) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // Accepted placements are Successful, so this covers Pending, Successful and accepted applications
+    private boolean isWithdrawable(int row) {
+        return status(row).isActive() && withdrawal(row).canMoveTo(WithdrawalStatus.PENDING);
+    }
+
+    private ApplicationStatus status(int row) {
+        return ApplicationStatus.fromOrdinal(columns.status(row));
+    }
+
+    private WithdrawalStatus withdrawal(int row) {
+        return WithdrawalStatus.fromOrdinal(columns.withdrawal(row));
+    }
+
+    private boolean isAccepted(int row) {
+        return (columns.flags(row) & PLACEMENT_ACCEPTED) != 0;
+    }
+
+    private void setAccepted(int row, boolean accepted) {
+        byte flags = columns.flags(row);
+        columns.setFlags(row, (byte) (accepted ? flags | PLACEMENT_ACCEPTED : flags & ~PLACEMENT_ACCEPTED));
+    }
+
+    private void setReason(int row, String reason) {
+        if (reason == null) {
+            withdrawalReasons.remove(row);
+        } else {
+            withdrawalReasons.put(row, reason);
+        }
+    }
+
+    /**
+     * Rows of the internship's applications in id order, read under the lock.
+     * Rows are recycled, so callers that make views of them must hold the lock across both steps.
+     */
+    private int[] internshipRows(int internshipId) {
+        lock.readLock().lock();
+        try {
+            int internshipKey = columns.findInternship(internshipId);
+            if (internshipKey == NO_KEY) {
+                return new int[0];
+            }
+            int count = 0;
+            int[] result = new int[16];
+            for (int row = columns.firstRowOfInternship(internshipKey); row != NO_ROW; row = columns.nextForInternship(row)) {
+                if (count == result.length) {
+                    result = Arrays.copyOf(result, count * 2);
+                }
+                result[count++] = row;
+            }
+            // Rows are appended in id order except when restoring, so this is almost always already sorted
+            for (int i = 1; i < count; i++) {
+                if (columns.id(result[i - 1]) > columns.id(result[i])) {
+                    return Arrays.stream(result, 0, count).boxed()
+                        .sorted((a, b) -> Integer.compare(columns.id(a), columns.id(b)))
+                        .mapToInt(Integer::intValue)
+                        .toArray();
+                }
+            }
+            return Arrays.copyOf(result, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Flyweight view of one row; every accessor reads or writes the columns under the store's lock.
+     */
+    private final class Row extends Application {
+        private final int row;
+
+        // Callers must hold the lock
+        Row(int row) {
+            super(columns.id(row));
+            this.row = row;
+        }
+
+        // Callers must hold the lock. Ids are never reissued, so a row holding another id has been recycled
+        private int live() {
+            if (columns.id(row) != getId()) {
+                throw new IllegalStateException("Application " + getId() + " has been removed");
+            }
+            return row;
+        }
+
+        @Override
+        public String getStudentId() {
+            lock.readLock().lock();
+            try {
+                return columns.studentId(columns.studentKey(live()));
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public Internship getInternship() {
+            lock.readLock().lock();
+            try {
+                return internships.get(columns.internshipKey(live()));
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public ApplicationStatus getStatusCode() {
+            lock.readLock().lock();
+            try {
+                return status(live());
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public void setStatusCode(ApplicationStatus status) {
+            lock.writeLock().lock();
+            try {
+                columns.setStatus(live(), (byte) status.ordinal());
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        @Override
+        public String getWithdrawalReason() {
+            lock.readLock().lock();
+            try {
+                return withdrawalReasons.get(live());
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public void setWithdrawalReason(String withdrawalReason) {
+            lock.writeLock().lock();
+            try {
+                setReason(live(), withdrawalReason);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        @Override
+        public WithdrawalStatus getWithdrawalCode() {
+            lock.readLock().lock();
+            try {
+                return withdrawal(live());
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public void setWithdrawalCode(WithdrawalStatus withdrawalStatus) {
+            lock.writeLock().lock();
+            try {
+                columns.setWithdrawal(live(), (byte) withdrawalStatus.ordinal());
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        @Override
+        public boolean isPlacementAccepted() {
+            lock.readLock().lock();
+            try {
+                return isAccepted(live());
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public void setPlacementAccepted(boolean placementAccepted) {
+            lock.writeLock().lock();
+            try {
+                setAccepted(live(), placementAccepted);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Row && ((Row) other).getId() == getId() && ((Row) other).store() == store();
+        }
+
+        @Override
+        public int hashCode() {
+            return Integer.hashCode(getId());
+        }
+
+        private ColumnarApplicationManager store() {
+            return ColumnarApplicationManager.this;
+        }
+    }
+}
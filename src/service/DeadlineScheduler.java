@@ -0,0 +1,163 @@
+package service;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import model.Internship;
+import model.InternshipStatus;
+import util.EpochDays;
+import util.primitive.IntIntMap;
+import util.primitive.IntSet;
+
+/**
+ * Closes approved internships once their closing date has passed.
+ * Deadlines are bucketed by closing day; each tick pops the buckets for days before today and flips
+ * those postings to Closed, which moves them out of the Approved index that student listings read,
+ * so listings never compare dates. The internship manager re-tracks a posting whenever its status or
+ * closing date changes, so edits and reopened Filled postings are rescheduled.
+ * Lock order is internship, then scheduler: tracking runs under the internship's lock, and ticks release
+ * the scheduler's lock before closing anything.
+ */
+public class DeadlineScheduler implements DeadlineTracker, Closeable {
+    private static final long CLOSE_WAIT_SECONDS = 5;
+
+    private final IInternshipManager internshipManager;
+    private final IApplicationManager applicationManager;
+    private final IClockService clock;
+    private final boolean rejectPendingOnClose;
+    // Guarded by this
+    private final TreeMap<Integer, IntSet> dueByDay;
+    private final IntIntMap scheduledDay;
+    private ScheduledExecutorService timer;
+
+    /**
+     * @param rejectPendingOnClose also mark applications still Pending as Unsuccessful when a posting closes
+     */
+    public DeadlineScheduler(IInternshipManager internshipManager, IApplicationManager applicationManager,
+                             IClockService clock, boolean rejectPendingOnClose) {
+        this.internshipManager = internshipManager;
+        this.applicationManager = applicationManager;
+        this.clock = clock;
+        this.rejectPendingOnClose = rejectPendingOnClose;
+        this.dueByDay = new TreeMap<>();
+        this.scheduledDay = new IntIntMap();
+    }
+
+    /**
+     * Track every internship the manager holds, close any already overdue, and check again every period.
+     * @param checkSeconds how often to look for passed deadlines; 0 leaves ticking to the caller
+     */
+    public void start(long checkSeconds) {
+        internshipManager.setDeadlineTracker(this);
+        tick();
+        if (checkSeconds > 0) {
+            timer = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "deadline-scheduler");
+                thread.setDaemon(true);
+                return thread;
+            });
+            timer.scheduleWithFixedDelay(this::tick, checkSeconds, checkSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Schedule, move or drop an internship's deadline to match its current state.
+     * Only approved postings with a valid closing date are scheduled. Call while holding the internship's lock.
+     */
+    public synchronized void track(Internship internship) {
+        int id = internship.getId();
+        int day = internship.getClosingDay();
+        if (internship.getStatusCode() != InternshipStatus.APPROVED || day == EpochDays.INVALID) {
+            untrack(id);
+            return;
+        }
+
+        int previous = scheduledDay.getOrDefault(id, EpochDays.INVALID);
+        if (previous == day) {
+            return;
+        }
+        if (previous != EpochDays.INVALID) {
+            removeFromBucket(previous, id);
+        }
+        scheduledDay.put(id, day);
+        dueByDay.computeIfAbsent(day, k -> new IntSet()).add(id);
+    }
+
+    public synchronized void untrack(int internshipId) {
+        int previous = scheduledDay.remove(internshipId, EpochDays.INVALID);
+        if (previous != EpochDays.INVALID) {
+            removeFromBucket(previous, internshipId);
+        }
+    }
+
+    /**
+     * Close every tracked internship whose closing day is before today.
+     * @return how many internships were closed
+     */
+    public int tick() {
+        int today = clock.today();
+        List<Integer> due = new ArrayList<>();
+        synchronized (this) {
+            while (!dueByDay.isEmpty() && dueByDay.firstKey() < today) {
+                dueByDay.pollFirstEntry().getValue().forEach(id -> {
+                    scheduledDay.remove(id, EpochDays.INVALID);
+                    due.add(id);
+                });
+            }
+        }
+
+        int closed = 0;
+        for (int id : due) {
+            if (close(id, today)) {
+                closed++;
+            }
+        }
+        return closed;
+    }
+
+    /**
+     * Stop ticking and wait briefly for a tick in progress, so nothing closes postings after this returns.
+     * Call before closing the journal so a late tick cannot write to it.
+     */
+    public void close() {
+        if (timer == null) {
+            return;
+        }
+        // No interrupt: a running tick should finish journaling the postings it has closed
+        timer.shutdown();
+        try {
+            timer.awaitTermination(CLOSE_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean close(int internshipId, int today) {
+        Internship internship = internshipManager.getInternshipById(internshipId);
+        if (internship == null) {
+            return false;
+        }
+        // Re-check under the lock: the posting may have filled or been edited since it was due
+        synchronized (internship) {
+            if (internship.getStatusCode() != InternshipStatus.APPROVED || internship.getClosingDay() >= today) {
+                return false;
+            }
+            internship.setStatusCode(InternshipStatus.CLOSED);
+        }
+        if (rejectPendingOnClose) {
+            applicationManager.rejectPendingApplications(internshipId);
+        }
+        return true;
+    }
+
+    private void removeFromBucket(int day, int id) {
+        IntSet bucket = dueByDay.get(day);
+        if (bucket != null && bucket.remove(id) && bucket.isEmpty()) {
+            dueByDay.remove(day);
+        }
+    }
+}
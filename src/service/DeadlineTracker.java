@@ -0,0 +1,16 @@
+package service;
+import model.Internship;
+
+/**
+ * Told about every internship whose deadline may need watching.
+ * The internship manager calls it as postings are added, changed and removed, so trackers never scan.
+ */
+public interface DeadlineTracker {
+    /**
+     * Start, move or stop watching the internship to match its current state.
+     * Called while holding the internship's lock.
+     */
+    void track(Internship internship);
+
+    void untrack(int internshipId);
+}
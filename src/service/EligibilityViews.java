@@ -0,0 +1,95 @@
+package service;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import model.Internship;
+import model.InternshipStatus;
+import model.Student;
+
+/**
+ * Title-sorted listings of the internships each kind of student may apply for.
+ * Eligibility depends only on a student's major and on whether they are in year 1-2 (Basic level only)
+ * or later, so one view per (major, year band) serves every student. Views are updated as postings are
+ * approved, filled, closed, hidden or edited, and a student's listing is a copy of one view.
+ * Updates for an internship arrive under its own lock, so its entries move in change order.
+ */
+class EligibilityViews {
+    static final Set<Internship.Field> AFFECTING_FIELDS = EnumSet.of(
+        Internship.Field.TITLE,
+        Internship.Field.LEVEL,
+        Internship.Field.PREFERRED_MAJOR,
+        Internship.Field.STATUS,
+        Internship.Field.TOTAL_SLOTS,
+        Internship.Field.VISIBLE
+    );
+
+    private final Map<String, ConcurrentSkipListMap<TitleKey, Internship>> juniorViews;
+    private final Map<String, ConcurrentSkipListMap<TitleKey, Internship>> seniorViews;
+    // Where each listed internship currently sits, so it can be found again after its title or major changes
+    private final Map<Integer, Placement> placements;
+
+    EligibilityViews() {
+        this.juniorViews = new ConcurrentHashMap<>();
+        this.seniorViews = new ConcurrentHashMap<>();
+        this.placements = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Re-place an internship after it was added or changed. Call while holding the internship's lock.
+     */
+    void refresh(Internship internship) {
+        remove(internship);
+        if (internship.getStatusCode() != InternshipStatus.APPROVED || !internship.isVisible()
+                || internship.getAvailableSlots() <= 0 || internship.getPreferredMajor() == null) {
+            return;
+        }
+
+        TitleKey key = new TitleKey(internship.getTitle(), internship.getId());
+        String major = internship.getPreferredMajor();
+        boolean junior = "Basic".equals(internship.getLevel());
+        seniorViews.computeIfAbsent(major, k -> new ConcurrentSkipListMap<>()).put(key, internship);
+        if (junior) {
+            juniorViews.computeIfAbsent(major, k -> new ConcurrentSkipListMap<>()).put(key, internship);
+        }
+        placements.put(internship.getId(), new Placement(major, key, junior));
+    }
+
+    void remove(Internship internship) {
+        Placement placement = placements.remove(internship.getId());
+        if (placement == null) {
+            return;
+        }
+        seniorViews.get(placement.major()).remove(placement.key());
+        if (placement.junior()) {
+            juniorViews.get(placement.major()).remove(placement.key());
+        }
+    }
+
+    /**
+     * Internships the student may apply for, sorted by title.
+     */
+    List<Internship> viewFor(Student student) {
+        Map<String, ConcurrentSkipListMap<TitleKey, Internship>> views = student.getYear() <= 2 ? juniorViews : seniorViews;
+        ConcurrentSkipListMap<TitleKey, Internship> view = views.get(student.getMajor());
+        if (view == null) {
+            return new ArrayList<>();
+        }
+
+        List<Internship> result = new ArrayList<>(view.size());
+        for (Internship internship : view.values()) {
+            // Slot claims do not notify, so a posting can be momentarily full before it flips to Filled
+            if (internship.getAvailableSlots() > 0) {
+                result.add(internship);
+            }
+        }
+        return result;
+    }
+
+    private record Placement(String major, TitleKey key, boolean junior) {
+    }
+}
@@ -0,0 +1,133 @@
+package service;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import model.Filter;
+import model.Internship;
+import model.InternshipStatus;
+import util.EpochDays;
+
+/**
+ * Turns a {@link Filter} into one predicate that does no per-call setup.
+ * The status is resolved and the closing date parsed to an epoch day once, at compile time, and the checks run
+ * most selective first so non-matching internships are rejected after as few comparisons as possible.
+ * Majors and levels match by equalsIgnoreCase, the rule the attribute index answers the same criteria with.
+ * The predicate captures the criteria as they were when compiled; later changes to the filter need a recompile.
+ */
+public final class FilterCompiler {
+    private static final Predicate<Internship> MATCH_ALL = internship -> true;
+
+    private FilterCompiler() {
+    }
+
+    public static Predicate<Internship> compile(Filter filter) {
+        // Most selective first: an exact date picks out few internships, status buckets hold many
+        List<Predicate<Internship>> checks = new ArrayList<>(4);
+        if (filter.getClosingDate() != null) {
+            int closingDay = EpochDays.parse(filter.getClosingDate());
+            if (closingDay != EpochDays.INVALID) {
+                checks.add(internship -> internship.getClosingDay() == closingDay);
+            } else {
+                String closingDate = filter.getClosingDate();
+                checks.add(internship -> closingDate.equals(internship.getClosingDate()));
+            }
+        }
+        if (filter.getMajor() != null) {
+            SymbolMatch major = new SymbolMatch(filter.getMajor());
+            checks.add(internship -> major.test(internship.getPreferredMajor()));
+        }
+        if (filter.getLevel() != null) {
+            SymbolMatch level = new SymbolMatch(filter.getLevel());
+            checks.add(internship -> level.test(internship.getLevel()));
+        }
+        if (filter.getStatus() != null) {
+            // Statuses are an enum, so the label is resolved once and rows compare by identity
+            InternshipStatus status = statusIgnoreCase(filter.getStatus());
+            checks.add(internship -> internship.getStatusCode() == status);
+        }
+
+        switch (checks.size()) {
+            case 0:
+                return MATCH_ALL;
+            case 1:
+                return checks.get(0);
+            case 2: {
+                Predicate<Internship> first = checks.get(0);
+                Predicate<Internship> second = checks.get(1);
+                return internship -> first.test(internship) && second.test(internship);
+            }
+            default: {
+                List<Predicate<Internship>> all = List.copyOf(checks);
+                return internship -> {
+                    for (int i = 0; i < all.size(); i++) {
+                        if (!all.get(i).test(internship)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                };
+            }
+        }
+    }
+
+    /**
+     * Apply a compiled predicate to a list, keeping order.
+     */
+    public static List<Internship> apply(Predicate<Internship> predicate, List<Internship> internships) {
+        if (predicate == MATCH_ALL) {
+            return new ArrayList<>(internships);
+        }
+        List<Internship> filtered = new ArrayList<>();
+        for (Internship internship : internships) {
+            if (predicate.test(internship)) {
+                filtered.add(internship);
+            }
+        }
+        return filtered;
+    }
+
+    // A status label no posting can carry matches nothing, so it maps to null
+    private static InternshipStatus statusIgnoreCase(String label) {
+        for (InternshipStatus status : InternshipStatus.values()) {
+            if (status.getLabel().equalsIgnoreCase(label)) {
+                return status;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Case-insensitive match of stored values against one criterion, by equalsIgnoreCase.
+     * Stored majors and levels are SymbolTable instances, so each distinct symbol is compared once and its
+     * verdict remembered; later rows holding it settle by identity.
+     */
+    private static final class SymbolMatch {
+        private static final int SLOTS = 32;
+
+        private final String expected;
+        // Racy by design: verdicts are immutable, so a lost write only costs one more comparison
+        private final Verdict[] verdicts = new Verdict[SLOTS];
+
+        SymbolMatch(String expected) {
+            this.expected = expected;
+        }
+
+        boolean test(String value) {
+            if (value == null) {
+                return false;
+            }
+            int slot = value.hashCode() & (SLOTS - 1);
+            Verdict verdict = verdicts[slot];
+            if (verdict != null && verdict.symbol == value) {
+                return verdict.matches;
+            }
+            boolean matches = value.equalsIgnoreCase(expected);
+            verdicts[slot] = new Verdict(value, matches);
+            return matches;
+        }
+
+        private record Verdict(String symbol, boolean matches) {
+        }
+    }
+}
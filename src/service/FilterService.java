@@ -1,5 +1,6 @@
 package service;
 import java.util.List;
+import java.util.function.Predicate;
 
 import model.Filter;
 import model.Internship;
@@ -9,6 +10,8 @@ import model.Internship;
  */
 public class FilterService implements IFilterService {
     private Filter currentFilter;
+    private Predicate<Internship> compiledFilter;
+    private int compiledVersion;
 
     public FilterService() {
         this.currentFilter = new Filter();
@@ -35,7 +38,18 @@ public class FilterService implements IFilterService {
      * Apply current filters to a list of internships
      */
     public List<Internship> applyFilters(List<Internship> internships) {
-        return currentFilter.apply(internships);
+        return FilterCompiler.apply(getCompiledFilter(), internships);
+    }
+
+    /**
+     * Get the current filter as a compiled predicate, recompiling only after the criteria change
+     */
+    public Predicate<Internship> getCompiledFilter() {
+        if (compiledFilter == null || compiledVersion != currentFilter.getVersion()) {
+            compiledVersion = currentFilter.getVersion();
+            compiledFilter = FilterCompiler.compile(currentFilter);
+        }
+        return compiledFilter;
     }
 
     /**
@@ -0,0 +1,233 @@
+package service;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import util.primitive.IntIntMap;
+import util.primitive.ObjectIntMap;
+
+/**
+ * Application columns held in growable primitive arrays on the Java heap.
+ */
+class HeapApplicationColumns implements ApplicationColumns {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private int rows;
+    // Freed rows, chained through nextForStudent
+    private int freeRows;
+    private int[] ids;
+    private int[] studentKeys;
+    private int[] internshipKeys;
+    private byte[] statuses;
+    private byte[] withdrawals;
+    private byte[] flags;
+    private int[] nextForStudent;
+    private int[] nextForInternship;
+    private final IntIntMap rowById;
+
+    private final ObjectIntMap<String> studentKeysById;
+    private final List<String> studentIds;
+    private int[] firstRowByStudent;
+    private int[] lastRowByStudent;
+    private final IntIntMap internshipKeysById;
+    private int[] firstRowByInternship;
+    private int[] lastRowByInternship;
+
+    HeapApplicationColumns() {
+        this.ids = new int[INITIAL_CAPACITY];
+        this.studentKeys = new int[INITIAL_CAPACITY];
+        this.internshipKeys = new int[INITIAL_CAPACITY];
+        this.statuses = new byte[INITIAL_CAPACITY];
+        this.withdrawals = new byte[INITIAL_CAPACITY];
+        this.flags = new byte[INITIAL_CAPACITY];
+        this.nextForStudent = new int[INITIAL_CAPACITY];
+        this.nextForInternship = new int[INITIAL_CAPACITY];
+        this.freeRows = NO_ROW;
+        this.rowById = new IntIntMap();
+        this.studentKeysById = new ObjectIntMap<>();
+        this.studentIds = new ArrayList<>();
+        this.firstRowByStudent = new int[0];
+        this.lastRowByStudent = new int[0];
+        this.internshipKeysById = new IntIntMap();
+        this.firstRowByInternship = new int[0];
+        this.lastRowByInternship = new int[0];
+    }
+
+    public int addRow(int id, int studentKey, int internshipKey) {
+        int row = freeRows;
+        if (row != NO_ROW) {
+            freeRows = nextForStudent[row];
+        } else {
+            row = newRow();
+        }
+        ids[row] = id;
+        studentKeys[row] = studentKey;
+        internshipKeys[row] = internshipKey;
+        statuses[row] = 0;
+        withdrawals[row] = 0;
+        flags[row] = 0;
+        nextForStudent[row] = NO_ROW;
+        nextForInternship[row] = NO_ROW;
+        return row;
+    }
+
+    public void freeRow(int row) {
+        rowById.remove(ids[row], NO_ROW);
+        nextForStudent[row] = freeRows;
+        freeRows = row;
+    }
+
+    private int newRow() {
+        if (rows == ids.length) {
+            int capacity = rows * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            studentKeys = Arrays.copyOf(studentKeys, capacity);
+            internshipKeys = Arrays.copyOf(internshipKeys, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            withdrawals = Arrays.copyOf(withdrawals, capacity);
+            flags = Arrays.copyOf(flags, capacity);
+            nextForStudent = Arrays.copyOf(nextForStudent, capacity);
+            nextForInternship = Arrays.copyOf(nextForInternship, capacity);
+        }
+        return rows++;
+    }
+
+    public int id(int row) {
+        return ids[row];
+    }
+
+    public int studentKey(int row) {
+        return studentKeys[row];
+    }
+
+    public int internshipKey(int row) {
+        return internshipKeys[row];
+    }
+
+    public byte status(int row) {
+        return statuses[row];
+    }
+
+    public void setStatus(int row, byte status) {
+        statuses[row] = status;
+    }
+
+    public byte withdrawal(int row) {
+        return withdrawals[row];
+    }
+
+    public void setWithdrawal(int row, byte withdrawal) {
+        withdrawals[row] = withdrawal;
+    }
+
+    public byte flags(int row) {
+        return flags[row];
+    }
+
+    public void setFlags(int row, byte flags) {
+        this.flags[row] = flags;
+    }
+
+    public int nextForStudent(int row) {
+        return nextForStudent[row];
+    }
+
+    public void setNextForStudent(int row, int next) {
+        nextForStudent[row] = next;
+    }
+
+    public int nextForInternship(int row) {
+        return nextForInternship[row];
+    }
+
+    public void setNextForInternship(int row, int next) {
+        nextForInternship[row] = next;
+    }
+
+    public int rowOf(int applicationId) {
+        return rowById.getOrDefault(applicationId, NO_ROW);
+    }
+
+    public void setRowOf(int applicationId, int row) {
+        rowById.put(applicationId, row);
+    }
+
+    public int findStudent(String studentId) {
+        return studentKeysById.getOrDefault(studentId, NO_KEY);
+    }
+
+    public int addStudent(String studentId) {
+        int key = studentKeysById.getOrDefault(studentId, NO_KEY);
+        if (key != NO_KEY) {
+            return key;
+        }
+        int newKey = studentIds.size();
+        studentIds.add(studentId);
+        studentKeysById.put(studentId, newKey);
+        if (newKey == firstRowByStudent.length) {
+            int capacity = Math.max(16, newKey * 2);
+            firstRowByStudent = Arrays.copyOf(firstRowByStudent, capacity);
+            lastRowByStudent = Arrays.copyOf(lastRowByStudent, capacity);
+        }
+        firstRowByStudent[newKey] = NO_ROW;
+        lastRowByStudent[newKey] = NO_ROW;
+        return newKey;
+    }
+
+    public String studentId(int studentKey) {
+        return studentIds.get(studentKey);
+    }
+
+    public int firstRowOfStudent(int studentKey) {
+        return firstRowByStudent[studentKey];
+    }
+
+    public void setFirstRowOfStudent(int studentKey, int row) {
+        firstRowByStudent[studentKey] = row;
+    }
+
+    public int lastRowOfStudent(int studentKey) {
+        return lastRowByStudent[studentKey];
+    }
+
+    public void setLastRowOfStudent(int studentKey, int row) {
+        lastRowByStudent[studentKey] = row;
+    }
+
+    public int findInternship(int internshipId) {
+        return internshipKeysById.getOrDefault(internshipId, NO_KEY);
+    }
+
+    public int addInternship(int internshipId) {
+        int key = internshipKeysById.getOrDefault(internshipId, NO_KEY);
+        if (key != NO_KEY) {
+            return key;
+        }
+        int newKey = internshipKeysById.size();
+        internshipKeysById.put(internshipId, newKey);
+        if (newKey == firstRowByInternship.length) {
+            int capacity = Math.max(16, newKey * 2);
+            firstRowByInternship = Arrays.copyOf(firstRowByInternship, capacity);
+            lastRowByInternship = Arrays.copyOf(lastRowByInternship, capacity);
+        }
+        firstRowByInternship[newKey] = NO_ROW;
+        lastRowByInternship[newKey] = NO_ROW;
+        return newKey;
+    }
+
+    public int firstRowOfInternship(int internshipKey) {
+        return firstRowByInternship[internshipKey];
+    }
+
+    public void setFirstRowOfInternship(int internshipKey, int row) {
+        firstRowByInternship[internshipKey] = row;
+    }
+
+    public int lastRowOfInternship(int internshipKey) {
+        return lastRowByInternship[internshipKey];
+    }
+
+    public void setLastRowOfInternship(int internshipKey, int row) {
+        lastRowByInternship[internshipKey] = row;
+    }
+}
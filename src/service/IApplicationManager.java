@@ -1,5 +1,6 @@
 package service;
 import java.util.List;
+import java.util.stream.Stream;
 
 import model.Application;
 import model.Internship;
@@ -16,11 +17,64 @@ public interface IApplicationManager {
     List<Application> getApplicationsForStudent(String studentId);
     List<Application> getSuccessfulApplications(String studentId);
     List<Application> getApplicationsForInternship(int internshipId);
-    void updateApplicationStatus(Application application, String status);
-    void acceptPlacement(String studentId, Application acceptedApp);
+
+    /**
+     * Applications for the internship in id order, one page at a time.
+     */
+    Page<Application> getApplicationsForInternship(int internshipId, String cursor, int limit);
+
+    /**
+     * Applications for the internship in id order, read from the live index as the stream is consumed.
+     */
+    Stream<Application> streamApplicationsForInternship(int internshipId);
+
+    /**
+     * Record a company decision, if the application's lifecycle allows the move.
+     * @return false when the application is no longer in a state that can move to the given status
+     */
+    boolean updateApplicationStatus(Application application, String status);
+
+    /**
+     * Accept a Successful offer, withdrawing the student's other live applications.
+     */
+    boolean acceptPlacement(String studentId, Application acceptedApp);
     boolean requestWithdrawal(String studentId, int applicationId, String reason);
     List<Application> getWithdrawableApplications(String studentId);
     List<Application> getPendingWithdrawals();
-    void approveWithdrawal(Application application);
+
+    /**
+     * Applications awaiting a withdrawal decision in id order, one page at a time.
+     */
+    Page<Application> getPendingWithdrawals(String cursor, int limit);
+
+    /**
+     * Applications awaiting a withdrawal decision in id order, read as the stream is consumed.
+     */
+    Stream<Application> streamPendingWithdrawals();
+
+    /**
+     * @return false if the application has no withdrawal request awaiting a decision
+     */
+    boolean approveWithdrawal(Application application);
+
+    /**
+     * @return false if the application has no withdrawal request awaiting a decision
+     */
+    boolean rejectWithdrawal(Application application);
     void removeApplicationsForInternship(int internshipId);
+
+    /**
+     * Mark every application still Pending for the internship as Unsuccessful.
+     * @return how many applications were changed
+     */
+    int rejectPendingApplications(int internshipId);
+    Application getApplicationById(int applicationId);
+    void restoreApplication(Application application);
+
+    /**
+     * Free storage held outside the Java heap, at shutdown once nothing else will use the manager.
+     * Managers that keep everything on the heap have nothing to do.
+     */
+    default void release() {
+    }
 }
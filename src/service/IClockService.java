@@ -0,0 +1,11 @@
+package service;
+/**
+ * Interface for the current date as seen by business rules.
+ * Follows Dependency Inversion Principle - services depend on this abstraction, so tests can fix the date.
+ */
+public interface IClockService {
+    /**
+     * Today's date as days since 1970-01-01, comparable with {@link util.EpochDays#parse}.
+     */
+    int today();
+}
@@ -1,5 +1,6 @@
 package service;
 import java.util.List;
+import java.util.function.Predicate;
 
 import model.Filter;
 import model.Internship;
@@ -12,6 +13,11 @@ public interface IFilterService {
     void setFilters(String status, String major, String level, String closingDate);
     void clearFilters();
     List<Internship> applyFilters(List<Internship> internships);
+
+    /**
+     * The current filter compiled to a predicate, reused until the criteria change.
+     */
+    Predicate<Internship> getCompiledFilter();
     String getActiveFiltersDisplay();
     boolean hasActiveFilters();
     Filter getCurrentFilter();
@@ -1,6 +1,8 @@
 package service;
 import java.util.List;
+import java.util.stream.Stream;
 
+import model.Filter;
 import model.Internship;
 import model.Student;
 
@@ -11,11 +13,51 @@ import model.Student;
 public interface IInternshipManager {
     void addInternship(Internship internship);
     List<Internship> getAllInternships();
+
+    /**
+     * Internships in id order, one page at a time.
+     */
+    Page<Internship> getInternshipsPage(String cursor, int limit);
+
     List<Internship> getInternshipsForStudent(Student student);
     List<Internship> getInternshipsForCompany(String repId);
     int getInternshipCountForCompany(String repId);
     List<Internship> getPendingInternships();
     List<Internship> generateReport(String status, String major, String level);
+
+    /**
+     * The same rows as {@link #generateReport}, produced as the stream is consumed.
+     * Safe to run in parallel; short-circuiting operations stop the lookup early.
+     */
+    Stream<Internship> streamReport(String status, String major, String level);
+
+    /**
+     * Number of rows {@link #generateReport} would return, counted from the indexes.
+     */
+    int countReport(String status, String major, String level);
+
+    /**
+     * Every internship ordered by title, then id.
+     */
+    List<Internship> getInternshipsByTitle();
+    Page<Internship> getInternshipsByTitle(String cursor, int limit);
+
+    /**
+     * Internships matching the filter's criteria, compared ignoring case, in id order.
+     */
+    List<Internship> findInternships(Filter filter);
+    Page<Internship> findInternships(Filter filter, String cursor, int limit);
+
+    /**
+     * The same rows as {@link #findInternships(Filter)}, produced as the stream is consumed.
+     */
+    Stream<Internship> streamInternships(Filter filter);
+
     Internship getInternshipById(int id);
     void removeInternship(Internship internship);
+
+    /**
+     * Keep the tracker told about every posting's deadline, starting with those already added.
+     */
+    void setDeadlineTracker(DeadlineTracker deadlines);
 }
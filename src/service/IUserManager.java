@@ -1,4 +1,5 @@
 package service;
+import java.util.Collection;
 import java.util.List;
 
 import model.CompanyRep;
@@ -10,10 +11,34 @@ import model.User;
  */
 public interface IUserManager {
     void addUser(User user);
-    void addPendingCompanyRep(CompanyRep rep);
+    int addUsers(Collection<? extends User> users);
+
+    /**
+     * Queue a representative for staff approval.
+     * @return false if one with the same id is already waiting, in which case nothing changes
+     */
+    boolean addPendingCompanyRep(CompanyRep rep);
     User login(String userId, String password);
     User getUserById(String userId);
+    List<User> getAllUsers();
+    UserLookup findUser(String userId);
     List<CompanyRep> getPendingCompanyReps();
+
+    /**
+     * Ids of representatives whose registration was rejected and who have not registered again since.
+     */
+    List<String> getRejectedCompanyRepIds();
+
+    /**
+     * Ids of accounts other than representatives whose password has changed since they were loaded.
+     */
+    List<String> getChangedPasswordUserIds();
     void approveCompanyRep(CompanyRep rep);
     void rejectCompanyRep(CompanyRep rep);
+    void changePassword(User user, String newPassword);
+
+    /**
+     * Apply a password change recreated from persisted state, without journaling it.
+     */
+    void restorePassword(String userId, String password);
 }
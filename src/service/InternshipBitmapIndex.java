@@ -0,0 +1,168 @@
+package service;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import model.Internship;
+import util.RoaringBitmap;
+
+/**
+ * Per-value bitmaps of internship ids for the attributes listings filter on.
+ * A query intersects one bitmap per criterion, smallest first, instead of comparing strings on every
+ * internship. Vocabularies are small, so case-insensitive criteria are answered by unioning the bitmaps
+ * of every stored spelling that matches.
+ * Updates take the write lock and arrive under the internship's own lock, so they apply in change order.
+ */
+class InternshipBitmapIndex {
+    static final Set<Internship.Field> INDEXED_FIELDS = EnumSet.of(
+        Internship.Field.STATUS,
+        Internship.Field.PREFERRED_MAJOR,
+        Internship.Field.LEVEL,
+        Internship.Field.CLOSING_DATE
+    );
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Internship.Field, Map<String, RoaringBitmap>> bitmaps;
+
+    InternshipBitmapIndex() {
+        this.bitmaps = new EnumMap<>(Internship.Field.class);
+        for (Internship.Field field : INDEXED_FIELDS) {
+            bitmaps.put(field, new HashMap<>());
+        }
+    }
+
+    void add(Internship internship) {
+        lock.writeLock().lock();
+        try {
+            for (Internship.Field field : INDEXED_FIELDS) {
+                set(field, valueOf(internship, field), internship.getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Internship internship) {
+        lock.writeLock().lock();
+        try {
+            for (Internship.Field field : INDEXED_FIELDS) {
+                clear(field, valueOf(internship, field), internship.getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Move an internship between value bitmaps after one of its indexed attributes changed.
+     */
+    void update(int id, Internship.Field field, String oldValue, String newValue) {
+        lock.writeLock().lock();
+        try {
+            clear(field, oldValue, id);
+            set(field, newValue, id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of internships matching every non-null criterion, in ascending order.
+     * @return null when no criterion is set, meaning every internship matches
+     */
+    int[] query(String status, String major, String level, String closingDate, boolean ignoreCase) {
+        RoaringBitmap matches = queryBitmap(status, major, level, closingDate, ignoreCase);
+        return matches == null ? null : matches.toArray();
+    }
+
+    /**
+     * Like {@link #query}, but as a private bitmap the caller may read from any thread.
+     */
+    RoaringBitmap queryBitmap(String status, String major, String level, String closingDate, boolean ignoreCase) {
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> selected = new ArrayList<>(4);
+            String[] values = { status, major, level, closingDate };
+            Internship.Field[] fields = {
+                Internship.Field.STATUS, Internship.Field.PREFERRED_MAJOR,
+                Internship.Field.LEVEL, Internship.Field.CLOSING_DATE
+            };
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] == null) {
+                    continue;
+                }
+                RoaringBitmap bitmap = lookup(fields[i], values[i], ignoreCase && fields[i] != Internship.Field.CLOSING_DATE);
+                if (bitmap == null) {
+                    return new RoaringBitmap();
+                }
+                selected.add(bitmap);
+            }
+            if (selected.isEmpty()) {
+                return null;
+            }
+
+            selected.sort((a, b) -> Integer.compare(a.getCardinality(), b.getCardinality()));
+            if (selected.size() == 1) {
+                return selected.get(0).copy();
+            }
+            RoaringBitmap result = selected.get(0).and(selected.get(1));
+            for (int i = 2; i < selected.size() && !result.isEmpty(); i++) {
+                result = result.and(selected.get(i));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap lookup(Internship.Field field, String value, boolean ignoreCase) {
+        Map<String, RoaringBitmap> byValue = bitmaps.get(field);
+        if (!ignoreCase) {
+            return byValue.get(value);
+        }
+        RoaringBitmap union = null;
+        for (Map.Entry<String, RoaringBitmap> entry : byValue.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(value)) {
+                union = union == null ? entry.getValue() : union.or(entry.getValue());
+            }
+        }
+        return union;
+    }
+
+    private void set(Internship.Field field, String value, int id) {
+        if (value != null) {
+            bitmaps.get(field).computeIfAbsent(value, k -> new RoaringBitmap()).add(id);
+        }
+    }
+
+    private void clear(Internship.Field field, String value, int id) {
+        if (value == null) {
+            return;
+        }
+        Map<String, RoaringBitmap> byValue = bitmaps.get(field);
+        RoaringBitmap bitmap = byValue.get(value);
+        if (bitmap != null && bitmap.remove(id) && bitmap.isEmpty()) {
+            byValue.remove(value);
+        }
+    }
+
+    static String valueOf(Internship internship, Internship.Field field) {
+        switch (field) {
+            case STATUS:
+                return internship.getStatus();
+            case PREFERRED_MAJOR:
+                return internship.getPreferredMajor();
+            case LEVEL:
+                return internship.getLevel();
+            case CLOSING_DATE:
+                return internship.getClosingDate();
+            default:
+                throw new IllegalArgumentException("Not indexed: " + field);
+        }
+    }
+}
@@ -1,65 +1,139 @@
 package service;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import model.Filter;
 import model.Internship;
+import model.InternshipStatus;
+import model.InternshipListener;
 import model.Student;
+import persistence.Journal;
+import persistence.Journaled;
+import persistence.JournalRecord;
+import util.RoaringBitmap;
+import util.primitive.IntObjectMap;
+import util.primitive.SortedIntObjectMap;
 
-public class InternshipManager implements IInternshipManager {
-    private List<Internship> internships;
+public class InternshipManager implements IInternshipManager, Journaled {
+    // Below this share of all postings a report sorts its few matches; above it, walking the title order is cheaper
+    private static final int REPORT_WALK_DIVISOR = 16;
 
-    public InternshipManager() {
-        this.internships = new ArrayList<>();
-    }
+    // Primary id index plus secondary indexes kept in sync via InternshipListener.
+    // All structures are concurrent; per-internship updates are serialised on the internship itself,
+    // which is also where they are enqueued to the journal, so journal order matches change order.
+    // Setters fire the listener inside the internship's monitor, where nothing may wait for the disk, so
+    // field changes only enqueue and reach disk with the writer's next batch; add and remove wait after
+    // letting the monitor go.
+    // Point lookups, which reports and filters resolve every matching id through, use the hash map;
+    // the sorted map serves listings in id order. Neither boxes its keys.
+    private IntObjectMap<Internship> internshipsById;
+    private SortedIntObjectMap<Internship> internshipsInIdOrder;
+    private Map<String, List<Internship>> internshipsByRep;
+    private ConcurrentSkipListMap<TitleKey, Internship> internshipsByTitle;
+    private InternshipBitmapIndex attributeIndex;
+    private EligibilityViews eligibilityViews;
+    private InternshipListener changeListener;
+    private volatile Journal journal;
+    private volatile DeadlineTracker deadlines;
 
-    public void addInternship(Internship internship) {
-        internships.add(internship);
+    public InternshipManager() {
+        this.internshipsById = new IntObjectMap<>();
+        this.internshipsInIdOrder = new SortedIntObjectMap<>();
+        this.internshipsByRep = new ConcurrentHashMap<>();
+        this.internshipsByTitle = new ConcurrentSkipListMap<>();
+        this.attributeIndex = new InternshipBitmapIndex();
+        this.eligibilityViews = new EligibilityViews();
+        this.changeListener = (internship, field, oldValue) -> {
+            if (field == Internship.Field.TITLE) {
+                internshipsByTitle.remove(new TitleKey((String) oldValue, internship.getId()));
+                internshipsByTitle.put(titleKey(internship), internship);
+            }
+            if (InternshipBitmapIndex.INDEXED_FIELDS.contains(field)) {
+                attributeIndex.update(internship.getId(), field, (String) oldValue, InternshipBitmapIndex.valueOf(internship, field));
+            }
+            if (EligibilityViews.AFFECTING_FIELDS.contains(field)) {
+                eligibilityViews.refresh(internship);
+            }
+            DeadlineTracker tracker = deadlines;
+            if (tracker != null && (field == Internship.Field.STATUS || field == Internship.Field.CLOSING_DATE)) {
+                tracker.track(internship);
+            }
+            journal.enqueue(JournalRecord.internshipSaved(internship));
+        };
+        this.journal = Journal.NONE;
     }
 
-    public List<Internship> getAllInternships() {
-        return new ArrayList<>(internships);
+    public void setJournal(Journal journal) {
+        this.journal = journal;
     }
 
-    public List<Internship> getInternshipsForStudent(Student student) {
-        List<Internship> result = new ArrayList<>();
-
-        for (Internship internship : internships) {
-            if (internship.getStatus().equals("Approved") &&
-                    internship.isVisible() &&
-                    internship.getPreferredMajor().equals(student.getMajor()) &&
-                    student.canApplyForLevel(internship.getLevel()) &&
-                    internship.getAvailableSlots() > 0 &&
-                    !internship.getStatus().equals("Filled")) {
-                result.add(internship);
+    public void setDeadlineTracker(DeadlineTracker deadlines) {
+        this.deadlines = deadlines;
+        // Postings added from here on are tracked by addInternship; catch up on the ones already here
+        for (Internship internship : internshipsInIdOrder) {
+            synchronized (internship) {
+                if (internshipsById.get(internship.getId()) == internship) {
+                    deadlines.track(internship);
+                }
             }
         }
+    }
 
-        Collections.sort(result, new Comparator<Internship>() {
-            public int compare(Internship i1, Internship i2) {
-                return i1.getTitle().compareTo(i2.getTitle());
+    public void addInternship(Internship internship) {
+        // Hold the internship's lock so no status change slips between indexing and listening
+        JournalRecord record = JournalRecord.internshipSaved(internship);
+        long ticket;
+        synchronized (internship) {
+            if (internshipsById.putIfAbsent(internship.getId(), internship) != null) {
+                return;
             }
-        });
+            internshipsInIdOrder.put(internship.getId(), internship);
+            internshipsByRep.computeIfAbsent(internship.getRepId(), k -> new CopyOnWriteArrayList<>()).add(internship);
+            internshipsByTitle.put(titleKey(internship), internship);
+            attributeIndex.add(internship);
+            eligibilityViews.refresh(internship);
+            internship.addListener(changeListener);
+            DeadlineTracker tracker = deadlines;
+            if (tracker != null) {
+                tracker.track(internship);
+            }
+            ticket = journal.enqueue(record);
+        }
+        journal.await(ticket);
+    }
 
-        return result;
+    public List<Internship> getAllInternships() {
+        return internshipsInIdOrder.values();
     }
 
-    public List<Internship> getInternshipsForCompany(String repId) {
-        List<Internship> result = new ArrayList<>();
+    public Page<Internship> getInternshipsPage(String cursor, int limit) {
+        return Page.of(internshipsInIdOrder, Page.idAfter(cursor), limit, Internship::getId);
+    }
 
-        for (Internship internship : internships) {
-            if (internship.getRepId().equals(repId)) {
-                result.add(internship);
-            }
-        }
+    public List<Internship> getInternshipsForStudent(Student student) {
+        return eligibilityViews.viewFor(student);
+    }
 
-        return result;
+    public List<Internship> getInternshipsForCompany(String repId) {
+        List<Internship> internships = internshipsByRep.get(repId);
+        return internships == null ? new ArrayList<>() : new ArrayList<>(internships);
     }
 
     public int getInternshipCountForCompany(String repId) {
+        List<Internship> internships = internshipsByRep.get(repId);
+        if (internships == null) {
+            return 0;
+        }
+
         int count = 0;
         for (Internship internship : internships) {
-            if (internship.getRepId().equals(repId) &&
-                    !internship.getStatus().equals("Rejected") &&
-                    !internship.getStatus().equals("Filled")) {
+            InternshipStatus status = internship.getStatusCode();
+            if (status != InternshipStatus.REJECTED && status != InternshipStatus.FILLED
+                    && status != InternshipStatus.CLOSED) {
                 count++;
             }
         }
@@ -67,59 +141,124 @@ public class InternshipManager implements IInternshipManager {
     }
 
     public List<Internship> getPendingInternships() {
-        List<Internship> result = new ArrayList<>();
+        return resolve(attributeIndex.query(InternshipStatus.PENDING.getLabel(), null, null, null, false));
+    }
 
-        for (Internship internship : internships) {
-            if (internship.getStatus().equals("Pending")) {
-                result.add(internship);
-            }
+    public List<Internship> generateReport(String status, String major, String level) {
+        return streamReport(status, major, level).collect(Collectors.toList());
+    }
+
+    public Stream<Internship> streamReport(String status, String major, String level) {
+        RoaringBitmap matches = attributeIndex.queryBitmap(status, major, level, null, false);
+        if (matches == null) {
+            return internshipsByTitle.values().stream();
         }
+        if (matches.getCardinality() < internshipsByTitle.size() / REPORT_WALK_DIVISOR) {
+            return resolveLazily(matches.toArray()).sorted(Comparator.comparing(InternshipManager::titleKey));
+        }
+        return internshipsByTitle.values().stream().filter(internship -> matches.contains(internship.getId()));
+    }
 
-        return result;
+    public int countReport(String status, String major, String level) {
+        RoaringBitmap matches = attributeIndex.queryBitmap(status, major, level, null, false);
+        return matches == null ? internshipsById.size() : matches.getCardinality();
     }
 
-    public List<Internship> generateReport(String status, String major, String level) {
-        List<Internship> result = new ArrayList<>();
+    public List<Internship> getInternshipsByTitle() {
+        return new ArrayList<>(internshipsByTitle.values());
+    }
 
-        for (Internship internship : internships) {
-            boolean matches = true;
+    public Page<Internship> getInternshipsByTitle(String cursor, int limit) {
+        return Page.of(internshipsByTitle, Page.titleAfter(cursor), limit, Page::titleCursor);
+    }
 
-            if (status != null && !internship.getStatus().equals(status)) {
-                matches = false;
-            }
+    public Internship getInternshipById(int id) {
+        return internshipsById.get(id);
+    }
 
-            if (major != null && !internship.getPreferredMajor().equals(major)) {
-                matches = false;
+    public void removeInternship(Internship internship) {
+        long ticket;
+        synchronized (internship) {
+            if (!internshipsById.remove(internship.getId(), internship)) {
+                return;
             }
+            internshipsInIdOrder.remove(internship.getId());
+            internship.removeListener(changeListener);
 
-            if (level != null && !internship.getLevel().equals(level)) {
-                matches = false;
+            List<Internship> repInternships = internshipsByRep.get(internship.getRepId());
+            if (repInternships != null) {
+                repInternships.remove(internship);
             }
-
-            if (matches) {
-                result.add(internship);
+            internshipsByTitle.remove(titleKey(internship));
+            attributeIndex.remove(internship);
+            eligibilityViews.remove(internship);
+            DeadlineTracker tracker = deadlines;
+            if (tracker != null) {
+                tracker.untrack(internship.getId());
             }
+            ticket = journal.enqueue(JournalRecord.internshipRemoved(internship.getId()));
         }
+        journal.await(ticket);
+    }
 
-        Collections.sort(result, new Comparator<Internship>() {
-            public int compare(Internship i1, Internship i2) {
-                return i1.getTitle().compareTo(i2.getTitle());
+    public List<Internship> findInternships(Filter filter) {
+        return streamInternships(filter).collect(Collectors.toList());
+    }
+
+    public Stream<Internship> streamInternships(Filter filter) {
+        int[] ids = attributeIndex.query(filter.getStatus(), filter.getMajor(), filter.getLevel(),
+            filter.getClosingDate(), true);
+        return ids == null ? internshipsInIdOrder.stream() : resolveLazily(ids);
+    }
+
+    public Page<Internship> findInternships(Filter filter, String cursor, int limit) {
+        int[] ids = attributeIndex.query(filter.getStatus(), filter.getMajor(), filter.getLevel(),
+            filter.getClosingDate(), true);
+        if (ids == null) {
+            return getInternshipsPage(cursor, limit);
+        }
+        Page.requirePositive(limit);
+
+        // Resolve only this page's ids; the rest of the match stays as ints
+        Integer after = Page.idAfter(cursor);
+        int position = after == null ? 0 : Arrays.binarySearch(ids, after);
+        if (after != null) {
+            position = position >= 0 ? position + 1 : -position - 1;
+        }
+        List<Internship> items = new ArrayList<>(Math.min(limit, ids.length));
+        int lastId = 0;
+        for (; position < ids.length && items.size() < limit; position++) {
+            Internship internship = internshipsById.get(ids[position]);
+            if (internship != null) {
+                items.add(internship);
+                lastId = ids[position];
             }
-        });
+        }
+        return new Page<>(items, position < ids.length ? Page.idCursor(lastId) : null);
+    }
 
-        return result;
+    /**
+     * Look up internships by id as the stream is consumed; the id array splits evenly for parallel use.
+     */
+    private Stream<Internship> resolveLazily(int[] ids) {
+        return Arrays.stream(ids).mapToObj(internshipsById::get).filter(Objects::nonNull);
     }
 
-    public Internship getInternshipById(int id) {
-        for (Internship internship : internships) {
-            if (internship.getId() == id) {
-                return internship;
+    /**
+     * Look up internships by id, in id order, skipping any removed since the ids were read.
+     */
+    private List<Internship> resolve(int[] ids) {
+        List<Internship> result = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            Internship internship = internshipsById.get(id);
+            if (internship != null) {
+                result.add(internship);
             }
         }
-        return null;
+        return result;
     }
 
-    public void removeInternship(Internship internship) {
-        internships.remove(internship);
+    private static TitleKey titleKey(Internship internship) {
+        return new TitleKey(internship.getTitle(), internship.getId());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,48 @@
+package service;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed pool of locks selected by key hash.
+ * Operations on different keys rarely contend, while all operations on one key are serialised.
+ */
+class LockStripes {
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    /**
+     * @param stripes requested number of locks, rounded up to a power of two
+     */
+    LockStripes(int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Get the lock guarding the given key
+     */
+    ReentrantLock forKey(Object key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return locks[h & mask];
+    }
+
+    /**
+     * Take every lock, always in the same order so two callers cannot deadlock.
+     * Meant for rare operations that must exclude changes to all keys at once.
+     */
+    void lockAll() {
+        for (ReentrantLock lock : locks) {
+            lock.lock();
+        }
+    }
+
+    void unlockAll() {
+        for (int i = locks.length - 1; i >= 0; i--) {
+            locks[i].unlock();
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package service;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import util.DirectBuffers;
+import util.DirectIntArray;
+import util.DirectIntIntMap;
+import util.DirectStringTable;
+
+/**
+ * Application columns kept entirely outside the Java heap.
+ * Rows are fixed-width 24-byte records in direct buffer chunks; the chain heads and the student and
+ * internship key tables are direct int arrays, an off-heap string table and an off-heap hash map, as is
+ * the id-to-row index. The heap holds only the buffer objects, a handful per million rows.
+ */
+class OffHeapApplicationColumns implements ApplicationColumns {
+    // Record layout
+    private static final int ID = 0;
+    private static final int STUDENT_KEY = 4;
+    private static final int INTERNSHIP_KEY = 8;
+    private static final int NEXT_FOR_STUDENT = 12;
+    private static final int NEXT_FOR_INTERNSHIP = 16;
+    private static final int STATUS = 20;
+    private static final int WITHDRAWAL = 21;
+    private static final int FLAGS = 22;
+    private static final int RECORD_BYTES = 24;
+
+    private static final int CHUNK_SHIFT = 16;
+    private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+
+    private ByteBuffer[] records;
+    private int rows;
+    // Freed rows, chained through NEXT_FOR_STUDENT
+    private int freeRows;
+    private final DirectIntIntMap rowById;
+
+    private final DirectStringTable studentIds;
+    private final DirectIntArray firstRowByStudent;
+    private final DirectIntArray lastRowByStudent;
+    private final DirectIntIntMap internshipKeysById;
+    private final DirectIntArray firstRowByInternship;
+    private final DirectIntArray lastRowByInternship;
+
+    OffHeapApplicationColumns() {
+        this.records = new ByteBuffer[0];
+        this.freeRows = NO_ROW;
+        this.rowById = new DirectIntIntMap();
+        this.studentIds = new DirectStringTable();
+        this.firstRowByStudent = new DirectIntArray(NO_ROW);
+        this.lastRowByStudent = new DirectIntArray(NO_ROW);
+        this.internshipKeysById = new DirectIntIntMap();
+        this.firstRowByInternship = new DirectIntArray(NO_ROW);
+        this.lastRowByInternship = new DirectIntArray(NO_ROW);
+    }
+
+    public int addRow(int id, int studentKey, int internshipKey) {
+        int row = freeRows;
+        if (row != NO_ROW) {
+            freeRows = nextForStudent(row);
+        } else {
+            row = newRow();
+        }
+        ByteBuffer chunk = chunk(row);
+        int base = offset(row);
+        chunk.putInt(base + ID, id);
+        chunk.putInt(base + STUDENT_KEY, studentKey);
+        chunk.putInt(base + INTERNSHIP_KEY, internshipKey);
+        chunk.putInt(base + NEXT_FOR_STUDENT, NO_ROW);
+        chunk.putInt(base + NEXT_FOR_INTERNSHIP, NO_ROW);
+        chunk.put(base + STATUS, (byte) 0);
+        chunk.put(base + WITHDRAWAL, (byte) 0);
+        chunk.put(base + FLAGS, (byte) 0);
+        return row;
+    }
+
+    public void freeRow(int row) {
+        rowById.remove(id(row));
+        setNextForStudent(row, freeRows);
+        freeRows = row;
+    }
+
+    public void release() {
+        ByteBuffer[] freed = records;
+        records = new ByteBuffer[0];
+        rows = 0;
+        freeRows = NO_ROW;
+        for (ByteBuffer chunk : freed) {
+            DirectBuffers.free(chunk);
+        }
+        rowById.release();
+        studentIds.release();
+        firstRowByStudent.release();
+        lastRowByStudent.release();
+        internshipKeysById.release();
+        firstRowByInternship.release();
+        lastRowByInternship.release();
+    }
+
+    private int newRow() {
+        int row = rows;
+        if ((row >>> CHUNK_SHIFT) == records.length) {
+            records = Arrays.copyOf(records, records.length + 1);
+            records[records.length - 1] = ByteBuffer.allocateDirect((CHUNK_MASK + 1) * RECORD_BYTES)
+                .order(ByteOrder.nativeOrder());
+        }
+        rows++;
+        return row;
+    }
+
+    public int id(int row) {
+        return getInt(row, ID);
+    }
+
+    public int studentKey(int row) {
+        return getInt(row, STUDENT_KEY);
+    }
+
+    public int internshipKey(int row) {
+        return getInt(row, INTERNSHIP_KEY);
+    }
+
+    public byte status(int row) {
+        return chunk(row).get(offset(row) + STATUS);
+    }
+
+    public void setStatus(int row, byte status) {
+        chunk(row).put(offset(row) + STATUS, status);
+    }
+
+    public byte withdrawal(int row) {
+        return chunk(row).get(offset(row) + WITHDRAWAL);
+    }
+
+    public void setWithdrawal(int row, byte withdrawal) {
+        chunk(row).put(offset(row) + WITHDRAWAL, withdrawal);
+    }
+
+    public byte flags(int row) {
+        return chunk(row).get(offset(row) + FLAGS);
+    }
+
+    public void setFlags(int row, byte flags) {
+        chunk(row).put(offset(row) + FLAGS, flags);
+    }
+
+    public int nextForStudent(int row) {
+        return getInt(row, NEXT_FOR_STUDENT);
+    }
+
+    public void setNextForStudent(int row, int next) {
+        chunk(row).putInt(offset(row) + NEXT_FOR_STUDENT, next);
+    }
+
+    public int nextForInternship(int row) {
+        return getInt(row, NEXT_FOR_INTERNSHIP);
+    }
+
+    public void setNextForInternship(int row, int next) {
+        chunk(row).putInt(offset(row) + NEXT_FOR_INTERNSHIP, next);
+    }
+
+    public int rowOf(int applicationId) {
+        int row = rowById.get(applicationId);
+        return row == DirectIntIntMap.MISSING ? NO_ROW : row;
+    }
+
+    public void setRowOf(int applicationId, int row) {
+        rowById.put(applicationId, row);
+    }
+
+    public int findStudent(String studentId) {
+        int key = studentIds.find(studentId);
+        return key == DirectStringTable.NO_KEY ? NO_KEY : key;
+    }
+
+    public int addStudent(String studentId) {
+        int key = studentIds.intern(studentId);
+        // Fresh keys read NO_ROW from the fill value, so there is nothing to initialise
+        firstRowByStudent.ensureCapacity(key + 1);
+        lastRowByStudent.ensureCapacity(key + 1);
+        return key;
+    }
+
+    public String studentId(int studentKey) {
+        return studentIds.get(studentKey);
+    }
+
+    public int firstRowOfStudent(int studentKey) {
+        return firstRowByStudent.get(studentKey);
+    }
+
+    public void setFirstRowOfStudent(int studentKey, int row) {
+        firstRowByStudent.set(studentKey, row);
+    }
+
+    public int lastRowOfStudent(int studentKey) {
+        return lastRowByStudent.get(studentKey);
+    }
+
+    public void setLastRowOfStudent(int studentKey, int row) {
+        lastRowByStudent.set(studentKey, row);
+    }
+
+    public int findInternship(int internshipId) {
+        int key = internshipKeysById.get(internshipId);
+        return key == DirectIntIntMap.MISSING ? NO_KEY : key;
+    }
+
+    public int addInternship(int internshipId) {
+        int key = internshipKeysById.get(internshipId);
+        if (key != DirectIntIntMap.MISSING) {
+            return key;
+        }
+        key = internshipKeysById.size();
+        internshipKeysById.put(internshipId, key);
+        firstRowByInternship.ensureCapacity(key + 1);
+        lastRowByInternship.ensureCapacity(key + 1);
+        return key;
+    }
+
+    public int firstRowOfInternship(int internshipKey) {
+        return firstRowByInternship.get(internshipKey);
+    }
+
+    public void setFirstRowOfInternship(int internshipKey, int row) {
+        firstRowByInternship.set(internshipKey, row);
+    }
+
+    public int lastRowOfInternship(int internshipKey) {
+        return lastRowByInternship.get(internshipKey);
+    }
+
+    public void setLastRowOfInternship(int internshipKey, int row) {
+        lastRowByInternship.set(internshipKey, row);
+    }
+
+    private int getInt(int row, int field) {
+        return chunk(row).getInt(offset(row) + field);
+    }
+
+    private ByteBuffer chunk(int row) {
+        return records[row >>> CHUNK_SHIFT];
+    }
+
+    private static int offset(int row) {
+        return (row & CHUNK_MASK) * RECORD_BYTES;
+    }
+}
@@ -0,0 +1,17 @@
+package service;
+/**
+ * Columnar application manager whose rows and lookup tables live outside the Java heap.
+ * Application records, the by-student and by-internship chains, the id index and the interned student ids
+ * are all held in direct buffers, so heap size and collection pauses stay flat as applications grow;
+ * only withdrawal reasons and requests awaiting a decision are kept per application on the heap.
+ * Off-heap memory is returned by {@link #release}, or by the collector once the manager becomes unreachable.
+ */
+public class OffHeapApplicationManager extends ColumnarApplicationManager {
+    public OffHeapApplicationManager() {
+        this(new ClockService());
+    }
+
+    public OffHeapApplicationManager(IClockService clock) {
+        super(clock, new OffHeapApplicationColumns());
+    }
+}
@@ -0,0 +1,113 @@
+package service;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import util.primitive.SortedIntObjectMap;
+
+/**
+ * One page of an ordered listing, plus the cursor for the page after it.
+ * Cursors mark the last row returned rather than an offset, so a page costs its own size however deep
+ * it is, and rows added or removed earlier in the order do not shift later pages.
+ * Cursors are opaque to callers; pass null for the first page.
+ */
+public class Page<T> {
+    private final List<T> items;
+    private final String nextCursor;
+
+    public Page(List<T> items, String nextCursor) {
+        this.items = Collections.unmodifiableList(items);
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Cursor for the following page, or null if this is the last one.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Take up to limit values after the given key.
+     * @param after key of the last row already seen, or null to start at the beginning
+     */
+    static <K, V> Page<V> of(NavigableMap<K, V> map, K after, int limit, Function<K, String> cursorOf) {
+        requirePositive(limit);
+        NavigableMap<K, V> rest = after == null ? map : map.tailMap(after, false);
+        List<V> items = new ArrayList<>(Math.min(limit, 256));
+        K lastKey = null;
+        Iterator<Map.Entry<K, V>> entries = rest.entrySet().iterator();
+        while (items.size() < limit && entries.hasNext()) {
+            Map.Entry<K, V> entry = entries.next();
+            items.add(entry.getValue());
+            lastKey = entry.getKey();
+        }
+        return new Page<>(items, entries.hasNext() ? cursorOf.apply(lastKey) : null);
+    }
+
+    /**
+     * Take up to limit values with ids after the given one.
+     * @param after id of the last row already seen, or null to start at the beginning
+     */
+    static <V> Page<V> of(SortedIntObjectMap<V> map, Integer after, int limit, ToIntFunction<V> idOf) {
+        requirePositive(limit);
+        Iterator<V> values = after == null ? map.iterator() : map.iteratorAfter(after);
+        List<V> items = new ArrayList<>(Math.min(limit, 256));
+        while (items.size() < limit && values.hasNext()) {
+            items.add(values.next());
+        }
+        return new Page<>(items, values.hasNext() ? idCursor(idOf.applyAsInt(items.get(items.size() - 1))) : null);
+    }
+
+    static String idCursor(int id) {
+        return Integer.toString(id);
+    }
+
+    /**
+     * @return the id a cursor from {@link #idCursor} points after, or null for a null cursor
+     */
+    static Integer idAfter(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid page cursor: " + cursor);
+        }
+    }
+
+    static String titleCursor(TitleKey key) {
+        return key.id() + ":" + key.title();
+    }
+
+    static TitleKey titleAfter(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        int separator = cursor.indexOf(':');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Invalid page cursor: " + cursor);
+        }
+        return new TitleKey(cursor.substring(separator + 1), idAfter(cursor.substring(0, separator)));
+    }
+
+    static void requirePositive(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page size must be positive: " + limit);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package service;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.ToIntFunction;
+
+import ui.ConsoleUI;
+
+/**
+ * Loads every configured user source at startup.
+ * Each source runs on its own thread, so startup takes about as long as the largest file rather than
+ * the sum of all of them. Loaders merge into the user manager themselves through its bulk-add API.
+ * When the same ID appears in several files, whichever loader gets there first keeps it.
+ */
+public class StartupLoader {
+    private final ConsoleUI ui;
+    private final List<String> paths = new ArrayList<>();
+    private final List<ToIntFunction<String>> loaders = new ArrayList<>();
+
+    public StartupLoader(ConsoleUI ui) {
+        this.ui = ui;
+    }
+
+    /**
+     * Register a file and the loader that reads it; the loader returns how many users it added.
+     */
+    public StartupLoader addSource(String filePath, ToIntFunction<String> loader) {
+        paths.add(filePath);
+        loaders.add(loader);
+        return this;
+    }
+
+    /**
+     * Load all sources concurrently and report how long each one took.
+     * @return the total number of users added
+     */
+    public int loadAll() {
+        if (paths.isEmpty()) {
+            return 0;
+        }
+
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(paths.size(), task -> {
+            Thread thread = new Thread(task, "startup-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<Future<long[]>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < paths.size(); i++) {
+                String path = paths.get(i);
+                ToIntFunction<String> loader = loaders.get(i);
+                results.add(executor.submit(() -> {
+                    long sourceStart = System.nanoTime();
+                    int added = loader.applyAsInt(path);
+                    return new long[] { added, System.nanoTime() - sourceStart };
+                }));
+            }
+
+            int total = 0;
+            for (int i = 0; i < paths.size(); i++) {
+                try {
+                    long[] result = results.get(i).get();
+                    total += (int) result[0];
+                    ui.displayMessage(String.format("  %s: %,d users in %d ms",
+                        paths.get(i), result[0], result[1] / 1_000_000));
+                } catch (ExecutionException e) {
+                    ui.displayError("Failed to load " + paths.get(i) + ": " + e.getCause().getMessage());
+                }
+            }
+            ui.displayMessage(String.format("Loaded %,d users from %d files in %d ms",
+                total, paths.size(), (System.nanoTime() - start) / 1_000_000));
+            return total;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ui.displayError("Startup loading was interrupted");
+            return 0;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package service;
+import model.Student;
+import util.CsvReader;
+
+/**
+ * Checks a students.csv row and builds its student.
+ * Shared by the sequential and bulk loaders so a file loads the same way whichever one reads it.
+ */
+class StudentRowParser {
+    static final int COLUMNS = 5;
+
+    /**
+     * Told why a row was skipped; the line is the reader's line number.
+     */
+    interface Rejections {
+        void reject(long line, String reason);
+    }
+
+    private final IValidationService validationService;
+
+    StudentRowParser(IValidationService validationService) {
+        this.validationService = validationService;
+    }
+
+    /**
+     * Build the student on the reader's current row.
+     * @return the student, or null after passing the reason to {@code rejections}
+     */
+    Student parse(CsvReader csv, Rejections rejections) {
+        if (csv.getFieldCount() != COLUMNS) {
+            rejections.reject(csv.getLineNumber(), "expected " + COLUMNS + " columns but found " + csv.getFieldCount());
+            return null;
+        }
+
+        String id = csv.getField(0);
+        if (!validationService.isValidStudentId(id)) {
+            rejections.reject(csv.getLineNumber(), "invalid student ID '" + id + "', expected U#######L");
+            return null;
+        }
+
+        int year;
+        try {
+            year = csv.getInt(4);
+        } catch (NumberFormatException e) {
+            rejections.reject(csv.getLineNumber(), "invalid year '" + csv.getField(4) + "'");
+            return null;
+        }
+        return new Student(id, csv.getField(1), csv.getField(2), year, csv.getSymbol(3));
+    }
+}
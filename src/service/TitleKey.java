@@ -0,0 +1,11 @@
+package service;
+/**
+ * Sort key ordering internships by title, then by id so postings sharing a title stay distinct.
+ */
+record TitleKey(String title, int id) implements Comparable<TitleKey> {
+    @Override
+    public int compareTo(TitleKey other) {
+        int byTitle = title.compareTo(other.title);
+        return byTitle != 0 ? byTitle : Integer.compare(id, other.id);
+    }
+}
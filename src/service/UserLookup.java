@@ -0,0 +1,45 @@
+package service;
+import model.CompanyRep;
+import model.User;
+
+/**
+ * Result of resolving a user ID against both approved and pending accounts.
+ */
+public class UserLookup {
+    private static final UserLookup NOT_FOUND = new UserLookup(null, false);
+
+    private final User user;
+    private final boolean pendingApproval;
+
+    private UserLookup(User user, boolean pendingApproval) {
+        this.user = user;
+        this.pendingApproval = pendingApproval;
+    }
+
+    public static UserLookup approved(User user) {
+        return new UserLookup(user, false);
+    }
+
+    public static UserLookup pending(CompanyRep rep) {
+        return new UserLookup(rep, true);
+    }
+
+    public static UserLookup notFound() {
+        return NOT_FOUND;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public boolean isFound() {
+        return user != null;
+    }
+
+    /**
+     * Check if the account is a company representative still awaiting staff approval
+     */
+    public boolean isPendingApproval() {
+        return pendingApproval;
+    }
+}
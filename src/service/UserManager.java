@@ -1,61 +1,168 @@
 package service;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import model.CompanyRep;
 import model.User;
+import persistence.Journal;
+import persistence.Journaled;
+import persistence.JournalRecord;
 
-public class UserManager implements IUserManager {
-    private List<User> users;
-    private List<CompanyRep> pendingCompanyReps;
+public class UserManager implements IUserManager, Journaled {
+    // Keyed by userId so login and lookups stay constant time regardless of roster size.
+    // Pending reps keep registration order and change rarely, so a synchronized map suffices there.
+    private Map<String, User> users;
+    private Map<String, CompanyRep> pendingCompanyReps;
+    // Kept so a snapshot can reject reps again that the CSV reload brings back as pending
+    private Set<String> rejectedCompanyRepIds;
+    // Seeded accounts are reloaded from CSV, so snapshots only need the passwords that moved away from it
+    private Set<String> changedPasswordUserIds;
+    // Changes are journaled under the user's monitor so records follow change order;
+    // each record is built before its change, so nothing can fail once the change is made.
+    // CSV-seeded students and staff are not journaled; only their later password changes are.
+    private volatile Journal journal;
 
     public UserManager() {
-        this.users = new ArrayList<>();
-        this.pendingCompanyReps = new ArrayList<>();
+        this.users = new ConcurrentHashMap<>();
+        this.pendingCompanyReps = Collections.synchronizedMap(new LinkedHashMap<>());
+        this.rejectedCompanyRepIds = ConcurrentHashMap.newKeySet();
+        this.changedPasswordUserIds = ConcurrentHashMap.newKeySet();
+        this.journal = Journal.NONE;
     }
 
-    public void addUser(User user) {
-        users.add(user);
+    public void setJournal(Journal journal) {
+        this.journal = journal;
     }
 
-    public void addPendingCompanyRep(CompanyRep rep) {
-        pendingCompanyReps.add(rep);
+    public void addUser(User user) {
+        users.putIfAbsent(user.getUserId(), user);
     }
 
-    public User login(String userId, String password) {
-        for (User user : users) {
-            if (user.getUserId().equals(userId) && user.getPassword().equals(password)) {
-                return user;
+    /**
+     * Add many users at once; IDs that are already taken are skipped.
+     * @return the number of users added
+     */
+    public int addUsers(Collection<? extends User> newUsers) {
+        int added = 0;
+        for (User user : newUsers) {
+            if (users.putIfAbsent(user.getUserId(), user) == null) {
+                added++;
             }
         }
+        return added;
+    }
 
-        for (CompanyRep rep : pendingCompanyReps) {
-            if (rep.getUserId().equals(userId) && rep.getPassword().equals(password)) {
-                return rep;
+    public boolean addPendingCompanyRep(CompanyRep rep) {
+        JournalRecord record = JournalRecord.repRegistered(rep);
+        long ticket;
+        synchronized (rep) {
+            if (pendingCompanyReps.putIfAbsent(rep.getUserId(), rep) != null) {
+                return false;
             }
+            rejectedCompanyRepIds.remove(rep.getUserId());
+            ticket = journal.enqueue(record);
+        }
+        journal.await(ticket);
+        return true;
+    }
+
+    public User login(String userId, String password) {
+        User user = findUser(userId).getUser();
+        if (user != null && user.getPassword().equals(password)) {
+            return user;
         }
         return null;
     }
 
     public User getUserById(String userId) {
-        for (User user : users) {
-            if (user.getUserId().equals(userId)) {
-                return user;
-            }
+        return users.get(userId);
+    }
+
+    public List<User> getAllUsers() {
+        return new ArrayList<>(users.values());
+    }
+
+    public UserLookup findUser(String userId) {
+        User user = users.get(userId);
+        if (user != null) {
+            return UserLookup.approved(user);
         }
-        return null;
+
+        CompanyRep rep = pendingCompanyReps.get(userId);
+        if (rep != null) {
+            return UserLookup.pending(rep);
+        }
+        return UserLookup.notFound();
     }
 
     public List<CompanyRep> getPendingCompanyReps() {
-        return new ArrayList<>(pendingCompanyReps);
+        synchronized (pendingCompanyReps) {
+            return new ArrayList<>(pendingCompanyReps.values());
+        }
+    }
+
+    public List<String> getRejectedCompanyRepIds() {
+        return new ArrayList<>(rejectedCompanyRepIds);
+    }
+
+    public List<String> getChangedPasswordUserIds() {
+        return new ArrayList<>(changedPasswordUserIds);
     }
 
     public void approveCompanyRep(CompanyRep rep) {
-        rep.setApproved(true);
-        users.add(rep);
-        pendingCompanyReps.remove(rep);
+        JournalRecord record = JournalRecord.repApproved(rep.getUserId());
+        long ticket = 0;
+        synchronized (rep) {
+            // Approving an already approved rep changes nothing, so there is nothing to journal
+            boolean changed = !rep.isApproved() || users.get(rep.getUserId()) != rep;
+            rep.setApproved(true);
+            users.put(rep.getUserId(), rep);
+            changed |= pendingCompanyReps.remove(rep.getUserId(), rep);
+            rejectedCompanyRepIds.remove(rep.getUserId());
+            if (changed) {
+                ticket = journal.enqueue(record);
+            }
+        }
+        journal.await(ticket);
     }
 
     public void rejectCompanyRep(CompanyRep rep) {
-        pendingCompanyReps.remove(rep);
+        JournalRecord record = JournalRecord.repRejected(rep.getUserId());
+        long ticket = 0;
+        synchronized (rep) {
+            if (pendingCompanyReps.remove(rep.getUserId(), rep)) {
+                rejectedCompanyRepIds.add(rep.getUserId());
+                ticket = journal.enqueue(record);
+            }
+        }
+        journal.await(ticket);
+    }
+
+    public void changePassword(User user, String newPassword) {
+        JournalRecord record = JournalRecord.passwordChanged(user.getUserId(), newPassword);
+        long ticket;
+        synchronized (user) {
+            user.setPassword(newPassword);
+            notePasswordChanged(user);
+            ticket = journal.enqueue(record);
+        }
+        journal.await(ticket);
+    }
+
+    public void restorePassword(String userId, String password) {
+        User user = findUser(userId).getUser();
+        if (user != null) {
+            synchronized (user) {
+                user.setPassword(password);
+                notePasswordChanged(user);
+            }
+        }
+    }
+
+    // Representatives are snapshotted whole, password included
+    private void notePasswordChanged(User user) {
+        if (!(user instanceof CompanyRep)) {
+            changedPasswordUserIds.add(user.getUserId());
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,6 @@
 package service;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-
 import util.BusinessRules;
+import util.EpochDays;
 
 /**
  * Provides validation helpers for user input.
@@ -52,14 +49,9 @@ public class ValidationService implements IValidationService {
      * Validate closing date is after opening date.
      */
     public boolean isClosingDateValid(String openDate, String closeDate) {
-        try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-            LocalDate open = LocalDate.parse(openDate, formatter);
-            LocalDate close = LocalDate.parse(closeDate, formatter);
-            return close.isAfter(open);
-        } catch (DateTimeParseException e) {
-            return false;
-        }
+        int open = EpochDays.parse(openDate);
+        int close = EpochDays.parse(closeDate);
+        return open != EpochDays.INVALID && close != EpochDays.INVALID && close > open;
     }
 
     /**
@@ -0,0 +1,483 @@
+package tools;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import model.Application;
+import model.CompanyRep;
+import model.Internship;
+import model.Staff;
+import model.Student;
+import service.IApplicationManager;
+import service.IClockService;
+import service.IInternshipManager;
+import service.IUserManager;
+import util.BusinessRules;
+
+/**
+ * Deterministic synthetic data for scale testing, from thousands to tens of millions of students.
+ * Users can be written as CSV files in the formats CSVLoaderService reads. Internships and applications
+ * have no CSV loader, so the full dataset is loaded straight into the managers through their public
+ * APIs, which keeps every business rule in force.
+ *
+ * Every attribute is a hash of (seed, attribute, row), so the same seed always produces the same rows in
+ * either mode, and nothing is held in memory while writing files. The skew follows real placement rounds:
+ * - Majors and companies follow Zipf distributions, so a few majors hold most students. Popular companies
+ *   have more representatives and each representative posts more internships.
+ * - Applicants mostly target postings in their own major, and favour popular companies.
+ * - Most postings open on a handful of recruiting days. Most applications arrive within days of opening
+ *   and are submitted in date order, so application ids reflect those bursts.
+ *
+ * Usage: DatasetGenerator <outputDir> [students] [seed] (default 100000 42)
+ */
+public class DatasetGenerator {
+    private static final String[] MAJORS = {"CSC", "EEE", "MAE", "DSAI", "CHE", "BIO", "CEE", "MSE", "PHY", "MATH",
+        "ECON", "BUS"};
+    private static final String[] FIRST_NAMES = {"Wei Ling", "Jia Hao", "Priya", "Muhammad", "Siti", "Ethan",
+        "Chloe", "Arjun", "Mei Xin", "Daniel", "Nur", "Ryan", "Hui Min", "Aisyah", "Marcus", "Kavya"};
+    private static final String[] LAST_NAMES = {"Tan", "Ng", "Lim", "Lee", "Wong", "Chua", "Kumar", "Rahman",
+        "Goh", "Koh", "Ong", "Teo", "Nair", "Ismail", "Chen", "Yeo"};
+    private static final String[] DEPARTMENTS = {"Human Resources", "Engineering", "Talent Acquisition",
+        "Operations", "Research", "Finance"};
+    private static final String[] POSITIONS = {"Recruiter", "HR Manager", "Engineering Manager", "Team Lead",
+        "Director"};
+    private static final String[] STAFF_DEPARTMENTS = {"Career Center", "CCDS", "EEE", "MAE"};
+    private static final String[] COMPANY_PREFIXES = {"Apex", "Blue", "Crest", "Delta", "Ever", "Fusion", "Globe",
+        "Helix", "Iris", "Jade", "Kite", "Lumen", "Meridian", "Nova", "Orbit", "Pioneer"};
+    private static final String[] COMPANY_SUFFIXES = {"Systems", "Labs", "Capital", "Robotics", "Health", "Energy",
+        "Logistics", "Analytics"};
+    private static final String[] ROLES = {"Software Engineering Intern", "Data Analyst Intern",
+        "Hardware Engineering Intern", "Product Intern", "Research Intern", "Business Analyst Intern",
+        "Mechanical Design Intern", "Machine Learning Intern", "Operations Intern", "Quality Assurance Intern"};
+    private static final String[] LEVELS = {"Basic", "Intermediate", "Advanced"};
+    private static final String PASSWORD = BusinessRules.DEFAULT_PASSWORD;
+
+    // Recruiting season: most postings open on one of these days, counted back from today
+    private static final int[] OPENING_DAYS_AGO = {75, 45, 14};
+    private static final int SEASON_DAYS = 90;
+
+    // One stream per attribute, so adding an attribute never shifts the values of another
+    private static final int MAJOR = 1;
+    private static final int YEAR = 2;
+    private static final int FIRST_NAME = 3;
+    private static final int LAST_NAME = 4;
+    private static final int REP_COMPANY = 5;
+    private static final int REP_STATUS = 6;
+    private static final int REP_DETAIL = 7;
+    private static final int POSTINGS = 8;
+    private static final int ROLE = 9;
+    private static final int LEVEL = 10;
+    private static final int OPENING = 11;
+    private static final int DURATION = 12;
+    private static final int SLOTS = 13;
+    private static final int POSTING_STATUS = 14;
+    private static final int APPLICATION_COUNT = 15;
+    private static final int TARGET_MAJOR = 16;
+    private static final int TARGET = 17;
+    private static final int DELAY = 18;
+    private static final int DECISION = 19;
+    private static final int ACCEPTANCE = 20;
+
+    private final long seed;
+    private final int students;
+    private final int staff;
+    private final int companies;
+    private final int reps;
+    private final Zipf majorPopularity;
+    private final Zipf companyPopularity;
+
+    /**
+     * @param students how many students to generate; staff, companies and representatives scale with it
+     */
+    public DatasetGenerator(long seed, int students) {
+        if (students <= 0) {
+            throw new IllegalArgumentException("Student count must be positive: " + students);
+        }
+        this.seed = seed;
+        this.students = students;
+        // About one posting per ten students, two to three postings per representative
+        this.staff = Math.max(3, students / 5_000);
+        this.reps = Math.max(10, students / 25);
+        this.companies = Math.max(5, reps / 8);
+        this.majorPopularity = new Zipf(MAJORS.length, 1.0);
+        this.companyPopularity = new Zipf(companies, 1.1);
+    }
+
+    public int getStudentCount() {
+        return students;
+    }
+
+    public int getStaffCount() {
+        return staff;
+    }
+
+    public int getCompanyRepCount() {
+        return reps;
+    }
+
+    public int getCompanyCount() {
+        return companies;
+    }
+
+    /**
+     * Write students.csv, staff.csv and company_reps.csv into the directory, in the column layouts
+     * CSVLoaderService expects.
+     */
+    public void writeCsv(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        try (BufferedWriter out = Files.newBufferedWriter(directory.resolve("students.csv"))) {
+            out.write("StudentID,Password,Name,Major,Year\n");
+            for (int i = 0; i < students; i++) {
+                out.write(studentId(i) + "," + PASSWORD + "," + studentName(i) + "," + studentMajor(i) + ","
+                    + studentYear(i) + "\n");
+            }
+        }
+        try (BufferedWriter out = Files.newBufferedWriter(directory.resolve("staff.csv"))) {
+            out.write("StaffID,Password,Email,Name,Department\n");
+            for (int i = 0; i < staff; i++) {
+                Staff member = staff(i);
+                out.write(member.getUserId() + "," + PASSWORD + "," + member.getEmail() + "," + member.getName() + ","
+                    + member.getDepartment() + "\n");
+            }
+        }
+        try (BufferedWriter out = Files.newBufferedWriter(directory.resolve("company_reps.csv"))) {
+            out.write("CompanyRepID,Name,CompanyName,Department,Position,Email,Status\n");
+            for (int r = 0; r < reps; r++) {
+                CompanyRep rep = rep(r);
+                out.write(rep.getUserId() + "," + rep.getName() + "," + rep.getCompanyName() + "," + rep.getDepartment()
+                    + "," + rep.getPosition() + "," + rep.getUserId() + "," + repStatus(r) + "\n");
+            }
+        }
+    }
+
+    /**
+     * Load the full dataset into the managers: users, internships, applications, offers and accepted
+     * placements. Applications go through applyForInternship, so each is checked against the same rules as
+     * a real one. Pass the application manager's clock so postings are open on the day it considers today.
+     */
+    public Summary populate(IUserManager userManager, IInternshipManager internshipManager,
+                            IApplicationManager applicationManager, IClockService clock) {
+        int today = clock.today();
+
+        List<Student> studentList = new ArrayList<>(students);
+        for (int i = 0; i < students; i++) {
+            studentList.add(new Student(studentId(i), PASSWORD, studentName(i), studentYear(i), studentMajor(i)));
+        }
+        userManager.addUsers(studentList);
+        List<Staff> staffList = new ArrayList<>(staff);
+        for (int i = 0; i < staff; i++) {
+            staffList.add(staff(i));
+        }
+        userManager.addUsers(staffList);
+
+        List<CompanyRep> approvedReps = new ArrayList<>();
+        List<Internship> internships = new ArrayList<>();
+        for (int r = 0; r < reps; r++) {
+            CompanyRep rep = rep(r);
+            String status = repStatus(r);
+            if (status.equals("Approved")) {
+                rep.setApproved(true);
+                approvedReps.add(rep);
+                addPostings(r, rep, today, internships);
+            } else if (status.equals("Pending")) {
+                userManager.addPendingCompanyRep(rep);
+            }
+        }
+        userManager.addUsers(approvedReps);
+        for (Internship internship : internships) {
+            internshipManager.addInternship(internship);
+        }
+
+        int applications = apply(studentList, internships, applicationManager, today);
+        int[] outcomes = decide(studentList, applicationManager, today);
+        return new Summary(studentList.size() + staffList.size() + approvedReps.size(), internships.size(),
+            applications, outcomes[0], outcomes[1]);
+    }
+
+    /**
+     * Counts of what {@link #populate} loaded.
+     * @param users students, staff and approved representatives
+     * @param offers applications marked Successful
+     * @param placements offers the student accepted
+     */
+    public record Summary(int users, int internships, int applications, int offers, int placements) {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: DatasetGenerator <outputDir> [students] [seed]");
+            System.exit(1);
+        }
+        Path directory = Path.of(args[0]);
+        int students = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42;
+
+        DatasetGenerator generator = new DatasetGenerator(seed, students);
+        long start = System.nanoTime();
+        generator.writeCsv(directory);
+        System.out.printf("Wrote %,d students, %,d staff and %,d company representatives (%,d companies) to %s in %d ms%n",
+            generator.getStudentCount(), generator.getStaffCount(), generator.getCompanyRepCount(),
+            generator.getCompanyCount(), directory, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // Ids follow the U#######L format; the letter carries the count past ten million
+    static String studentId(int index) {
+        char letter = (char) ('A' + index / 10_000_000);
+        return String.format("U%07d%c", index % 10_000_000, letter);
+    }
+
+    private String studentName(int i) {
+        return FIRST_NAMES[uniformInt(FIRST_NAME, i, FIRST_NAMES.length)] + " "
+            + LAST_NAMES[uniformInt(LAST_NAME, i, LAST_NAMES.length)];
+    }
+
+    private String studentMajor(int i) {
+        return MAJORS[majorPopularity.sample(uniform(MAJOR, i))];
+    }
+
+    private int studentYear(int i) {
+        return 1 + uniformInt(YEAR, i, 4);
+    }
+
+    private Staff staff(int i) {
+        String id = String.format("staff%04d", i);
+        Staff member = new Staff(id, PASSWORD, FIRST_NAMES[i % FIRST_NAMES.length] + " "
+            + LAST_NAMES[(i / FIRST_NAMES.length) % LAST_NAMES.length], STAFF_DEPARTMENTS[i % STAFF_DEPARTMENTS.length]);
+        member.setEmail(id + "@university.edu");
+        return member;
+    }
+
+    private int repCompany(int r) {
+        return companyPopularity.sample(uniform(REP_COMPANY, r));
+    }
+
+    private CompanyRep rep(int r) {
+        int company = repCompany(r);
+        String email = "rep" + r + "@" + companyDomain(company);
+        String name = FIRST_NAMES[uniformInt(FIRST_NAME, -1 - r, FIRST_NAMES.length)] + " "
+            + LAST_NAMES[uniformInt(LAST_NAME, -1 - r, LAST_NAMES.length)];
+        return new CompanyRep(email, PASSWORD, name, companyName(company),
+            DEPARTMENTS[uniformInt(REP_DETAIL, r, DEPARTMENTS.length)],
+            POSITIONS[uniformInt(REP_DETAIL, -1 - r, POSITIONS.length)]);
+    }
+
+    private String repStatus(int r) {
+        double u = uniform(REP_STATUS, r);
+        return u < 0.90 ? "Approved" : u < 0.98 ? "Pending" : "Rejected";
+    }
+
+    private static String companyName(int company) {
+        String name = COMPANY_PREFIXES[company % COMPANY_PREFIXES.length] + " "
+            + COMPANY_SUFFIXES[(company / COMPANY_PREFIXES.length) % COMPANY_SUFFIXES.length];
+        int round = company / (COMPANY_PREFIXES.length * COMPANY_SUFFIXES.length);
+        return round == 0 ? name : name + " " + (round + 1);
+    }
+
+    private static String companyDomain(int company) {
+        return companyName(company).toLowerCase().replace(" ", "") + ".com";
+    }
+
+    // Representatives of the top tenth of companies post three to five internships, the rest one to three
+    private void addPostings(int r, CompanyRep rep, int today, List<Internship> internships) {
+        boolean popular = repCompany(r) < Math.max(1, companies / 10);
+        int count = (popular ? 3 : 1) + uniformInt(POSTINGS, r, 3);
+        for (int p = 0; p < Math.min(count, BusinessRules.MAX_INTERNSHIPS_PER_COMPANY); p++) {
+            long row = (long) r * BusinessRules.MAX_INTERNSHIPS_PER_COMPANY + p;
+            double level = uniform(LEVEL, row);
+            int opening = today - openingDaysAgo(row);
+            int closing = opening + 28 + uniformInt(DURATION, row, 85);
+            Internship internship = new Internship(ROLES[uniformInt(ROLE, row, ROLES.length)],
+                "Generated posting " + row, LEVELS[level < 0.5 ? 0 : level < 0.8 ? 1 : 2],
+                MAJORS[majorPopularity.sample(uniform(MAJOR, -1 - row))], date(opening), date(closing),
+                rep.getCompanyName(), rep.getUserId(), 1 + uniformInt(SLOTS, row, BusinessRules.MAX_SLOTS_PER_INTERNSHIP));
+            double status = uniform(POSTING_STATUS, row);
+            if (status < 0.85) {
+                internship.setStatus("Approved");
+                internship.setVisible(status < 0.82);
+            } else if (status >= 0.95) {
+                internship.setStatus("Rejected");
+            }
+            internships.add(internship);
+        }
+    }
+
+    // Seven in ten postings open on a recruiting day, the rest anywhere in the season
+    private int openingDaysAgo(long row) {
+        double u = uniform(OPENING, row);
+        if (u < 0.7) {
+            return OPENING_DAYS_AGO[(int) (u / 0.7 * OPENING_DAYS_AGO.length)];
+        }
+        return (int) ((u - 0.7) / 0.3 * SEASON_DAYS);
+    }
+
+    /**
+     * Pick each student's targets, date each application, and submit them all in date order.
+     * @return how many applications were accepted
+     */
+    private int apply(List<Student> studentList, List<Internship> internships, IApplicationManager applicationManager,
+                      int today) {
+        // Open postings per major, most popular company first; juniors only see Basic ones
+        int[] companyRanks = new int[internships.size()];
+        for (int t = 0; t < companyRanks.length; t++) {
+            String repId = internships.get(t).getRepId();
+            companyRanks[t] = repCompany(Integer.parseInt(repId.substring(3, repId.indexOf('@'))));
+        }
+        Targets seniorTargets = new Targets(internships, companyRanks, today, false);
+        Targets juniorTargets = new Targets(internships, companyRanks, today, true);
+
+        long[] events = new long[students * BusinessRules.MAX_APPLICATIONS_PER_STUDENT];
+        int eventCount = 0;
+        for (int i = 0; i < students; i++) {
+            Student student = studentList.get(i);
+            Targets targets = student.getYear() <= 2 ? juniorTargets : seniorTargets;
+            double u = uniform(APPLICATION_COUNT, i);
+            int wanted = u < 0.2 ? 0 : u < 0.45 ? 1 : u < 0.7 ? 2 : 3;
+            for (int a = 0; a < wanted; a++) {
+                long row = (long) i * BusinessRules.MAX_APPLICATIONS_PER_STUDENT + a;
+                // Four in five applications stay within the student's own major
+                int major = uniform(TARGET_MAJOR, row) < 0.8 ? majorIndex(student.getMajor())
+                    : majorPopularity.sample(uniform(MAJOR, -1_000_000_000L - row));
+                int target = targets.pick(major, uniform(TARGET, row));
+                if (target < 0) {
+                    continue;
+                }
+                Internship internship = internships.get(target);
+                int day = Math.min(today, internship.getOpeningDay() + burstDelay(row));
+                if (day > internship.getClosingDay()) {
+                    continue;
+                }
+                // Day, student and posting packed into one long, so sorting orders by day and then by student
+                events[eventCount++] = ((long) (day - today + 2_048) << 52) | ((long) i << 26) | target;
+            }
+        }
+        Arrays.sort(events, 0, eventCount);
+
+        int applied = 0;
+        for (int e = 0; e < eventCount; e++) {
+            int student = (int) (events[e] >>> 26) & ((1 << 26) - 1);
+            int target = (int) events[e] & ((1 << 26) - 1);
+            if (applicationManager.applyForInternship(studentList.get(student), internships.get(target))) {
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    // Half of applications arrive within two days of opening, and almost all within three weeks
+    private int burstDelay(long row) {
+        return (int) (-Math.log(1 - uniform(DELAY, row)) * 3);
+    }
+
+    /**
+     * Companies decide on older applications, and students accept some of their offers.
+     * @return offers made and placements accepted
+     */
+    private int[] decide(List<Student> studentList, IApplicationManager applicationManager, int today) {
+        int offers = 0;
+        int placements = 0;
+        for (int i = 0; i < studentList.size(); i++) {
+            Student student = studentList.get(i);
+            Application offer = null;
+            List<Application> applications = applicationManager.getApplicationsForStudent(student.getUserId());
+            for (int a = 0; a < applications.size(); a++) {
+                Application application = applications.get(a);
+                if (today - application.getInternship().getOpeningDay() < 14) {
+                    continue;
+                }
+                // Keyed by position rather than application id, which depends on what else the JVM created
+                long row = (long) i * BusinessRules.MAX_APPLICATIONS_PER_STUDENT + a;
+                double u = uniform(DECISION, row);
+                if (u < 0.35 && applicationManager.updateApplicationStatus(application, "Successful")) {
+                    offers++;
+                    if (offer == null) {
+                        offer = application;
+                    }
+                } else if (u >= 0.35 && u < 0.8) {
+                    applicationManager.updateApplicationStatus(application, "Unsuccessful");
+                }
+            }
+            if (offer != null && uniform(ACCEPTANCE, i) < 0.6
+                    && applicationManager.acceptPlacement(student.getUserId(), offer)) {
+                placements++;
+            }
+        }
+        return new int[] {offers, placements};
+    }
+
+    private static int majorIndex(String major) {
+        for (int m = 0; m < MAJORS.length; m++) {
+            if (MAJORS[m].equals(major)) {
+                return m;
+            }
+        }
+        return 0;
+    }
+
+    private static String date(int epochDay) {
+        return LocalDate.ofEpochDay(epochDay).toString();
+    }
+
+    private double uniform(int attribute, long row) {
+        return (bits(attribute, row) >>> 11) * 0x1.0p-53;
+    }
+
+    private int uniformInt(int attribute, long row, int bound) {
+        return (int) (((bits(attribute, row) >>> 33) * bound) >>> 31);
+    }
+
+    // SplitMix64 finaliser over the seed, attribute and row
+    private long bits(int attribute, long row) {
+        long z = seed + attribute * 0x9E3779B97F4A7C15L + row * 0xD1B54A32D192ED03L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Open postings grouped by preferred major, each group ordered by company popularity, with a Zipf
+     * table per group so popular companies draw most applicants.
+     */
+    private final class Targets {
+        private final int[][] byMajor;
+        private final Zipf[] popularity;
+
+        Targets(List<Internship> internships, int[] companyRanks, int today, boolean basicOnly) {
+            // (company rank, posting) packed so one primitive sort per major orders the group
+            long[][] groups = new long[MAJORS.length][16];
+            int[] sizes = new int[MAJORS.length];
+            for (int t = 0; t < internships.size(); t++) {
+                Internship internship = internships.get(t);
+                if (internship.isOpenForApplications(today) && internship.isVisible()
+                        && (!basicOnly || "Basic".equals(internship.getLevel()))) {
+                    int m = majorIndex(internship.getPreferredMajor());
+                    if (sizes[m] == groups[m].length) {
+                        groups[m] = Arrays.copyOf(groups[m], sizes[m] * 2);
+                    }
+                    groups[m][sizes[m]++] = ((long) companyRanks[t] << 32) | t;
+                }
+            }
+            byMajor = new int[MAJORS.length][];
+            popularity = new Zipf[MAJORS.length];
+            for (int m = 0; m < MAJORS.length; m++) {
+                Arrays.sort(groups[m], 0, sizes[m]);
+                byMajor[m] = new int[sizes[m]];
+                for (int k = 0; k < sizes[m]; k++) {
+                    byMajor[m][k] = (int) groups[m][k];
+                }
+                popularity[m] = sizes[m] == 0 ? null : new Zipf(sizes[m], 0.9);
+            }
+        }
+
+        /**
+         * @return an internship index, or -1 when the major has no open posting
+         */
+        int pick(int major, double u) {
+            return popularity[major] == null ? -1 : byMajor[major][popularity[major].sample(u)];
+        }
+    }
+}
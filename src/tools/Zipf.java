@@ -0,0 +1,35 @@
+package tools;
+import java.util.Arrays;
+
+/**
+ * Zipf distribution over ranks 0..n-1: rank k is drawn with probability proportional to 1/(k+1)^exponent.
+ * Sampling inverts a precomputed cumulative table with a binary search.
+ */
+final class Zipf {
+    private final double[] cumulative;
+
+    Zipf(int n, double exponent) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("Zipf needs at least one rank: " + n);
+        }
+        cumulative = new double[n];
+        double total = 0;
+        for (int k = 0; k < n; k++) {
+            total += 1 / Math.pow(k + 1, exponent);
+            cumulative[k] = total;
+        }
+        for (int k = 0; k < n; k++) {
+            cumulative[k] /= total;
+        }
+    }
+
+    /**
+     * @param u a uniform value in [0, 1)
+     * @return the rank u falls on
+     */
+    int sample(double u) {
+        int index = Arrays.binarySearch(cumulative, u);
+        int rank = index >= 0 ? index + 1 : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+}
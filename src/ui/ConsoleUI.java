@@ -54,4 +54,10 @@ public interface ConsoleUI {
      * Display a separator line
      */
     void displaySeparator();
+
+    /**
+     * Ask whether to show the next page of a long listing
+     * @return true to continue, false to stop listing
+     */
+    boolean promptNextPage();
 }
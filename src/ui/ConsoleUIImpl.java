@@ -104,4 +104,10 @@ public class ConsoleUIImpl implements ConsoleUI {
     public void displaySeparator() {
         System.out.println("-----------------------------------");
     }
+
+    @Override
+    public boolean promptNextPage() {
+        System.out.print("-- More: press Enter for the next page or 'q' to stop -- ");
+        return !scanner.nextLine().trim().equalsIgnoreCase("q");
+    }
 }
@@ -5,6 +5,7 @@ import service.FilterService;
 import service.IApplicationManager;
 import service.IFilterService;
 import service.IInternshipManager;
+import service.IUserManager;
 import controller.StudentController;
 
 /**
@@ -14,13 +15,16 @@ import controller.StudentController;
 public class StudentMenuHandlerFactory implements MenuHandlerFactory {
     private IInternshipManager internshipManager;
     private IApplicationManager applicationManager;
+    private IUserManager userManager;
     private ConsoleUI ui;
 
     public StudentMenuHandlerFactory(IInternshipManager internshipManager,
                                     IApplicationManager applicationManager,
+                                    IUserManager userManager,
                                     ConsoleUI ui) {
         this.internshipManager = internshipManager;
         this.applicationManager = applicationManager;
+        this.userManager = userManager;
         this.ui = ui;
     }
 
@@ -37,6 +41,7 @@ public class StudentMenuHandlerFactory implements MenuHandlerFactory {
             student,
             internshipManager,
             applicationManager,
+            userManager,
             filterService,
             ui
         );
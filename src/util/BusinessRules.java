@@ -11,6 +11,23 @@ public class BusinessRules {
     // CSV file paths
     public static final String STUDENT_CSV_PATH = "students.csv";
     public static final String STAFF_CSV_PATH = "staff.csv";
+    public static final String COMPANY_REP_CSV_PATH = "sample_company_representative_list.csv";
+    // Company rep files carry no passwords; reps loaded from them start with this one
+    public static final String DEFAULT_PASSWORD = "password";
+    // Student files at least this large are imported in parallel
+    public static final long BULK_IMPORT_MIN_BYTES = 32L * 1024 * 1024;
+
+    // Rows shown per page in long console listings
+    public static final int PAGE_SIZE = 20;
+
+    // Persistence settings
+    public static final String DATA_DIR = "data";
+    public static final int SNAPSHOT_INTERVAL_MINUTES = 10;
+
+    // Deadline settings
+    public static final int DEADLINE_CHECK_SECONDS = 60;
+    // When a posting closes, also mark applications the company never decided on as Unsuccessful
+    public static final boolean REJECT_PENDING_ON_CLOSE = false;
 
     // Validation constants
     public static final int MIN_PASSWORD_LENGTH = 6;
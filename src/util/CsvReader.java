@@ -0,0 +1,318 @@
+package util;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Streaming RFC 4180 CSV reader.
+ * Parses straight from a reusable char buffer with a small state machine; a record's fields are kept
+ * as offsets into one reusable array, so only the fields a caller asks for become Strings.
+ * Quoted fields may contain commas, doubled quotes and line breaks. Unquoted fields are trimmed like String.trim,
+ * and blank lines are skipped, matching how the data files have always been read.
+ */
+public class CsvReader implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int SYMBOL_CACHE_SIZE = 256;
+
+    private enum State {
+        FIELD_START,
+        UNQUOTED,
+        QUOTED,
+        QUOTE_IN_QUOTED
+    }
+
+    private final Reader reader;
+    private final char[] buffer;
+    private int bufferPos;
+    private int bufferLimit;
+
+    // Current record: field i spans record[fieldStart[i], fieldEnd[i])
+    private char[] record;
+    private int recordLength;
+    private int[] fieldStart;
+    private int[] fieldEnd;
+    private boolean[] fieldQuoted;
+    private int fieldCount;
+    private boolean fieldOpen;
+    private long lineNumber;
+    private long recordLine;
+    // Recently seen symbols by hash of their text, so repeated values are matched without a new String
+    private final String[] symbolCache;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+        this.buffer = new char[BUFFER_SIZE];
+        this.record = new char[256];
+        this.fieldStart = new int[16];
+        this.fieldEnd = new int[16];
+        this.fieldQuoted = new boolean[16];
+        this.symbolCache = new String[SYMBOL_CACHE_SIZE];
+        this.lineNumber = 1;
+    }
+
+    /**
+     * Advance to the next non-blank record.
+     * @return false at end of input
+     * @throws IOException on read failure or a quoted field left open at end of input
+     */
+    public boolean next() throws IOException {
+        while (true) {
+            recordLength = 0;
+            fieldCount = 0;
+            fieldOpen = false;
+            recordLine = lineNumber;
+            State state = State.FIELD_START;
+            boolean sawInput = false;
+            boolean endOfRecord = false;
+
+            while (!endOfRecord) {
+                if (bufferPos == bufferLimit && !fill()) {
+                    if (state == State.QUOTED) {
+                        throw new IOException("Unterminated quoted field starting on line " + recordLine);
+                    }
+                    if (!sawInput) {
+                        return false;
+                    }
+                    endField();
+                    break;
+                }
+                sawInput = true;
+
+                if (state == State.QUOTED) {
+                    // Copy everything up to the next quote in one go
+                    int end = bufferPos;
+                    while (end < bufferLimit && buffer[end] != '"') {
+                        if (buffer[end] == '\n') {
+                            lineNumber++;
+                        }
+                        end++;
+                    }
+                    appendRange(bufferPos, end);
+                    if (end < bufferLimit) {
+                        state = State.QUOTE_IN_QUOTED;
+                        end++;
+                    }
+                    bufferPos = end;
+                    continue;
+                }
+
+                char c = buffer[bufferPos];
+                if (state == State.QUOTE_IN_QUOTED && c == '"') {
+                    append('"');
+                    bufferPos++;
+                    state = State.QUOTED;
+                } else if (c == ',') {
+                    bufferPos++;
+                    endField();
+                    state = State.FIELD_START;
+                } else if (c == '\n' || c == '\r') {
+                    bufferPos++;
+                    if (c == '\r' && peek() == '\n') {
+                        bufferPos++;
+                    }
+                    lineNumber++;
+                    endField();
+                    endOfRecord = true;
+                } else if (state == State.FIELD_START && c == '"') {
+                    startField();
+                    fieldQuoted[fieldCount] = true;
+                    bufferPos++;
+                    state = State.QUOTED;
+                } else {
+                    if (state == State.FIELD_START) {
+                        startField();
+                    }
+                    // Unquoted run; quotes inside it are literal. Text after a closing quote is kept
+                    // rather than rejected, as most spreadsheets do.
+                    state = State.UNQUOTED;
+                    int end = bufferPos + 1;
+                    while (end < bufferLimit && (c = buffer[end]) != ',' && c != '\n' && c != '\r') {
+                        end++;
+                    }
+                    appendRange(bufferPos, end);
+                    bufferPos = end;
+                }
+            }
+
+            if (!isBlankRecord()) {
+                return true;
+            }
+        }
+    }
+
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * Line on which the current record starts, counting from 1.
+     */
+    public long getLineNumber() {
+        return recordLine;
+    }
+
+    public String getField(int index) {
+        int start = fieldStart[index];
+        int end = fieldEnd[index];
+        if (!fieldQuoted[index]) {
+            while (start < end && record[start] <= ' ') {
+                start++;
+            }
+            while (end > start && record[end - 1] <= ' ') {
+                end--;
+            }
+        }
+        return new String(record, start, end - start);
+    }
+
+    /**
+     * Read a field drawn from a small fixed set of values, such as a major or department.
+     * @return the field's {@link SymbolTable} instance; no String is created when the value was seen recently
+     */
+    public String getSymbol(int index) {
+        int start = fieldStart[index];
+        int end = fieldEnd[index];
+        if (!fieldQuoted[index]) {
+            while (start < end && record[start] <= ' ') {
+                start++;
+            }
+            while (end > start && record[end - 1] <= ' ') {
+                end--;
+            }
+        }
+
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + record[i];
+        }
+        int slot = (hash ^ (hash >>> 16)) & (SYMBOL_CACHE_SIZE - 1);
+        String cached = symbolCache[slot];
+        if (cached != null && matches(cached, start, end)) {
+            return cached;
+        }
+        String symbol = SymbolTable.intern(new String(record, start, end - start));
+        symbolCache[slot] = symbol;
+        return symbol;
+    }
+
+    /**
+     * Parse a field as a decimal int without creating an intermediate String.
+     * @throws NumberFormatException if the field is not a valid int
+     */
+    public int getInt(int index) {
+        int pos = fieldStart[index];
+        int end = fieldEnd[index];
+        while (pos < end && record[pos] <= ' ') {
+            pos++;
+        }
+        while (end > pos && record[end - 1] <= ' ') {
+            end--;
+        }
+
+        boolean negative = pos < end && record[pos] == '-';
+        if (negative || (pos < end && record[pos] == '+')) {
+            pos++;
+        }
+        if (pos == end) {
+            throw new NumberFormatException("Expected a number in column " + (index + 1) + " on line " + recordLine);
+        }
+
+        // Accumulate negatively so Integer.MIN_VALUE parses without overflow
+        long limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        long value = 0;
+        for (; pos < end; pos++) {
+            int digit = record[pos] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("Invalid number '" + getField(index) + "' on line " + recordLine);
+            }
+            value = value * 10 - digit;
+            if (value < limit) {
+                throw new NumberFormatException("Number out of range '" + getField(index) + "' on line " + recordLine);
+            }
+        }
+        return (int) (negative ? value : -value);
+    }
+
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private boolean fill() throws IOException {
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        bufferPos = 0;
+        bufferLimit = read;
+        return true;
+    }
+
+    private int peek() throws IOException {
+        if (bufferPos == bufferLimit && !fill()) {
+            return -1;
+        }
+        return buffer[bufferPos];
+    }
+
+    private void startField() {
+        if (fieldCount == fieldStart.length) {
+            fieldStart = Arrays.copyOf(fieldStart, fieldCount * 2);
+            fieldEnd = Arrays.copyOf(fieldEnd, fieldCount * 2);
+            fieldQuoted = Arrays.copyOf(fieldQuoted, fieldCount * 2);
+        }
+        fieldStart[fieldCount] = recordLength;
+        fieldQuoted[fieldCount] = false;
+        fieldOpen = true;
+    }
+
+    // Empty fields never reach startField through a character, so open them here
+    private void endField() {
+        if (!fieldOpen) {
+            startField();
+        }
+        fieldEnd[fieldCount] = recordLength;
+        fieldCount++;
+        fieldOpen = false;
+    }
+
+    private void append(char c) {
+        if (recordLength == record.length) {
+            record = Arrays.copyOf(record, recordLength * 2);
+        }
+        record[recordLength++] = c;
+    }
+
+    private void appendRange(int from, int to) {
+        int length = to - from;
+        if (recordLength + length > record.length) {
+            record = Arrays.copyOf(record, Math.max(record.length * 2, recordLength + length));
+        }
+        System.arraycopy(buffer, from, record, recordLength, length);
+        recordLength += length;
+    }
+
+    private boolean matches(String value, int start, int end) {
+        if (value.length() != end - start) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (value.charAt(i - start) != record[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isBlankRecord() {
+        if (fieldCount != 1 || fieldQuoted[0]) {
+            return false;
+        }
+        for (int i = fieldStart[0]; i < fieldEnd[0]; i++) {
+            if (record[i] > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
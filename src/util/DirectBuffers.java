@@ -0,0 +1,46 @@
+package util;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+
+/**
+ * Frees direct buffers when their owner is done with them rather than when the collector notices.
+ * The JDK has no public call for this before the foreign memory API, so it goes through Unsafe.invokeCleaner,
+ * looked up reflectively; where that is unavailable, freeing is left to the collector as before.
+ * A freed buffer must never be read again, so owners drop every reference to it first.
+ */
+public final class DirectBuffers {
+    private static final MethodHandle INVOKE_CLEANER = findCleaner();
+
+    private DirectBuffers() {
+    }
+
+    /**
+     * Release the memory behind a direct buffer allocated by {@link ByteBuffer#allocateDirect}.
+     */
+    public static void free(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null || !buffer.isDirect()) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invokeExact(buffer);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot free direct buffer", e);
+        }
+    }
+
+    private static MethodHandle findCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package util;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * Growable int array stored outside the Java heap in fixed-size direct buffer chunks.
+ * The garbage collector sees one small buffer object per chunk instead of the values themselves,
+ * and growing never copies existing values. Memory is returned by {@link #release}, or by the collector
+ * once the array becomes unreachable.
+ * Not thread-safe; callers guard shared instances.
+ */
+public class DirectIntArray {
+    private static final int CHUNK_SHIFT = 16;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final int fill;
+    private IntBuffer[] chunks;
+    // The buffers behind the int views, kept so they can be freed
+    private ByteBuffer[] memory;
+    private int capacity;
+
+    /**
+     * @param fill value every slot holds until it is first set
+     */
+    public DirectIntArray(int fill) {
+        this.fill = fill;
+        this.chunks = new IntBuffer[0];
+        this.memory = new ByteBuffer[0];
+    }
+
+    public int get(int index) {
+        return chunks[index >>> CHUNK_SHIFT].get(index & CHUNK_MASK);
+    }
+
+    public void set(int index, int value) {
+        ensureCapacity(index + 1);
+        chunks[index >>> CHUNK_SHIFT].put(index & CHUNK_MASK, value);
+    }
+
+    /**
+     * @return the value at the index, or the fill value if the index was never reached
+     */
+    public int getOrFill(int index) {
+        return index >= 0 && index < capacity ? get(index) : fill;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public void ensureCapacity(int size) {
+        while (capacity < size) {
+            ByteBuffer bytes = ByteBuffer.allocateDirect(CHUNK_SIZE * Integer.BYTES);
+            IntBuffer chunk = bytes.order(ByteOrder.nativeOrder()).asIntBuffer();
+            if (fill != 0) {
+                for (int i = 0; i < CHUNK_SIZE; i++) {
+                    chunk.put(i, fill);
+                }
+            }
+            chunks = Arrays.copyOf(chunks, chunks.length + 1);
+            chunks[chunks.length - 1] = chunk;
+            memory = Arrays.copyOf(memory, memory.length + 1);
+            memory[memory.length - 1] = bytes;
+            capacity += CHUNK_SIZE;
+        }
+    }
+
+    /**
+     * Free the off-heap memory now. The array is left empty, so a later read fails with an index error
+     * instead of touching freed memory; no other thread may be using it.
+     */
+    public void release() {
+        ByteBuffer[] freed = memory;
+        chunks = new IntBuffer[0];
+        memory = new ByteBuffer[0];
+        capacity = 0;
+        for (ByteBuffer bytes : freed) {
+            DirectBuffers.free(bytes);
+        }
+    }
+}
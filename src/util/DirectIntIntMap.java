@@ -0,0 +1,135 @@
+package util;
+/**
+ * Hash map from int keys to non-negative int values, stored off-heap in {@link DirectIntArray}s.
+ * Open addressing with linear probing, rebuilt at half load. Removal shifts the rest of the probe run back
+ * rather than leaving a tombstone, so the table never needs cleaning.
+ * Outgrown tables are freed as soon as they are rebuilt.
+ * Not thread-safe; callers guard shared instances.
+ */
+public class DirectIntIntMap {
+    public static final int MISSING = -1;
+
+    private DirectIntArray keys;
+    // Slots hold value + 1, so 0 marks an empty slot
+    private DirectIntArray values;
+    private int mask;
+    private int size;
+
+    public DirectIntIntMap() {
+        this.mask = 1023;
+        allocate();
+    }
+
+    /**
+     * @return the value for the key, or {@link #MISSING}
+     */
+    public int get(int key) {
+        for (int slot = slotFor(key); ; slot = (slot + 1) & mask) {
+            int value = values.get(slot);
+            if (value == 0) {
+                return MISSING;
+            }
+            if (keys.get(slot) == key) {
+                return value - 1;
+            }
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the value is negative
+     */
+    public void put(int key, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Values must not be negative: " + value);
+        }
+        int slot = slotFor(key);
+        while (values.get(slot) != 0 && keys.get(slot) != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (values.get(slot) == 0) {
+            size++;
+        }
+        keys.set(slot, key);
+        values.set(slot, value + 1);
+        if (size * 2 > mask + 1) {
+            rehash();
+        }
+    }
+
+    /**
+     * @return the removed value, or {@link #MISSING}
+     */
+    public int remove(int key) {
+        int hole = slotFor(key);
+        while (true) {
+            int value = values.get(hole);
+            if (value == 0) {
+                return MISSING;
+            }
+            if (keys.get(hole) == key) {
+                break;
+            }
+            hole = (hole + 1) & mask;
+        }
+        int removed = values.get(hole) - 1;
+
+        // Move back any later entry whose home slot does not lie between the hole and where it sits
+        for (int slot = (hole + 1) & mask; values.get(slot) != 0; slot = (slot + 1) & mask) {
+            int home = slotFor(keys.get(slot));
+            if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                keys.set(hole, keys.get(slot));
+                values.set(hole, values.get(slot));
+                hole = slot;
+            }
+        }
+        values.set(hole, 0);
+        size--;
+        return removed;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void rehash() {
+        DirectIntArray oldKeys = keys;
+        DirectIntArray oldValues = values;
+        int oldCapacity = mask + 1;
+        mask = mask * 2 + 1;
+        allocate();
+        for (int slot = 0; slot < oldCapacity; slot++) {
+            int value = oldValues.get(slot);
+            if (value != 0) {
+                int target = slotFor(oldKeys.get(slot));
+                while (values.get(target) != 0) {
+                    target = (target + 1) & mask;
+                }
+                keys.set(target, oldKeys.get(slot));
+                values.set(target, value);
+            }
+        }
+        oldKeys.release();
+        oldValues.release();
+    }
+
+    /**
+     * Free the off-heap memory now; the map must not be used afterwards.
+     */
+    public void release() {
+        keys.release();
+        values.release();
+        size = 0;
+    }
+
+    private void allocate() {
+        keys = new DirectIntArray(0);
+        values = new DirectIntArray(0);
+        keys.ensureCapacity(mask + 1);
+        values.ensureCapacity(mask + 1);
+    }
+
+    private int slotFor(int key) {
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
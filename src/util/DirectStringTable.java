@@ -0,0 +1,214 @@
+package util;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Interns strings as dense int keys (0, 1, 2, ...) with both the text and the lookup table stored off-heap.
+ * Text is kept as UTF-8 with a two-byte length prefix in direct buffer chunks; the lookup table is an
+ * open-addressing hash of keys probed linearly and rebuilt at half load, with each key's hash kept so
+ * rebuilding never re-reads the text.
+ * Strings are encoded into a per-thread scratch array rather than a fresh one per call, so lookups allocate
+ * nothing and concurrent finds and gets under a shared read lock never share a buffer.
+ * Not thread-safe for writes; callers guard shared instances, and may let finds and gets run together.
+ */
+public class DirectStringTable {
+    public static final int NO_KEY = -1;
+
+    private static final int TEXT_CHUNK_SHIFT = 20;
+    private static final int TEXT_CHUNK_SIZE = 1 << TEXT_CHUNK_SHIFT;
+    private static final int MAX_BYTES = 0xFFFF;
+    // Longest UTF-8 encoding of one UTF-16 char; a surrogate pair takes four bytes for two chars
+    private static final int MAX_BYTES_PER_CHAR = 3;
+
+    private static final ThreadLocal<byte[][]> SCRATCH = ThreadLocal.withInitial(() -> new byte[][] {new byte[256]});
+
+    private ByteBuffer[] text;
+    private int textPosition;
+    // Per key: where its text starts (chunk << TEXT_CHUNK_SHIFT | offset) and its hash
+    private final DirectIntArray starts;
+    private final DirectIntArray hashes;
+    // Slots hold key + 1, so 0 marks an empty slot
+    private DirectIntArray slots;
+    private int mask;
+    private int size;
+
+    public DirectStringTable() {
+        this.text = new ByteBuffer[] {ByteBuffer.allocateDirect(TEXT_CHUNK_SIZE)};
+        this.starts = new DirectIntArray(0);
+        this.hashes = new DirectIntArray(0);
+        this.slots = new DirectIntArray(0);
+        this.mask = 1023;
+        this.slots.ensureCapacity(mask + 1);
+    }
+
+    /**
+     * @return the key of the string, or {@link #NO_KEY} if it was never interned
+     */
+    public int find(String value) {
+        byte[] bytes = scratch(value.length() * MAX_BYTES_PER_CHAR);
+        int length = encode(value, bytes);
+        int hash = hash(bytes, length);
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int entry = slots.get(slot);
+            if (entry == 0) {
+                return NO_KEY;
+            }
+            int key = entry - 1;
+            if (hashes.get(key) == hash && textEquals(key, bytes, length)) {
+                return key;
+            }
+        }
+    }
+
+    /**
+     * @return the key of the string, adding it if it is new
+     * @throws IllegalArgumentException if the string is longer than 65535 bytes in UTF-8
+     */
+    public int intern(String value) {
+        byte[] bytes = scratch(value.length() * MAX_BYTES_PER_CHAR);
+        int length = encode(value, bytes);
+        if (length > MAX_BYTES) {
+            throw new IllegalArgumentException("String too long to intern: " + length + " bytes");
+        }
+        int hash = hash(bytes, length);
+        int slot = hash & mask;
+        for (int entry = slots.get(slot); entry != 0; entry = slots.get(slot)) {
+            int key = entry - 1;
+            if (hashes.get(key) == hash && textEquals(key, bytes, length)) {
+                return key;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        int key = size++;
+        starts.set(key, append(bytes, length));
+        hashes.set(key, hash);
+        slots.set(slot, key + 1);
+        if (size * 2 > mask + 1) {
+            rehash();
+        }
+        return key;
+    }
+
+    public String get(int key) {
+        int start = starts.get(key);
+        ByteBuffer chunk = text[start >>> TEXT_CHUNK_SHIFT];
+        int offset = start & (TEXT_CHUNK_SIZE - 1);
+        int length = chunk.getChar(offset);
+        byte[] bytes = scratch(length);
+        chunk.get(offset + 2, bytes, 0, length);
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Free the off-heap text and tables now. The table is left empty and must not be used afterwards;
+     * no other thread may be using it.
+     */
+    public void release() {
+        ByteBuffer[] freed = text;
+        text = new ByteBuffer[0];
+        size = 0;
+        starts.release();
+        hashes.release();
+        slots.release();
+        for (ByteBuffer chunk : freed) {
+            DirectBuffers.free(chunk);
+        }
+    }
+
+    private int append(byte[] bytes, int length) {
+        int needed = length + 2;
+        if (textPosition + needed > TEXT_CHUNK_SIZE) {
+            text = Arrays.copyOf(text, text.length + 1);
+            text[text.length - 1] = ByteBuffer.allocateDirect(TEXT_CHUNK_SIZE);
+            textPosition = 0;
+        }
+        ByteBuffer chunk = text[text.length - 1];
+        chunk.putChar(textPosition, (char) length);
+        chunk.put(textPosition + 2, bytes, 0, length);
+        int start = (text.length - 1) << TEXT_CHUNK_SHIFT | textPosition;
+        textPosition += needed;
+        return start;
+    }
+
+    private boolean textEquals(int key, byte[] bytes, int length) {
+        int start = starts.get(key);
+        ByteBuffer chunk = text[start >>> TEXT_CHUNK_SHIFT];
+        int offset = start & (TEXT_CHUNK_SIZE - 1);
+        if (chunk.getChar(offset) != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (chunk.get(offset + 2 + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rehash() {
+        slots.release();
+        mask = mask * 2 + 1;
+        slots = new DirectIntArray(0);
+        slots.ensureCapacity(mask + 1);
+        for (int key = 0; key < size; key++) {
+            int slot = hashes.get(key) & mask;
+            while (slots.get(slot) != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots.set(slot, key + 1);
+        }
+    }
+
+    // This thread's scratch array, grown to hold at least the given number of bytes
+    private static byte[] scratch(int capacity) {
+        byte[][] holder = SCRATCH.get();
+        if (holder[0].length < capacity) {
+            holder[0] = new byte[Math.max(capacity, holder[0].length * 2)];
+        }
+        return holder[0];
+    }
+
+    // Same bytes as String.getBytes(UTF_8), which writes '?' for an unpaired surrogate; returns the length
+    private static int encode(String value, byte[] bytes) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes[length++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[length++] = (byte) (0xC0 | c >> 6);
+                bytes[length++] = (byte) (0x80 | c & 0x3F);
+            } else if (!Character.isSurrogate(c)) {
+                bytes[length++] = (byte) (0xE0 | c >> 12);
+                bytes[length++] = (byte) (0x80 | c >> 6 & 0x3F);
+                bytes[length++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                bytes[length++] = (byte) (0xF0 | codePoint >> 18);
+                bytes[length++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                bytes[length++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                bytes[length++] = (byte) (0x80 | codePoint & 0x3F);
+            } else {
+                bytes[length++] = '?';
+            }
+        }
+        return length;
+    }
+
+    private static int hash(byte[] bytes, int length) {
+        // Arrays.hashCode over the encoded bytes
+        int hash = 1;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        // Spread the high bits down, since only the low bits pick a slot
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,79 @@
+package util;
+/**
+ * Converts yyyy-MM-dd dates to and from days since 1970-01-01.
+ * Dates are compared far more often than they are entered, so they are parsed once into an int
+ * and every later check is plain integer arithmetic.
+ */
+public final class EpochDays {
+    /**
+     * Returned by {@link #parse} for anything that is not a real calendar date.
+     */
+    public static final int INVALID = Integer.MIN_VALUE;
+
+    private static final int DAYS_0000_TO_1970 = 719_528;
+
+    private EpochDays() {
+    }
+
+    /**
+     * Parse a strict yyyy-MM-dd date without allocating.
+     * @return the epoch day, or {@link #INVALID} if the text is malformed or names a day that does not exist
+     */
+    public static int parse(String text) {
+        if (text == null || text.length() != 10 || text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return INVALID;
+        }
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 7);
+        int day = digits(text, 8, 10);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return INVALID;
+        }
+
+        // Same arithmetic as LocalDate.toEpochDay, restricted to years 0000-9999
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return (int) (total - DAYS_0000_TO_1970);
+    }
+
+    public static boolean isValid(String text) {
+        return parse(text) != INVALID;
+    }
+
+    private static int digits(String text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package util;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonical instances of the short values that repeat across many objects: majors, levels, dates and
+ * staff departments. Interning them lets every Student of a major share one String instead of holding
+ * its own copy, and repeated values compare by identity, which String.equals checks first.
+ * Each symbol also gets a small dense id, for callers that want to key arrays or bitmaps by value.
+ * Symbols are never removed, so only bounded vocabularies belong here. Ids, names and anything users type
+ * in freely, such as company names and positions, stay ordinary Strings.
+ */
+public final class SymbolTable {
+    /**
+     * The id of null, which is never a symbol.
+     */
+    public static final int NO_ID = -1;
+
+    private static final ConcurrentHashMap<String, Symbol> SYMBOLS = new ConcurrentHashMap<>();
+    // Symbol text by id; replaced rather than resized in place, so lock-free readers never see a torn copy
+    private static volatile String[] byId = new String[64];
+    private static int size;
+
+    private SymbolTable() {
+        throw new AssertionError("Cannot instantiate SymbolTable class");
+    }
+
+    /**
+     * @return the canonical instance equal to value, or null for null
+     */
+    public static String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        Symbol symbol = SYMBOLS.get(value);
+        return symbol != null ? symbol.value() : add(value).value();
+    }
+
+    /**
+     * @return the id of value, adding it if it is new, or NO_ID for null
+     */
+    public static int idOf(String value) {
+        if (value == null) {
+            return NO_ID;
+        }
+        Symbol symbol = SYMBOLS.get(value);
+        return symbol != null ? symbol.id() : add(value).id();
+    }
+
+    /**
+     * @return the symbol with the given id
+     * @throws IndexOutOfBoundsException if no symbol has that id
+     */
+    public static String valueOf(int id) {
+        String[] values = byId;
+        String value = id >= 0 && id < values.length ? values[id] : null;
+        if (value == null) {
+            throw new IndexOutOfBoundsException("No symbol with id " + id);
+        }
+        return value;
+    }
+
+    public static int size() {
+        return SYMBOLS.size();
+    }
+
+    private static synchronized Symbol add(String value) {
+        Symbol symbol = SYMBOLS.get(value);
+        if (symbol != null) {
+            return symbol;
+        }
+        symbol = new Symbol(value, size);
+        String[] values = byId;
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = symbol.value();
+        byId = values;
+        SYMBOLS.put(symbol.value(), symbol);
+        return symbol;
+    }
+
+    private record Symbol(String value, int id) {
+    }
+}
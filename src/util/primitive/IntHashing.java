@@ -0,0 +1,31 @@
+package util.primitive;
+/**
+ * Hashing and sizing shared by the open-addressing tables in this package.
+ * Tables are powers of two, probed linearly, and rebuilt once live entries plus tombstones pass two thirds.
+ */
+final class IntHashing {
+    private static final int MIN_CAPACITY = 8;
+
+    private IntHashing() {
+    }
+
+    /**
+     * Spread sequential ids across the table so they do not cluster into one probe run.
+     */
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Smallest table that holds entries at most half full.
+     */
+    static int capacityFor(int entries) {
+        int wanted = Math.max(MIN_CAPACITY, entries * 2);
+        return wanted > 1 << 30 ? 1 << 30 : Integer.highestOneBit(wanted - 1) << 1;
+    }
+
+    static boolean needsRebuild(int filled, int capacity) {
+        return filled * 3L > capacity * 2L;
+    }
+}
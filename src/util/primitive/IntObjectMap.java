@@ -0,0 +1,216 @@
+package util.primitive;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Open-addressing map from int keys to objects, without boxing keys or allocating an entry per mapping.
+ * Reads are lock-free and may run alongside writes; writes are serialised on the map.
+ * A slot's key is written before its value is published, and slots are never reused for another key
+ * within one table: removals leave a tombstone and the table is rebuilt once tombstones pile up. A reader
+ * that finds its key therefore always reads that key's value, and a rebuild swaps in the new table whole.
+ * Iteration is weakly consistent, like ConcurrentHashMap's.
+ */
+public class IntObjectMap<V> {
+    private static final VarHandle VALUES = MethodHandles.arrayElementVarHandle(Object[].class);
+    private static final Object REMOVED = new Object();
+
+    private volatile Table table;
+    // Guarded by this
+    private int size;
+    private int filled;
+
+    public IntObjectMap() {
+        this(16);
+    }
+
+    public IntObjectMap(int expectedSize) {
+        this.table = new Table(IntHashing.capacityFor(expectedSize));
+    }
+
+    /**
+     * @return the value for key, or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        Table current = table;
+        int mask = current.keys.length - 1;
+        for (int slot = IntHashing.mix(key) & mask; ; slot = (slot + 1) & mask) {
+            Object value = VALUES.getAcquire(current.values, slot);
+            if (value == null) {
+                return null;
+            }
+            // A removed key may have been added again further along the probe run
+            if (current.keys[slot] == key && value != REMOVED) {
+                return (V) value;
+            }
+        }
+    }
+
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    /**
+     * @return the previous value for key, or null if there was none
+     */
+    public synchronized V put(int key, V value) {
+        return insert(key, value, false);
+    }
+
+    /**
+     * @return the existing value for key, or null if value was added
+     */
+    public synchronized V putIfAbsent(int key, V value) {
+        return insert(key, value, true);
+    }
+
+    /**
+     * Return the value for key, adding the one built by mappingFunction if there is none.
+     * The function runs under the map's lock, so it must be short and must not touch this map.
+     */
+    public V computeIfAbsent(int key, IntFunction<? extends V> mappingFunction) {
+        V existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+        synchronized (this) {
+            existing = get(key);
+            if (existing != null) {
+                return existing;
+            }
+            V value = mappingFunction.apply(key);
+            insert(key, value, false);
+            return value;
+        }
+    }
+
+    /**
+     * @return the removed value, or null if key was absent
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized V remove(int key) {
+        Table current = table;
+        int slot = find(current, key);
+        if (slot < 0) {
+            return null;
+        }
+        Object previous = current.values[slot];
+        VALUES.setRelease(current.values, slot, REMOVED);
+        size--;
+        return (V) previous;
+    }
+
+    /**
+     * Remove key only while it still maps to value.
+     */
+    public synchronized boolean remove(int key, V value) {
+        Table current = table;
+        int slot = find(current, key);
+        if (slot < 0 || current.values[slot] != value) {
+            return false;
+        }
+        VALUES.setRelease(current.values, slot, REMOVED);
+        size--;
+        return true;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Visit every value, in no particular order.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachValue(Consumer<? super V> action) {
+        Object[] values = table.values;
+        for (int slot = 0; slot < values.length; slot++) {
+            Object value = VALUES.getAcquire(values, slot);
+            if (value != null && value != REMOVED) {
+                action.accept((V) value);
+            }
+        }
+    }
+
+    // Callers must hold this
+    @SuppressWarnings("unchecked")
+    private V insert(int key, V value, boolean onlyIfAbsent) {
+        if (value == null) {
+            throw new NullPointerException("IntObjectMap does not hold null values");
+        }
+        Table current = table;
+        int slot = find(current, key);
+        if (slot >= 0) {
+            Object previous = current.values[slot];
+            if (!onlyIfAbsent) {
+                VALUES.setRelease(current.values, slot, value);
+            }
+            return (V) previous;
+        }
+
+        if (IntHashing.needsRebuild(filled + 1, current.keys.length)) {
+            current = rebuild(current, size + 1);
+        }
+        int mask = current.keys.length - 1;
+        slot = IntHashing.mix(key) & mask;
+        while (current.values[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        current.keys[slot] = key;
+        VALUES.setRelease(current.values, slot, value);
+        size++;
+        filled++;
+        return null;
+    }
+
+    // Slot holding a live mapping for key, or -1
+    private static int find(Table current, int key) {
+        int mask = current.keys.length - 1;
+        for (int slot = IntHashing.mix(key) & mask; ; slot = (slot + 1) & mask) {
+            Object value = current.values[slot];
+            if (value == null) {
+                return -1;
+            }
+            if (current.keys[slot] == key && value != REMOVED) {
+                return slot;
+            }
+        }
+    }
+
+    // Copy the live mappings into a fresh table, dropping tombstones, and publish it
+    private Table rebuild(Table old, int minimumSize) {
+        Table fresh = new Table(IntHashing.capacityFor(minimumSize));
+        int mask = fresh.keys.length - 1;
+        for (int i = 0; i < old.keys.length; i++) {
+            Object value = old.values[i];
+            if (value == null || value == REMOVED) {
+                continue;
+            }
+            int slot = IntHashing.mix(old.keys[i]) & mask;
+            while (fresh.values[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            fresh.keys[slot] = old.keys[i];
+            fresh.values[slot] = value;
+        }
+        filled = size;
+        table = fresh;
+        return fresh;
+    }
+
+    private static final class Table {
+        final int[] keys;
+        final Object[] values;
+
+        Table(int capacity) {
+            this.keys = new int[capacity];
+            this.values = new Object[capacity];
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package util.primitive;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Open-addressing set of ints, with no boxing and no per-element objects.
+ * Not thread-safe; callers that share one must lock around it, as with HashSet.
+ */
+public class IntSet {
+    private static final byte FREE = 0;
+    private static final byte FULL = 1;
+    private static final byte REMOVED = 2;
+
+    private int[] elements;
+    private byte[] states;
+    private int size;
+    // Live elements plus tombstones
+    private int filled;
+
+    public IntSet() {
+        this(16);
+    }
+
+    public IntSet(int expectedSize) {
+        allocate(IntHashing.capacityFor(expectedSize));
+    }
+
+    public boolean contains(int value) {
+        return find(value) >= 0;
+    }
+
+    /**
+     * @return true if value was not already present
+     */
+    public boolean add(int value) {
+        if (find(value) >= 0) {
+            return false;
+        }
+        if (IntHashing.needsRebuild(filled + 1, elements.length)) {
+            rebuild(IntHashing.capacityFor(size + 1));
+        }
+        int mask = elements.length - 1;
+        int slot = IntHashing.mix(value) & mask;
+        while (states[slot] != FREE) {
+            slot = (slot + 1) & mask;
+        }
+        elements[slot] = value;
+        states[slot] = FULL;
+        size++;
+        filled++;
+        return true;
+    }
+
+    /**
+     * @return true if value was present
+     */
+    public boolean remove(int value) {
+        int slot = find(value);
+        if (slot < 0) {
+            return false;
+        }
+        states[slot] = REMOVED;
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(states, FREE);
+        size = 0;
+        filled = 0;
+    }
+
+    /**
+     * Visit every element, in no particular order.
+     */
+    public void forEach(IntConsumer action) {
+        for (int slot = 0; slot < elements.length; slot++) {
+            if (states[slot] == FULL) {
+                action.accept(elements[slot]);
+            }
+        }
+    }
+
+    /**
+     * @return the elements in ascending order
+     */
+    public int[] toSortedArray() {
+        int[] result = new int[size];
+        int next = 0;
+        for (int slot = 0; slot < elements.length; slot++) {
+            if (states[slot] == FULL) {
+                result[next++] = elements[slot];
+            }
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    private int find(int value) {
+        int mask = elements.length - 1;
+        for (int slot = IntHashing.mix(value) & mask; ; slot = (slot + 1) & mask) {
+            byte state = states[slot];
+            if (state == FREE) {
+                return -1;
+            }
+            if (state == FULL && elements[slot] == value) {
+                return slot;
+            }
+        }
+    }
+
+    private void rebuild(int capacity) {
+        int[] oldElements = elements;
+        byte[] oldStates = states;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldElements.length; i++) {
+            if (oldStates[i] != FULL) {
+                continue;
+            }
+            int slot = IntHashing.mix(oldElements[i]) & mask;
+            while (states[slot] != FREE) {
+                slot = (slot + 1) & mask;
+            }
+            elements[slot] = oldElements[i];
+            states[slot] = FULL;
+        }
+        filled = size;
+    }
+
+    private void allocate(int capacity) {
+        elements = new int[capacity];
+        states = new byte[capacity];
+    }
+}
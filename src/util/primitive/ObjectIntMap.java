@@ -0,0 +1,130 @@
+package util.primitive;
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from object keys to int values, with no boxed values and no per-mapping objects.
+ * Keys are compared with equals and must not be null.
+ * Not thread-safe; callers that share one must lock around it, as with HashMap.
+ */
+public class ObjectIntMap<K> {
+    private static final byte FREE = 0;
+    private static final byte FULL = 1;
+    private static final byte REMOVED = 2;
+
+    private Object[] keys;
+    private int[] values;
+    private byte[] states;
+    private int size;
+    // Live entries plus tombstones
+    private int filled;
+
+    public ObjectIntMap() {
+        this(16);
+    }
+
+    public ObjectIntMap(int expectedSize) {
+        allocate(IntHashing.capacityFor(expectedSize));
+    }
+
+    /**
+     * @return the value for key, or defaultValue if there is none
+     */
+    public int getOrDefault(K key, int defaultValue) {
+        int slot = find(key);
+        return slot < 0 ? defaultValue : values[slot];
+    }
+
+    public boolean containsKey(K key) {
+        return find(key) >= 0;
+    }
+
+    public void put(K key, int value) {
+        int slot = find(key);
+        if (slot >= 0) {
+            values[slot] = value;
+            return;
+        }
+        if (IntHashing.needsRebuild(filled + 1, keys.length)) {
+            rebuild(IntHashing.capacityFor(size + 1));
+        }
+        int mask = keys.length - 1;
+        slot = IntHashing.mix(key.hashCode()) & mask;
+        while (states[slot] != FREE) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        states[slot] = FULL;
+        size++;
+        filled++;
+    }
+
+    /**
+     * @return the removed value, or defaultValue if key was absent
+     */
+    public int remove(K key, int defaultValue) {
+        int slot = find(key);
+        if (slot < 0) {
+            return defaultValue;
+        }
+        keys[slot] = null;
+        states[slot] = REMOVED;
+        size--;
+        return values[slot];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, null);
+        Arrays.fill(states, FREE);
+        size = 0;
+        filled = 0;
+    }
+
+    private int find(Object key) {
+        int mask = keys.length - 1;
+        for (int slot = IntHashing.mix(key.hashCode()) & mask; ; slot = (slot + 1) & mask) {
+            byte state = states[slot];
+            if (state == FREE) {
+                return -1;
+            }
+            if (state == FULL && keys[slot].equals(key)) {
+                return slot;
+            }
+        }
+    }
+
+    private void rebuild(int capacity) {
+        Object[] oldKeys = keys;
+        int[] oldValues = values;
+        byte[] oldStates = states;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldStates[i] != FULL) {
+                continue;
+            }
+            int slot = IntHashing.mix(oldKeys[i].hashCode()) & mask;
+            while (states[slot] != FREE) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+            states[slot] = FULL;
+        }
+        filled = size;
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new int[capacity];
+        states = new byte[capacity];
+    }
+}
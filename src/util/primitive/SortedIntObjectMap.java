@@ -0,0 +1,243 @@
+package util.primitive;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Map from int keys to objects that iterates in key order, without boxing keys or allocating an entry per mapping.
+ * Keys sit in one sorted array, so lookups are a binary search and ordered walks are a linear scan.
+ * Reads are lock-free and may run alongside writes; writes are serialised on the map.
+ * Built for ids, which arrive in ascending order: a key above every other is appended in place and published
+ * by bumping the table's end, while any other new key copies the table. Removals leave a tombstone until
+ * tombstones outnumber live entries and the table is compacted. A published slot never changes key, and a
+ * replacement table is swapped in whole, so readers never see keys out of order.
+ * Iteration is weakly consistent, like ConcurrentSkipListMap's.
+ */
+public class SortedIntObjectMap<V> implements Iterable<V> {
+    private static final VarHandle VALUES = MethodHandles.arrayElementVarHandle(Object[].class);
+    private static final Object REMOVED = new Object();
+    private static final int MIN_CAPACITY = 8;
+
+    private volatile Table table;
+    // Guarded by this
+    private int size;
+    private int tombstones;
+
+    public SortedIntObjectMap() {
+        this(MIN_CAPACITY);
+    }
+
+    public SortedIntObjectMap(int expectedSize) {
+        this.table = new Table(Math.max(expectedSize, MIN_CAPACITY));
+    }
+
+    /**
+     * @return the value for key, or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        Table current = table;
+        int index = Arrays.binarySearch(current.keys, 0, current.end, key);
+        if (index < 0) {
+            return null;
+        }
+        Object value = VALUES.getAcquire(current.values, index);
+        return value == REMOVED ? null : (V) value;
+    }
+
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    /**
+     * @return the previous value for key, or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized V put(int key, V value) {
+        if (value == null) {
+            throw new NullPointerException("SortedIntObjectMap does not hold null values");
+        }
+        Table current = table;
+        int end = current.end;
+        int index = Arrays.binarySearch(current.keys, 0, end, key);
+        if (index >= 0) {
+            Object previous = current.values[index];
+            VALUES.setRelease(current.values, index, value);
+            if (previous != REMOVED) {
+                return (V) previous;
+            }
+            tombstones--;
+            size++;
+            return null;
+        }
+
+        int insertAt = -index - 1;
+        if (insertAt == end && end < current.keys.length) {
+            current.keys[end] = key;
+            current.values[end] = value;
+            // Publishes the slot written above
+            current.end = end + 1;
+        } else {
+            rebuild(current, insertAt, key, value);
+        }
+        size++;
+        return null;
+    }
+
+    /**
+     * @return the removed value, or null if key was absent
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized V remove(int key) {
+        Table current = table;
+        int index = Arrays.binarySearch(current.keys, 0, current.end, key);
+        if (index < 0 || current.values[index] == REMOVED) {
+            return null;
+        }
+        Object previous = current.values[index];
+        removeAt(current, index);
+        return (V) previous;
+    }
+
+    /**
+     * Remove key only while it still maps to value.
+     */
+    public synchronized boolean remove(int key, V value) {
+        Table current = table;
+        int index = Arrays.binarySearch(current.keys, 0, current.end, key);
+        if (index < 0 || current.values[index] != value) {
+            return false;
+        }
+        removeAt(current, index);
+        return true;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Values in ascending key order.
+     */
+    public Iterator<V> iterator() {
+        Table current = table;
+        return new Values<>(current, 0, current.end);
+    }
+
+    /**
+     * Values whose keys are greater than the given key, in ascending key order.
+     */
+    public Iterator<V> iteratorAfter(int key) {
+        Table current = table;
+        int end = current.end;
+        int index = Arrays.binarySearch(current.keys, 0, end, key);
+        return new Values<>(current, index >= 0 ? index + 1 : -index - 1, end);
+    }
+
+    public Stream<V> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(),
+            Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Copy of the values in ascending key order.
+     */
+    public List<V> values() {
+        List<V> values = new ArrayList<>();
+        for (V value : this) {
+            values.add(value);
+        }
+        return values;
+    }
+
+    // Callers must hold this
+    private void removeAt(Table current, int index) {
+        VALUES.setRelease(current.values, index, REMOVED);
+        size--;
+        tombstones++;
+        if (tombstones > MIN_CAPACITY && tombstones > size) {
+            rebuild(current, -1, 0, null);
+        }
+    }
+
+    // Copy the live mappings, plus the new one at insertAt if there is one, into a fresh table and publish it
+    private void rebuild(Table old, int insertAt, int key, Object value) {
+        Table fresh = new Table(Math.max(MIN_CAPACITY, (size + 1) * 2));
+        int count = 0;
+        for (int i = 0; i <= old.end; i++) {
+            if (i == insertAt) {
+                fresh.keys[count] = key;
+                fresh.values[count++] = value;
+            }
+            if (i < old.end && old.values[i] != REMOVED) {
+                fresh.keys[count] = old.keys[i];
+                fresh.values[count++] = old.values[i];
+            }
+        }
+        fresh.end = count;
+        tombstones = 0;
+        table = fresh;
+    }
+
+    private static final class Table {
+        final int[] keys;
+        final Object[] values;
+        // Slots below this are published; raised only under the map's lock, after the slot is written
+        volatile int end;
+
+        Table(int capacity) {
+            this.keys = new int[capacity];
+            this.values = new Object[capacity];
+        }
+    }
+
+    private static final class Values<V> implements Iterator<V> {
+        private final Table table;
+        private final int end;
+        private int index;
+        private V next;
+
+        Values(Table table, int from, int end) {
+            this.table = table;
+            this.end = end;
+            this.index = from;
+            advance();
+        }
+
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        public V next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            V current = next;
+            advance();
+            return current;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+            next = null;
+            while (next == null && index < end) {
+                Object value = VALUES.getAcquire(table.values, index++);
+                if (value != REMOVED) {
+                    next = (V) value;
+                }
+            }
+        }
+    }
+}
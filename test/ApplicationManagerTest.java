@@ -2,11 +2,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import model.Application;
+import model.ApplicationStatus;
 import model.Internship;
 import model.Student;
+import model.WithdrawalStatus;
 import service.ApplicationManager;
 import util.BusinessRules;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class ApplicationManagerTest {
@@ -16,7 +21,7 @@ public class ApplicationManagerTest {
 
     @BeforeEach
     void setUp() {
-        applicationManager = new ApplicationManager();
+        applicationManager = new ApplicationManager(TestFixtures.fixedClock());
         student = new Student("U1234567A", "secret", "Alice", 3, "CSC");
         baseInternship = new Internship(
             "AI Intern",
@@ -98,7 +103,9 @@ public class ApplicationManagerTest {
         assertTrue(applicationManager.applyForInternship(student, otherInternship));
 
         Application accepted = applicationManager.getApplicationsForStudent(student.getUserId()).get(0);
-        applicationManager.acceptPlacement(student.getUserId(), accepted);
+        assertFalse(applicationManager.acceptPlacement(student.getUserId(), accepted), "Only offers can be accepted");
+        assertTrue(applicationManager.updateApplicationStatus(accepted, "Successful"));
+        assertTrue(applicationManager.acceptPlacement(student.getUserId(), accepted));
 
         assertTrue(accepted.isPlacementAccepted());
 
@@ -114,7 +121,8 @@ public class ApplicationManagerTest {
         baseInternship.decreaseAvailableSlots();
         application.setPlacementAccepted(true);
 
-        applicationManager.approveWithdrawal(application);
+        assertTrue(applicationManager.requestWithdrawal(student.getUserId(), application.getId(), "Moving abroad"));
+        assertTrue(applicationManager.approveWithdrawal(application));
 
         assertEquals(baseInternship.getTotalSlots(), baseInternship.getAvailableSlots(),
             "Slot count should restore after withdrawal approval");
@@ -129,5 +137,109 @@ public class ApplicationManagerTest {
 
         assertTrue(applicationManager.getApplicationsForInternship(baseInternship.getId()).isEmpty());
     }
-}
 
+    @Test
+    void acceptPlacement_rejectsOfferWhosePostingWasRemoved() {
+        applicationManager.applyForInternship(student, baseInternship);
+        Application offer = applicationManager.getApplicationsForStudent(student.getUserId()).get(0);
+        applicationManager.updateApplicationStatus(offer, "Successful");
+        applicationManager.removeApplicationsForInternship(baseInternship.getId());
+
+        assertFalse(applicationManager.acceptPlacement(student.getUserId(), offer));
+        assertEquals(baseInternship.getTotalSlots(), baseInternship.getAvailableSlots());
+    }
+
+    @Test
+    void removeApplicationsForInternship_clearsStudentIndexes() {
+        Internship internship = new Internship(
+            "Cloud Intern",
+            "Run infrastructure",
+            "Basic",
+            "CSC",
+            "2025-01-01",
+            "2099-12-31",
+            "CloudCorp",
+            "rep3",
+            1
+        );
+        internship.setStatus("Approved");
+        internship.setVisible(true);
+
+        assertTrue(applicationManager.applyForInternship(student, internship));
+        assertTrue(applicationManager.hasAppliedToInternship(student.getUserId(), internship.getId()));
+
+        applicationManager.removeApplicationsForInternship(internship.getId());
+
+        assertFalse(applicationManager.hasAppliedToInternship(student.getUserId(), internship.getId()));
+        assertTrue(applicationManager.getApplicationsForStudent(student.getUserId()).isEmpty());
+        assertEquals(0, applicationManager.getApplicationCount(student.getUserId()));
+    }
+
+    @Test
+    void streams_followLiveApplicationsAndPendingWithdrawals() {
+        Student other = new Student("U7654321B", "secret", "Bob", 3, "CSC");
+        applicationManager.applyForInternship(student, baseInternship);
+        applicationManager.applyForInternship(other, baseInternship);
+        Application first = applicationManager.getApplicationsForStudent(student.getUserId()).get(0);
+        Application second = applicationManager.getApplicationsForStudent(other.getUserId()).get(0);
+
+        assertEquals(List.of(first, second),
+            applicationManager.streamApplicationsForInternship(baseInternship.getId()).collect(Collectors.toList()));
+        assertEquals(0, applicationManager.streamApplicationsForInternship(-1).count());
+
+        assertTrue(applicationManager.requestWithdrawal(student.getUserId(), first.getId(), "Changed plans"));
+        assertTrue(applicationManager.requestWithdrawal(other.getUserId(), second.getId(), "Changed plans"));
+        applicationManager.rejectWithdrawal(first);
+        assertEquals(List.of(second), applicationManager.streamPendingWithdrawals().collect(Collectors.toList()));
+    }
+
+    @Test
+    void lifecycle_rejectsMovesOutsideTheTransitionTable() {
+        applicationManager.applyForInternship(student, baseInternship);
+        Application application = applicationManager.getApplicationsForStudent(student.getUserId()).get(0);
+
+        assertTrue(applicationManager.updateApplicationStatus(application, "Unsuccessful"));
+        assertFalse(applicationManager.updateApplicationStatus(application, "Successful"), "Decisions are final");
+        assertFalse(applicationManager.requestWithdrawal(student.getUserId(), application.getId(), "Too late"));
+        assertFalse(applicationManager.approveWithdrawal(application), "Nothing was requested");
+        assertEquals("Unsuccessful", application.getStatus());
+        assertEquals(WithdrawalStatus.NONE, application.getWithdrawalCode());
+        assertNull(application.getWithdrawalStatus());
+
+        Internship other = TestFixtures.makeInternship("Other", "Basic", "CSC", "rep2");
+        applicationManager.applyForInternship(student, other);
+        Application live = applicationManager.getApplicationsForStudent(student.getUserId()).get(1);
+        assertTrue(applicationManager.requestWithdrawal(student.getUserId(), live.getId(), "Changed plans"));
+        assertFalse(applicationManager.requestWithdrawal(student.getUserId(), live.getId(), "Again"),
+            "A request already awaiting a decision cannot be repeated");
+        assertTrue(applicationManager.rejectWithdrawal(live));
+        assertFalse(applicationManager.approveWithdrawal(live));
+        assertTrue(applicationManager.requestWithdrawal(student.getUserId(), live.getId(), "Asking again"));
+        assertTrue(applicationManager.approveWithdrawal(live));
+        assertEquals(ApplicationStatus.WITHDRAWN, live.getStatusCode());
+        assertFalse(applicationManager.updateApplicationStatus(live, "Successful"));
+
+        Internship decided = TestFixtures.makeInternship("Decided", "Basic", "CSC", "rep3");
+        applicationManager.applyForInternship(student, decided);
+        Application rejected = applicationManager.getApplicationsForStudent(student.getUserId()).get(2);
+        assertTrue(applicationManager.requestWithdrawal(student.getUserId(), rejected.getId(), "Before the decision"));
+        assertTrue(applicationManager.updateApplicationStatus(rejected, "Unsuccessful"));
+        assertFalse(applicationManager.approveWithdrawal(rejected), "Unsuccessful is final, even with a request pending");
+        assertEquals(ApplicationStatus.UNSUCCESSFUL, rejected.getStatusCode());
+    }
+
+    @Test
+    void packedState_keepsStatusWithdrawalAndPlacementIndependent() {
+        Application application = new Application(student.getUserId(), baseInternship);
+        application.setPlacementAccepted(true);
+        application.setWithdrawalCode(WithdrawalStatus.REJECTED);
+        application.setStatusCode(ApplicationStatus.WITHDRAWN);
+
+        assertTrue(application.isPlacementAccepted());
+        assertEquals("Rejected", application.getWithdrawalStatus());
+        assertEquals("Withdrawn", application.getStatus());
+        application.setPlacementAccepted(false);
+        assertEquals(WithdrawalStatus.REJECTED, application.getWithdrawalCode());
+        assertThrows(IllegalArgumentException.class, () -> application.setStatus("Maybe"));
+    }
+}
@@ -85,6 +85,7 @@ public class AuthenticationControllerTest {
             student,
             new InternshipManager(),
             new ApplicationManager(),
+            userManager,
             new FilterService(),
             uiPasswordChange
         );
@@ -108,5 +109,16 @@ public class AuthenticationControllerTest {
         assertNull(loggedIn);
         assertTrue(ui.getMessages().stream().anyMatch(msg -> msg.contains("awaiting staff approval")));
     }
-}
 
+    @Test
+    void pendingRepWithWrongPasswordSeesPasswordError() {
+        CompanyRep rep = TestFixtures.makeCompanyRep("pending@corp.com", false);
+        userManager.addPendingCompanyRep(rep);
+
+        TestConsoleUI ui = new TestConsoleUI(Arrays.asList("pending@corp.com", "wrong"));
+        controller = new AuthenticationController(userManager, validationService, ui);
+
+        assertNull(controller.login());
+        assertTrue(ui.getErrors().stream().anyMatch(msg -> msg.contains("Incorrect Password")));
+    }
+}
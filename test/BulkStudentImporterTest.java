@@ -0,0 +1,137 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import model.Student;
+import model.User;
+import service.BulkImportResult;
+import service.BulkStudentImporter;
+import service.CSVLoaderService;
+import service.UserManager;
+import service.ValidationService;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BulkStudentImporterTest {
+    private static final int ROWS = 100_000;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void importStudents_loadsValidRowsAcrossChunksAndCountsRejections() throws IOException {
+        Path file = tempDir.resolve("students.csv");
+        int badLine = 0;
+        try (BufferedWriter out = Files.newBufferedWriter(file)) {
+            out.write("StudentID,Password,Name,Major,Year\n");
+            for (int i = 0; i < ROWS; i++) {
+                out.write(String.format("U%07dA,password,\"Student, Number %d\",CSC,%d%n", i, i, 1 + i % 4));
+            }
+            // Late rows so they land in the last chunk; line numbers must still be file-wide
+            out.write("BADID,password,Broken,CSC,2\n");
+            badLine = ROWS + 2;
+            out.write("U9999999Z,password,Too,Few\n");
+            out.write("U9999998Z,password,Bad Year,CSC,two\n");
+            out.write("U0000001A,password,Duplicate,CSC,1\n");
+        }
+        assertTrue(Files.size(file) > 3 * (1 << 20), "File must span several chunks");
+
+        UserManager userManager = new UserManager();
+        TestConsoleUI ui = new TestConsoleUI(Collections.emptyList());
+        ForkJoinPool pool = new ForkJoinPool(4);
+        BulkImportResult result;
+        try {
+            result = new BulkStudentImporter(userManager, new ValidationService(), ui, pool)
+                .importStudents(file.toString());
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(ROWS + 4, result.getRowsRead());
+        assertEquals(ROWS, result.getImported());
+        assertEquals(3, result.getRejected());
+        assertEquals(1, result.getDuplicates());
+        assertEquals(3, result.getRejectionSamples().size());
+        assertTrue(result.getRejectionSamples().get(0).startsWith("Rejected line " + badLine + ":"),
+            result.getRejectionSamples().get(0));
+
+        Student last = (Student) userManager.getUserById(String.format("U%07dA", ROWS - 1));
+        assertEquals("Student, Number " + (ROWS - 1), last.getName());
+        assertEquals("Student, Number 1", userManager.getUserById("U0000001A").getName());
+        assertTrue(ui.getMessages().get(0).startsWith("Imported 100,000 students"), ui.getMessages().get(0));
+        assertEquals(3, ui.getErrors().size());
+    }
+
+    @Test
+    void importStudents_neverSplitsAChunkInsideAQuotedLineBreak() throws IOException {
+        Path file = tempDir.resolve("students.csv");
+        // The quoted break sits near the end of each row, so most split targets land before it and a
+        // split at the next raw line break would cut the quoted field in two
+        String padding = "x".repeat(200);
+        try (BufferedWriter out = Files.newBufferedWriter(file)) {
+            out.write("StudentID,Password,Name,Major,Year\n");
+            for (int i = 0; i < 20_000; i++) {
+                out.write(String.format("U%07dA,password,\"%s \"\"%d\"\"\nLine two\",CSC,%d%n", i, padding, i, 1 + i % 4));
+            }
+        }
+        assertTrue(Files.size(file) > 3 * (1 << 20), "File must span several chunks");
+
+        UserManager userManager = new UserManager();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        BulkImportResult result;
+        try {
+            result = new BulkStudentImporter(userManager, new ValidationService(),
+                new TestConsoleUI(Collections.emptyList()), pool).importStudents(file.toString());
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(0, result.getRejected(), String.valueOf(result.getRejectionSamples()));
+        assertEquals(20_000, result.getImported());
+        assertEquals(padding + " \"19999\"\nLine two", userManager.getUserById("U0019999A").getName());
+    }
+
+    @Test
+    void importStudents_acceptsTheSameRowsAsTheSequentialLoader() throws IOException {
+        Path file = tempDir.resolve("students.csv");
+        Files.writeString(file, "StudentID,Password,Name,Major,Year\n" +
+            "U1111111A,pw,Alice,CSC,2\n" +
+            "BADID,pw,Broken,CSC,2\n" +
+            "U2222222B,pw,Too,Few\n" +
+            "U3333333C,pw,Bad Year,CSC,two\n" +
+            "U4444444D,pw,Extra,CSC,3,column\n" +
+            "U5555555E,pw,\"Lee, Ana\",EEE,4\n");
+
+        UserManager sequential = new UserManager();
+        TestConsoleUI sequentialUi = new TestConsoleUI(Collections.emptyList());
+        int loaded = new CSVLoaderService(sequential, new ValidationService(), sequentialUi)
+            .loadStudents(file.toString());
+
+        UserManager bulk = new UserManager();
+        TestConsoleUI bulkUi = new TestConsoleUI(Collections.emptyList());
+        BulkImportResult result = new BulkStudentImporter(bulk, new ValidationService(), bulkUi)
+            .importStudents(file.toString());
+
+        assertEquals(2, loaded);
+        assertEquals(loaded, result.getImported());
+        assertEquals(userIds(sequential), userIds(bulk));
+        assertEquals(sequentialUi.getErrors().size(), result.getRejected());
+        assertEquals(4, result.getRejected());
+    }
+
+    private static Set<String> userIds(UserManager userManager) {
+        Set<String> ids = new TreeSet<>();
+        for (User user : userManager.getAllUsers()) {
+            ids.add(user.getUserId());
+        }
+        return ids;
+    }
+}
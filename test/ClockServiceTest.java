@@ -0,0 +1,81 @@
+import org.junit.jupiter.api.Test;
+
+import model.Internship;
+import service.ClockService;
+import util.EpochDays;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClockServiceTest {
+    @Test
+    void epochDaysParse_agreesWithLocalDateAndRejectsImpossibleDates() {
+        for (LocalDate date = LocalDate.of(1999, 1, 1); date.getYear() < 2102; date = date.plusDays(1)) {
+            assertEquals(date.toEpochDay(), EpochDays.parse(date.toString()), date.toString());
+        }
+        assertEquals(EpochDays.INVALID, EpochDays.parse("2026-02-29"));
+        assertEquals(EpochDays.INVALID, EpochDays.parse("2026-13-01"));
+        assertEquals(EpochDays.INVALID, EpochDays.parse("2026-1-01"));
+        assertEquals(EpochDays.INVALID, EpochDays.parse("2026/01/01"));
+        assertEquals(EpochDays.INVALID, EpochDays.parse(null));
+        assertTrue(EpochDays.isValid("2024-02-29"));
+    }
+
+    @Test
+    void today_ticksOverAtMidnightInTheClockZone() {
+        ZoneId zone = ZoneId.of("Asia/Singapore");
+        MutableClock clock = new MutableClock(LocalDate.of(2026, 3, 1).atTime(23, 59).atZone(zone).toInstant(), zone);
+        ClockService clockService = new ClockService(clock);
+        assertEquals(LocalDate.of(2026, 3, 1).toEpochDay(), clockService.today());
+
+        clock.instant = clock.instant.plusSeconds(60);
+        assertEquals(LocalDate.of(2026, 3, 2).toEpochDay(), clockService.today());
+
+        clock.instant = clock.instant.minusSeconds(3600);
+        assertEquals(LocalDate.of(2026, 3, 1).toEpochDay(), clockService.today());
+    }
+
+    @Test
+    void isOpenForApplications_usesTheGivenDayAndFollowsClosingDateEdits() {
+        Internship internship = TestFixtures.makeInternship("Role", "Basic", "CSC", "rep");
+        int closing = EpochDays.parse("2026-01-01");
+
+        assertTrue(internship.isOpenForApplications(closing));
+        assertFalse(internship.isOpenForApplications(closing + 1));
+
+        internship.setClosingDate("2026-01-02");
+        assertTrue(internship.isOpenForApplications(closing + 1));
+
+        internship.setClosingDate("not a date");
+        assertFalse(internship.isOpenForApplications(0));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+        private final ZoneId zone;
+
+        MutableClock(Instant instant, ZoneId zone) {
+            this.instant = instant;
+            this.zone = zone;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new MutableClock(instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import model.Application;
+import model.Internship;
+import model.Student;
+import persistence.DataStore;
+import service.ColumnarApplicationManager;
+import service.InternshipManager;
+import service.Page;
+import service.UserManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ColumnarApplicationManagerTest {
+    @TempDir
+    Path dataDir;
+
+    private ColumnarApplicationManager applicationManager;
+    private Student student;
+
+    protected ColumnarApplicationManager newManager() {
+        return new ColumnarApplicationManager(TestFixtures.fixedClock());
+    }
+
+    @BeforeEach
+    void setUp() {
+        applicationManager = newManager();
+        student = new Student("U1234567A", "secret", "Alice", 3, "CSC");
+    }
+
+    @Test
+    void applyForInternship_enforcesCapDuplicatesAndLevel() {
+        Internship first = TestFixtures.makeInternship("First", "Basic", "CSC", "rep");
+        assertTrue(applicationManager.applyForInternship(student, first));
+        assertFalse(applicationManager.applyForInternship(student, first), "Duplicates are refused");
+        assertTrue(applicationManager.applyForInternship(student, TestFixtures.makeInternship("Second", "Basic", "CSC", "rep")));
+        assertTrue(applicationManager.applyForInternship(student, TestFixtures.makeInternship("Third", "Basic", "CSC", "rep")));
+        assertFalse(applicationManager.applyForInternship(student, TestFixtures.makeInternship("Fourth", "Basic", "CSC", "rep")));
+        assertFalse(applicationManager.applyForInternship(TestFixtures.makeStudent(1, "CSC"),
+            TestFixtures.makeInternship("Senior", "Advanced", "CSC", "rep")));
+
+        assertEquals(3, applicationManager.getApplicationCount(student.getUserId()));
+        assertTrue(applicationManager.hasAppliedToInternship(student.getUserId(), first.getId()));
+        Application application = applicationManager.getApplicationsForStudent(student.getUserId()).get(0);
+        assertEquals(application, applicationManager.getApplicationById(application.getId()));
+        assertSame(first, application.getInternship());
+        assertEquals(student.getUserId(), application.getStudentId());
+        assertEquals("Pending", application.getStatus());
+    }
+
+    @Test
+    void acceptAndWithdraw_followTheSameLifecycleAsApplicationManager() {
+        Internship offered = TestFixtures.makeInternship("Offered", "Basic", "CSC", "rep");
+        Internship other = TestFixtures.makeInternship("Other", "Basic", "CSC", "rep");
+        applicationManager.applyForInternship(student, offered);
+        applicationManager.applyForInternship(student, other);
+        List<Application> applications = applicationManager.getApplicationsForStudent(student.getUserId());
+        Application accepted = applications.get(0);
+
+        assertFalse(applicationManager.acceptPlacement(student.getUserId(), accepted), "Only offers can be accepted");
+        assertTrue(applicationManager.updateApplicationStatus(accepted, "Successful"));
+        assertEquals(List.of(accepted), applicationManager.getSuccessfulApplications(student.getUserId()));
+        assertTrue(applicationManager.acceptPlacement(student.getUserId(), accepted));
+        assertTrue(accepted.isPlacementAccepted());
+        assertEquals(offered.getTotalSlots() - 1, offered.getAvailableSlots());
+        assertEquals("Withdrawn", applications.get(1).getStatus());
+
+        assertTrue(applicationManager.requestWithdrawal(student.getUserId(), accepted.getId(), "Moving abroad"));
+        assertEquals(List.of(accepted), applicationManager.getPendingWithdrawals());
+        assertEquals("Moving abroad", accepted.getWithdrawalReason());
+        assertTrue(applicationManager.approveWithdrawal(accepted));
+        assertFalse(applicationManager.rejectWithdrawal(accepted));
+        assertEquals(offered.getTotalSlots(), offered.getAvailableSlots());
+        assertEquals("Withdrawn", accepted.getStatus());
+        assertFalse(accepted.isPlacementAccepted());
+        assertTrue(applicationManager.getPendingWithdrawals().isEmpty());
+
+        Student late = new Student("U7654321B", "pw", "Bob", 3, "CSC");
+        applicationManager.applyForInternship(late, other);
+        Application decided = applicationManager.getApplicationsForStudent(late.getUserId()).get(0);
+        assertTrue(applicationManager.requestWithdrawal(late.getUserId(), decided.getId(), "Before the decision"));
+        assertTrue(applicationManager.updateApplicationStatus(decided, "Unsuccessful"));
+        assertFalse(applicationManager.approveWithdrawal(decided), "Unsuccessful is final, even with a request pending");
+        assertEquals("Unsuccessful", decided.getStatus());
+    }
+
+    @Test
+    void internshipQueries_pageInIdOrderAndRemovalUnlinksStudents() {
+        Internship internship = TestFixtures.makeInternship("Shared", "Basic", "CSC", "rep");
+        Internship kept = TestFixtures.makeInternship("Kept", "Basic", "CSC", "rep");
+        for (int i = 0; i < 5; i++) {
+            Student applicant = new Student("U000000" + i + "A", "pw", "Student " + i, 3, "CSC");
+            applicationManager.applyForInternship(applicant, internship);
+            applicationManager.applyForInternship(applicant, kept);
+        }
+
+        List<Application> all = applicationManager.getApplicationsForInternship(internship.getId());
+        assertEquals(all, applicationManager.streamApplicationsForInternship(internship.getId()).collect(Collectors.toList()));
+        Page<Application> first = applicationManager.getApplicationsForInternship(internship.getId(), null, 3);
+        Page<Application> rest = applicationManager.getApplicationsForInternship(internship.getId(), first.getNextCursor(), 3);
+        assertEquals(all.subList(0, 3), first.getItems());
+        assertEquals(all.subList(3, 5), rest.getItems());
+        assertFalse(rest.hasNext());
+        assertEquals(5, applicationManager.rejectPendingApplications(kept.getId()));
+
+        applicationManager.removeApplicationsForInternship(internship.getId());
+        assertTrue(applicationManager.getApplicationsForInternship(internship.getId()).isEmpty());
+        assertNull(applicationManager.getApplicationById(all.get(0).getId()));
+        List<Application> remaining = applicationManager.getApplicationsForStudent("U0000000A");
+        assertEquals(1, remaining.size());
+        assertSame(kept, remaining.get(0).getInternship());
+        assertFalse(applicationManager.hasAppliedToInternship("U0000000A", internship.getId()));
+    }
+
+    @Test
+    void removeApplicationsForInternship_recyclesRowsAndRetiresOldViews() {
+        Internship removed = TestFixtures.makeInternship("Removed", "Basic", "CSC", "rep");
+        assertTrue(applicationManager.applyForInternship(student, removed));
+        Application stale = applicationManager.getApplicationsForStudent(student.getUserId()).get(0);
+        applicationManager.removeApplicationsForInternship(removed.getId());
+        assertNull(applicationManager.getApplicationById(stale.getId()));
+        assertEquals("Pending", stale.getStatus(), "Readable until another application takes the row");
+
+        Internship next = TestFixtures.makeInternship("Next", "Basic", "CSC", "rep");
+        assertTrue(applicationManager.applyForInternship(student, next));
+        Application current = applicationManager.getApplicationsForStudent(student.getUserId()).get(0);
+        assertNotEquals(stale, current);
+        assertSame(next, current.getInternship());
+        assertThrows(IllegalStateException.class, stale::getStatus);
+    }
+
+    @Test
+    void streamApplicationsForInternship_neverHandsOutAnotherApplicationsRow() {
+        Internship removed = TestFixtures.makeInternship("Removed", "Basic", "CSC", "rep");
+        assertTrue(applicationManager.applyForInternship(student, removed));
+        Stream<Application> listed = applicationManager.streamApplicationsForInternship(removed.getId());
+
+        // Free the listed row and let another student's application take it before the stream is used
+        applicationManager.removeApplicationsForInternship(removed.getId());
+        Student other = new Student("U7654321B", "pw", "Bob", 3, "CSC");
+        Internship next = TestFixtures.makeInternship("Next", "Basic", "CSC", "rep");
+        assertTrue(applicationManager.applyForInternship(other, next));
+
+        List<Application> applications = listed.collect(Collectors.toList());
+        assertEquals(1, applications.size());
+        assertThrows(IllegalStateException.class, () -> applications.get(0).getStudentId(),
+            "The view is of the removed application, not the one now in its row");
+    }
+
+    @Test
+    void removeApplicationsForInternship_keepsSurvivorsFindableThroughChurn() {
+        List<Application> kept = new ArrayList<>();
+        for (int round = 0; round < 300; round++) {
+            Internship keep = TestFixtures.makeInternship("Keep " + round, "Basic", "CSC", "rep");
+            Internship drop = TestFixtures.makeInternship("Drop " + round, "Basic", "CSC", "rep");
+            for (int i = 0; i < 10; i++) {
+                Student applicant = new Student(String.format("U%07dA", round * 10 + i), "pw", "S", 3, "CSC");
+                assertTrue(applicationManager.applyForInternship(applicant, drop));
+                assertTrue(applicationManager.applyForInternship(applicant, keep));
+            }
+            applicationManager.removeApplicationsForInternship(drop.getId());
+            kept.addAll(applicationManager.getApplicationsForInternship(keep.getId()));
+        }
+
+        assertEquals(3000, kept.size());
+        for (Application application : kept) {
+            assertEquals(application, applicationManager.getApplicationById(application.getId()));
+            assertEquals(1, applicationManager.getApplicationCount(application.getStudentId()));
+            assertTrue(application.getInternship().getTitle().startsWith("Keep"));
+        }
+    }
+
+    @Test
+    void dataStore_restoresColumnsFromTheJournal() throws IOException {
+        UserManager userManager = new UserManager();
+        userManager.addUser(student);
+        InternshipManager internshipManager = new InternshipManager();
+        DataStore store = DataStore.open(dataDir, userManager, internshipManager, applicationManager, 0);
+        Internship internship = new Internship("Backend Intern", "Description", "Basic", "CSC",
+            "2025-01-01", "2099-12-31", "TechCorp", "rep@corp.com", 2);
+        internshipManager.addInternship(internship);
+        internship.setStatus("Approved");
+        internship.setVisible(true);
+        assertTrue(applicationManager.applyForInternship(student, internship));
+        Application app = applicationManager.getApplicationsForStudent(student.getUserId()).get(0);
+        applicationManager.updateApplicationStatus(app, "Successful");
+        assertTrue(applicationManager.requestWithdrawal(student.getUserId(), app.getId(), "Second thoughts"));
+        store.close();
+
+        ColumnarApplicationManager restored = newManager();
+        DataStore reopened = DataStore.open(dataDir, userManager, new InternshipManager(), restored, 0);
+        Application restoredApp = restored.getApplicationById(app.getId());
+        assertEquals("Successful", restoredApp.getStatus());
+        assertEquals("Second thoughts", restoredApp.getWithdrawalReason());
+        assertEquals(List.of(restoredApp), restored.getPendingWithdrawals());
+        reopened.close();
+    }
+}
@@ -30,7 +30,7 @@ public class CompanyRepControllerTest {
     void setUp() {
         rep = TestFixtures.makeCompanyRep("rep@corp.com", true);
         internshipManager = new InternshipManager();
-        applicationManager = new ApplicationManager();
+        applicationManager = new ApplicationManager(TestFixtures.fixedClock());
         userManager = new UserManager();
         filterService = new FilterService();
         validationService = new ValidationService();
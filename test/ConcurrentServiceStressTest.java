@@ -0,0 +1,278 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import model.Application;
+import model.Internship;
+import model.Student;
+import model.User;
+import service.ApplicationManager;
+import service.InternshipManager;
+import service.UserManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Hammers the service layer from many threads and checks that its invariants survive.
+ */
+public class ConcurrentServiceStressTest {
+    private static final int THREADS = 16;
+    private static final int OPERATIONS_PER_THREAD = 5_000;
+    private static final int STUDENTS = 200;
+    private static final int INTERNSHIPS = 40;
+
+    private UserManager userManager;
+    private InternshipManager internshipManager;
+    private ApplicationManager applicationManager;
+    private List<Student> students;
+    private List<Internship> internships;
+
+    @BeforeEach
+    void setUp() {
+        userManager = new UserManager();
+        internshipManager = new InternshipManager();
+        applicationManager = new ApplicationManager();
+        students = new ArrayList<>();
+        internships = new ArrayList<>();
+
+        for (int i = 0; i < STUDENTS; i++) {
+            Student student = new Student(String.format("U%07dA", i), "password", "Student " + i, 3, "CSC");
+            students.add(student);
+        }
+        for (int i = 0; i < INTERNSHIPS; i++) {
+            Internship internship = new Internship("Role " + i, "Description", "Basic", "CSC",
+                "2025-01-01", "2099-12-31", "TechCorp", "rep" + (i % 8), 3);
+            internship.setStatus("Approved");
+            internship.setVisible(true);
+            internships.add(internship);
+        }
+    }
+
+    @Test
+    void concurrentRegistrationAndLogin_keepsEveryUserReachable() throws Exception {
+        runConcurrently(threadIndex -> {
+            for (int i = threadIndex; i < STUDENTS; i += THREADS) {
+                userManager.addUser(students.get(i));
+            }
+            for (Student student : students) {
+                User loggedIn = userManager.login(student.getUserId(), "password");
+                assertTrue(loggedIn == null || loggedIn == student);
+            }
+        });
+
+        for (Student student : students) {
+            assertSame(student, userManager.login(student.getUserId(), "password"));
+        }
+    }
+
+    @Test
+    void concurrentPostingAndStatusChanges_keepIndexesConsistent() throws Exception {
+        List<Internship> created = Collections.synchronizedList(new ArrayList<>());
+
+        runConcurrently(threadIndex -> {
+            Random random = new Random(threadIndex);
+            for (int i = 0; i < 200; i++) {
+                Internship internship = new Internship("T" + threadIndex + "-" + i, "Desc", "Basic", "CSC",
+                    "2025-01-01", "2099-12-31", "Corp", "rep" + threadIndex, 2);
+                internshipManager.addInternship(internship);
+                created.add(internship);
+                if (random.nextBoolean()) {
+                    internship.setStatus(random.nextBoolean() ? "Approved" : "Rejected");
+                }
+            }
+        });
+
+        Set<Integer> ids = new HashSet<>();
+        for (Internship internship : created) {
+            assertTrue(ids.add(internship.getId()), "Internship ids must be unique");
+        }
+        assertEquals(created.size(), internshipManager.getAllInternships().size());
+
+        long pending = created.stream().filter(i -> i.getStatus().equals("Pending")).count();
+        assertEquals(pending, internshipManager.getPendingInternships().size());
+        for (int t = 0; t < THREADS; t++) {
+            assertEquals(200, internshipManager.getInternshipsForCompany("rep" + t).size());
+        }
+    }
+
+    @Test
+    void concurrentApplyAcceptWithdraw_preservesApplicationInvariants() throws Exception {
+        for (Internship internship : internships) {
+            internshipManager.addInternship(internship);
+        }
+
+        runConcurrently(threadIndex -> {
+            Random random = new Random(31L * threadIndex);
+            for (int op = 0; op < OPERATIONS_PER_THREAD; op++) {
+                Student student = students.get(random.nextInt(STUDENTS));
+                Internship internship = internships.get(random.nextInt(INTERNSHIPS));
+
+                switch (random.nextInt(5)) {
+                    case 0:
+                    case 1:
+                        applicationManager.applyForInternship(student, internship);
+                        break;
+                    case 2:
+                        for (Application app : applicationManager.getApplicationsForInternship(internship.getId())) {
+                            if (app.getStatus().equals("Pending")) {
+                                applicationManager.updateApplicationStatus(app, "Successful");
+                                break;
+                            }
+                        }
+                        break;
+                    case 3:
+                        for (Application app : applicationManager.getSuccessfulApplications(student.getUserId())) {
+                            applicationManager.acceptPlacement(student.getUserId(), app);
+                            break;
+                        }
+                        break;
+                    default:
+                        List<Application> withdrawable = applicationManager.getWithdrawableApplications(student.getUserId());
+                        if (!withdrawable.isEmpty()) {
+                            Application app = withdrawable.get(0);
+                            if (applicationManager.requestWithdrawal(student.getUserId(), app.getId(), "stress")) {
+                                applicationManager.approveWithdrawal(app);
+                            }
+                        }
+                        break;
+                }
+            }
+        });
+
+        Set<Integer> applicationIds = new HashSet<>();
+        Map<String, Set<Integer>> internshipsByStudent = new HashMap<>();
+        for (Student student : students) {
+            List<Application> applications = applicationManager.getApplicationsForStudent(student.getUserId());
+            int pending = 0;
+            int accepted = 0;
+            Set<Integer> appliedTo = new HashSet<>();
+
+            for (Application app : applications) {
+                assertTrue(applicationIds.add(app.getId()), "Application ids must be unique");
+                assertTrue(appliedTo.add(app.getInternship().getId()),
+                    "A student must never hold two applications for one internship");
+                if (app.getStatus().equals("Pending")) {
+                    pending++;
+                }
+                if (app.isPlacementAccepted()) {
+                    accepted++;
+                }
+            }
+
+            assertTrue(pending <= 3, "Pending applications must respect the per-student cap");
+            assertTrue(accepted <= 1, "A student can hold at most one accepted placement");
+            assertEquals(pending, applicationManager.getApplicationCount(student.getUserId()));
+            internshipsByStudent.put(student.getUserId(), appliedTo);
+        }
+
+        int indexedByInternship = 0;
+        for (Internship internship : internships) {
+            int placements = 0;
+            for (Application app : applicationManager.getApplicationsForInternship(internship.getId())) {
+                indexedByInternship++;
+                assertTrue(internshipsByStudent.get(app.getStudentId()).contains(internship.getId()),
+                    "Student and internship indexes must agree");
+                if (app.isPlacementAccepted()) {
+                    placements++;
+                }
+            }
+            assertTrue(internship.getAvailableSlots() >= 0);
+            assertEquals(internship.getTotalSlots() - placements, internship.getAvailableSlots(),
+                "Every taken slot must belong to exactly one accepted placement");
+            assertEquals(internship.getAvailableSlots() == 0, internship.getStatus().equals("Filled"));
+        }
+        assertEquals(applicationIds.size(), indexedByInternship);
+    }
+
+    @Test
+    void concurrentAcceptance_neverOversubscribesLastSlots() throws Exception {
+        Internship internship = internships.get(0);
+        internshipManager.addInternship(internship);
+
+        List<Application> offers = new ArrayList<>();
+        for (Student student : students) {
+            assertTrue(applicationManager.applyForInternship(student, internship));
+            Application app = applicationManager.getApplicationsForStudent(student.getUserId()).get(0);
+            applicationManager.updateApplicationStatus(app, "Successful");
+            offers.add(app);
+        }
+
+        runConcurrently(threadIndex -> {
+            for (int i = threadIndex; i < offers.size(); i += THREADS) {
+                Application app = offers.get(i);
+                applicationManager.acceptPlacement(app.getStudentId(), app);
+            }
+        });
+
+        long accepted = offers.stream().filter(Application::isPlacementAccepted).count();
+        assertEquals(internship.getTotalSlots(), accepted);
+        assertEquals(0, internship.getAvailableSlots());
+        assertEquals("Filled", internship.getStatus());
+    }
+
+    @Test
+    void concurrentRemoval_leavesNoOrphanedApplications() throws Exception {
+        runConcurrently(threadIndex -> {
+            Random random = new Random(threadIndex);
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                // Few internships and several removers keep removals racing with applications to the same posting
+                Internship internship = internships.get(random.nextInt(4));
+                if (threadIndex % 4 == 0) {
+                    applicationManager.removeApplicationsForInternship(internship.getId());
+                } else {
+                    Student student = students.get(random.nextInt(STUDENTS));
+                    applicationManager.applyForInternship(student, internship);
+                }
+            }
+        });
+
+        for (Student student : students) {
+            for (Application app : applicationManager.getApplicationsForStudent(student.getUserId())) {
+                assertSame(app, applicationManager.getApplicationById(app.getId()));
+                assertTrue(applicationManager.getApplicationsForInternship(app.getInternship().getId()).contains(app),
+                    "Every application a student sees is still listed under its internship");
+            }
+        }
+    }
+
+    private void runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                final int threadIndex = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(threadIndex);
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private interface ThreadTask {
+        void run(int threadIndex) throws Exception;
+    }
+}
@@ -0,0 +1,171 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import model.Student;
+import service.CSVLoaderService;
+import service.UserManager;
+import service.ValidationService;
+import util.CsvReader;
+import util.SymbolTable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvReaderTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void next_parsesQuotedFieldsWithCommasQuotesAndNewlines() throws IOException {
+        List<List<String>> rows = readAll(
+            "id,name,major\r\n" +
+            "1,\"Lee, Ana\",\"Data Science & AI\"\r\n" +
+            "2,\"She said \"\"hi\"\"\",\"Line one\nLine two\"\n" +
+            "3,,\"\"\n");
+
+        assertEquals(List.of("id", "name", "major"), rows.get(0));
+        assertEquals(List.of("1", "Lee, Ana", "Data Science & AI"), rows.get(1));
+        assertEquals(List.of("2", "She said \"hi\"", "Line one\nLine two"), rows.get(2));
+        assertEquals(List.of("3", "", ""), rows.get(3));
+        assertEquals(4, rows.size());
+    }
+
+    @Test
+    void next_trimsUnquotedFieldsAndSkipsBlankLines() throws IOException {
+        List<List<String>> rows = readAll("a , b,\" c \"\n\n   \r\nd,e,f");
+
+        assertEquals(List.of("a", "b", " c "), rows.get(0));
+        assertEquals(List.of("d", "e", "f"), rows.get(1));
+        assertEquals(2, rows.size());
+    }
+
+    @Test
+    void next_handlesRecordsSpanningBufferRefills() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            csv.append("U").append(i).append(",\"Name, ").append(i).append("\",").append(i % 5).append('\n');
+        }
+
+        try (CsvReader reader = new CsvReader(new OneCharReader(csv.toString()))) {
+            int count = 0;
+            while (reader.next()) {
+                assertEquals("U" + count, reader.getField(0));
+                assertEquals("Name, " + count, reader.getField(1));
+                assertEquals(count % 5, reader.getInt(2));
+                assertEquals(count + 1, reader.getLineNumber());
+                count++;
+            }
+            assertEquals(20_000, count);
+        }
+    }
+
+    @Test
+    void next_rejectsUnterminatedQuote() {
+        assertThrows(IOException.class, () -> readAll("a,\"never closed\n"));
+    }
+
+    @Test
+    void getInt_rejectsNonNumericFields() throws IOException {
+        try (CsvReader reader = new CsvReader(new StringReader("x, -42 ,4b\n"))) {
+            assertTrue(reader.next());
+            assertThrows(NumberFormatException.class, () -> reader.getInt(0));
+            assertEquals(-42, reader.getInt(1));
+            assertThrows(NumberFormatException.class, () -> reader.getInt(2));
+        }
+    }
+
+    @Test
+    void getSymbol_returnsSharedInstancesForRepeatedValues() throws IOException {
+        try (CsvReader reader = new CsvReader(new StringReader("U1, CSC ,Lee\nU2,CSC,\"Lee\"\n"))) {
+            assertTrue(reader.next());
+            String first = reader.getSymbol(1);
+            String name = reader.getSymbol(2);
+            assertTrue(reader.next());
+            assertSame(first, reader.getSymbol(1));
+            assertSame(name, reader.getSymbol(2));
+            assertEquals("CSC", first);
+            assertSame(SymbolTable.intern(new String("CSC")), first);
+        }
+    }
+
+    @Test
+    void loadStudents_acceptsQuotedNamesWithCommas() throws IOException {
+        Path file = tempDir.resolve("students.csv");
+        Files.writeString(file, "StudentID,Password,Name,Major,Year\n\n" +
+            "U1234567A,pass123,\"Tan, Mei Ling\",CSC,2\n");
+        UserManager userManager = new UserManager();
+
+        new CSVLoaderService(userManager, new ValidationService(), new TestConsoleUI(Collections.emptyList()))
+            .loadStudents(file.toString());
+
+        Student student = (Student) userManager.getUserById("U1234567A");
+        assertEquals("Tan, Mei Ling", student.getName());
+        assertEquals(2, student.getYear());
+    }
+
+    @Test
+    void loadStudents_skipsMalformedYearAndKeepsLoading() throws IOException {
+        Path file = tempDir.resolve("students.csv");
+        Files.writeString(file, "StudentID,Password,Name,Major,Year\n" +
+            "U1111111A,pw,Alice,CSC,2\n" +
+            "U2222222B,pw,Bob,CSC,second\n" +
+            "U3333333C,pw,Chen,EEE,3\n");
+        UserManager userManager = new UserManager();
+        TestConsoleUI ui = new TestConsoleUI(Collections.emptyList());
+
+        assertEquals(2, new CSVLoaderService(userManager, new ValidationService(), ui).loadStudents(file.toString()));
+
+        assertNotNull(userManager.getUserById("U1111111A"));
+        assertNull(userManager.getUserById("U2222222B"));
+        assertNotNull(userManager.getUserById("U3333333C"));
+        assertEquals(1, ui.getErrors().size());
+        assertTrue(ui.getErrors().get(0).contains("line 3"), ui.getErrors().get(0));
+    }
+
+    private static List<List<String>> readAll(String csv) throws IOException {
+        List<List<String>> rows = new ArrayList<>();
+        try (CsvReader reader = new CsvReader(new StringReader(csv))) {
+            while (reader.next()) {
+                List<String> row = new ArrayList<>();
+                for (int i = 0; i < reader.getFieldCount(); i++) {
+                    row.add(reader.getField(i));
+                }
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Hands out one character per read so every state transition crosses a buffer boundary.
+     */
+    private static class OneCharReader extends Reader {
+        private final String text;
+        private int pos;
+
+        OneCharReader(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (pos == text.length()) {
+                return -1;
+            }
+            buffer[offset] = text.charAt(pos++);
+            return 1;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,200 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import model.Application;
+import model.CompanyRep;
+import model.Internship;
+import model.Student;
+import persistence.DataStore;
+import persistence.JournalRecord;
+import persistence.Snapshot;
+import persistence.WriteAheadLog;
+import service.ApplicationManager;
+import service.InternshipManager;
+import service.UserManager;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DataStoreTest {
+    @TempDir
+    Path dataDir;
+
+    private UserManager userManager;
+    private InternshipManager internshipManager;
+    private ApplicationManager applicationManager;
+    private Student student;
+
+    @BeforeEach
+    void setUp() {
+        student = new Student("U1111111A", "pw", "Alice", 3, "CSC");
+        userManager = new UserManager();
+        userManager.addUser(student);
+        internshipManager = new InternshipManager();
+        applicationManager = new ApplicationManager();
+    }
+
+    @Test
+    void snapshot_replacesHistoryAndRestoresWithLaterChanges() throws IOException {
+        DataStore store = open();
+        CompanyRep rep = new CompanyRep("rep@corp.com", "pass", "Rep", "TechCorp", "HR", "Manager");
+        userManager.addPendingCompanyRep(rep);
+        userManager.approveCompanyRep(rep);
+        userManager.changePassword(student, "changed");
+        Internship internship = postApprovedInternship("Backend Intern", 2);
+        assertTrue(applicationManager.applyForInternship(student, internship));
+        Application app = applicationManager.getApplicationsForStudent(student.getUserId()).get(0);
+        applicationManager.updateApplicationStatus(app, "Successful");
+        assertTrue(applicationManager.acceptPlacement(student.getUserId(), app));
+
+        assertTrue(store.snapshot());
+        assertTrue(Files.exists(WriteAheadLog.segmentPath(dataDir, 1)), "The only snapshot's fallback is the full journal");
+        assertNotNull(Snapshot.latest(dataDir));
+
+        internship.setTitle("Platform Intern");
+        assertTrue(store.snapshot());
+        assertFalse(Files.exists(WriteAheadLog.segmentPath(dataDir, 1)), "Segments before the previous snapshot go");
+        assertEquals(2, Snapshot.list(dataDir).size());
+        store.close();
+
+        // Fresh process: CSV data is reloaded first, then the data directory is applied on top
+        userManager = new UserManager();
+        userManager.addUser(new Student("U1111111A", "pw", "Alice", 3, "CSC"));
+        internshipManager = new InternshipManager();
+        applicationManager = new ApplicationManager();
+        DataStore restored = open();
+
+        assertNotNull(userManager.login("rep@corp.com", "pass"));
+        assertNotNull(userManager.login("U1111111A", "changed"));
+        Internship restoredInternship = internshipManager.getInternshipById(internship.getId());
+        assertEquals("Platform Intern", restoredInternship.getTitle());
+        assertEquals(1, restoredInternship.getAvailableSlots());
+        assertTrue(applicationManager.getApplicationById(app.getId()).isPlacementAccepted());
+        restored.close();
+    }
+
+    @Test
+    void snapshot_keepsRejectedRepsRejectedAfterTheJournalIsCut() throws IOException {
+        // Stands in for the representative CSV, which reloads pending reps on every start
+        userManager.addPendingCompanyRep(new CompanyRep("rejected@corp.com", "pass", "Rej", "Corp", "HR", "Intern"));
+        DataStore store = open();
+        userManager.rejectCompanyRep((CompanyRep) userManager.findUser("rejected@corp.com").getUser());
+        assertTrue(store.snapshot());
+        postApprovedInternship("Later Change", 1);
+        assertTrue(store.snapshot());
+        assertFalse(Files.exists(WriteAheadLog.segmentPath(dataDir, 1)), "The rejection's own record is gone");
+        store.close();
+
+        userManager = new UserManager();
+        userManager.addPendingCompanyRep(new CompanyRep("rejected@corp.com", "pass", "Rej", "Corp", "HR", "Intern"));
+        internshipManager = new InternshipManager();
+        applicationManager = new ApplicationManager();
+        DataStore reopened = open();
+
+        assertFalse(userManager.findUser("rejected@corp.com").isFound());
+        assertTrue(userManager.getPendingCompanyReps().isEmpty());
+        reopened.close();
+    }
+
+    @Test
+    void open_fallsBackToThePreviousSnapshotWhenTheNewestIsCorrupt() throws IOException {
+        DataStore store = open();
+        Internship first = postApprovedInternship("First", 1);
+        assertTrue(store.snapshot());
+        Internship second = postApprovedInternship("Second", 1);
+        assertTrue(store.snapshot());
+        first.setTitle("First Renamed");
+        store.close();
+
+        Path newest = Snapshot.latest(dataDir);
+        try (FileChannel channel = FileChannel.open(newest, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() / 2);
+        }
+
+        internshipManager = new InternshipManager();
+        applicationManager = new ApplicationManager();
+        DataStore restored = open();
+
+        assertEquals("First Renamed", internshipManager.getInternshipById(first.getId()).getTitle());
+        assertEquals("Second", internshipManager.getInternshipById(second.getId()).getTitle());
+        assertNotEquals(newest, Snapshot.latest(dataDir), "The corrupt snapshot is set aside");
+        restored.close();
+    }
+
+    @Test
+    void snapshot_skipsWhenNothingChanged() throws IOException {
+        DataStore store = open();
+        assertFalse(store.snapshot());
+
+        postApprovedInternship("Only Change", 1);
+        assertTrue(store.snapshot());
+        assertFalse(store.snapshot());
+        store.close();
+    }
+
+    @Test
+    void snapshot_carriesOnlyPasswordsThatChanged() throws IOException {
+        for (int i = 0; i < 100; i++) {
+            userManager.addUser(new Student(String.format("U%07dB", i), "pw", "Seeded " + i, 2, "CSC"));
+        }
+        DataStore store = open();
+        userManager.changePassword(student, "changed");
+        assertTrue(store.snapshot());
+        assertEquals(1, countPasswordRecords(Snapshot.latest(dataDir)));
+        store.close();
+
+        // The change must survive a restart and still be carried by the next snapshot
+        userManager = new UserManager();
+        userManager.addUser(new Student("U1111111A", "pw", "Alice", 3, "CSC"));
+        internshipManager = new InternshipManager();
+        applicationManager = new ApplicationManager();
+        DataStore restored = open();
+        postApprovedInternship("Role", 1);
+        assertTrue(restored.snapshot());
+        assertEquals(1, countPasswordRecords(Snapshot.latest(dataDir)));
+        restored.close();
+    }
+
+    @Test
+    void read_rejectsTruncatedSnapshot() throws IOException {
+        DataStore store = open();
+        postApprovedInternship("Role", 1);
+        assertTrue(store.snapshot());
+        store.close();
+
+        Path snapshot = Snapshot.latest(dataDir);
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 1);
+        }
+        assertThrows(IOException.class, () -> Snapshot.read(snapshot, record -> { }));
+    }
+
+    private static int countPasswordRecords(Path snapshot) throws IOException {
+        int[] count = {0};
+        Snapshot.read(snapshot, record -> {
+            if (record.getType() == JournalRecord.Type.PASSWORD_CHANGED) {
+                count[0]++;
+            }
+        });
+        return count[0];
+    }
+
+    private DataStore open() throws IOException {
+        return DataStore.open(dataDir, userManager, internshipManager, applicationManager, 0);
+    }
+
+    private Internship postApprovedInternship(String title, int slots) {
+        Internship internship = new Internship(title, "Description", "Basic", "CSC",
+            "2025-01-01", "2099-12-31", "TechCorp", "rep@corp.com", slots);
+        internshipManager.addInternship(internship);
+        internship.setStatus("Approved");
+        internship.setVisible(true);
+        return internship;
+    }
+}
@@ -0,0 +1,83 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import model.Application;
+import model.Internship;
+import model.Student;
+import service.ApplicationManager;
+import service.CSVLoaderService;
+import service.IClockService;
+import service.InternshipManager;
+import service.UserManager;
+import service.ValidationService;
+import tools.DatasetGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DatasetGeneratorTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void writeCsv_isDeterministicAndLoadsThroughCsvLoaderService() throws IOException {
+        DatasetGenerator generator = new DatasetGenerator(7, 5_000);
+        generator.writeCsv(tempDir.resolve("a"));
+        new DatasetGenerator(7, 5_000).writeCsv(tempDir.resolve("b"));
+        new DatasetGenerator(8, 5_000).writeCsv(tempDir.resolve("c"));
+
+        for (String file : List.of("students.csv", "staff.csv", "company_reps.csv")) {
+            assertEquals(-1L, Files.mismatch(tempDir.resolve("a").resolve(file), tempDir.resolve("b").resolve(file)));
+        }
+        assertNotEquals(-1L, Files.mismatch(tempDir.resolve("a/students.csv"), tempDir.resolve("c/students.csv")));
+
+        UserManager userManager = new UserManager();
+        TestConsoleUI ui = new TestConsoleUI(Collections.emptyList());
+        CSVLoaderService loader = new CSVLoaderService(userManager, new ValidationService(), ui);
+        assertEquals(5_000, loader.loadStudents(tempDir.resolve("a/students.csv").toString()));
+        assertEquals(generator.getStaffCount(), loader.loadStaff(tempDir.resolve("a/staff.csv").toString()));
+        int reps = loader.loadCompanyReps(tempDir.resolve("a/company_reps.csv").toString());
+        assertTrue(reps > 0 && reps <= generator.getCompanyRepCount());
+        assertTrue(ui.getErrors().isEmpty(), ui.getErrors().toString());
+    }
+
+    @Test
+    void populate_appliesWithinTheRulesAndFavoursPopularMajorsAndCompanies() {
+        IClockService clock = TestFixtures.fixedClock();
+        UserManager userManager = new UserManager();
+        InternshipManager internshipManager = new InternshipManager();
+        ApplicationManager applicationManager = new ApplicationManager(clock);
+
+        DatasetGenerator.Summary summary = new DatasetGenerator(42, 20_000)
+            .populate(userManager, internshipManager, applicationManager, clock);
+
+        assertTrue(summary.internships() > 500, summary.toString());
+        assertTrue(summary.applications() > 20_000, summary.toString());
+        assertTrue(summary.offers() > 0 && summary.placements() > 0, summary.toString());
+
+        Map<String, Integer> studentsByMajor = new HashMap<>();
+        Map<String, Integer> applicationsByCompany = new HashMap<>();
+        for (int i = 0; i < 20_000; i++) {
+            Student student = (Student) userManager.getUserById(String.format("U%07dA", i));
+            studentsByMajor.merge(student.getMajor(), 1, Integer::sum);
+            List<Application> applications = applicationManager.getApplicationsForStudent(student.getUserId());
+            assertTrue(applications.size() <= 3);
+            for (Application application : applications) {
+                Internship internship = application.getInternship();
+                assertTrue(student.canApplyForLevel(internship.getLevel()));
+                applicationsByCompany.merge(internship.getCompanyName(), 1, Integer::sum);
+            }
+        }
+        // The top major and the top company stand well clear of an even split
+        assertTrue(studentsByMajor.get("CSC") > 20_000 / studentsByMajor.size() * 2, studentsByMajor.toString());
+        int busiest = Collections.max(applicationsByCompany.values());
+        assertTrue(busiest > summary.applications() / applicationsByCompany.size() * 10, "busiest company " + busiest);
+    }
+}
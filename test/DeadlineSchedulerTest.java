@@ -0,0 +1,101 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import model.Application;
+import model.Internship;
+import model.Student;
+import service.ApplicationManager;
+import service.DeadlineScheduler;
+import service.IClockService;
+import service.InternshipManager;
+import util.EpochDays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DeadlineSchedulerTest {
+    private int today;
+    private IClockService clock;
+    private InternshipManager internshipManager;
+    private ApplicationManager applicationManager;
+
+    @BeforeEach
+    void setUp() {
+        today = EpochDays.parse("2025-12-30");
+        clock = () -> today;
+        internshipManager = new InternshipManager();
+        applicationManager = new ApplicationManager(clock);
+    }
+
+    @Test
+    void tick_closesPostingsOnceTheirClosingDayHasPassed() {
+        Internship internship = TestFixtures.makeInternship("Role", "Basic", "CSC", "rep");
+        internshipManager.addInternship(internship);
+        Student student = TestFixtures.makeStudent(2, "CSC");
+        assertTrue(applicationManager.applyForInternship(student, internship));
+        Application application = applicationManager.getApplicationsForStudent(student.getUserId()).get(0);
+
+        DeadlineScheduler deadlines = new DeadlineScheduler(internshipManager, applicationManager, clock, true);
+        deadlines.start(0);
+        assertEquals(1, internshipManager.getInternshipsForStudent(student).size());
+
+        today = EpochDays.parse("2026-01-01");
+        assertEquals(0, deadlines.tick(), "Postings stay open through their closing day");
+
+        today++;
+        assertEquals(1, deadlines.tick());
+        assertEquals("Closed", internship.getStatus());
+        assertTrue(internshipManager.getInternshipsForStudent(student).isEmpty());
+        assertEquals("Unsuccessful", application.getStatus());
+        assertEquals(0, deadlines.tick(), "Each posting closes once");
+    }
+
+    @Test
+    void track_followsApprovalsAndClosingDateEdits() {
+        Internship pending = new Internship("Pending", "Desc", "Basic", "CSC",
+            "2025-01-01", "2025-12-31", "TechCorp", "rep", 1);
+        Internship extended = TestFixtures.makeInternship("Extended", "Basic", "CSC", "rep");
+        internshipManager.addInternship(pending);
+        DeadlineScheduler deadlines = new DeadlineScheduler(internshipManager, applicationManager, clock, false);
+        deadlines.start(0);
+        internshipManager.addInternship(extended);
+
+        today = EpochDays.parse("2026-01-05");
+        extended.setClosingDate("2026-02-01");
+        assertEquals(0, deadlines.tick(), "Unapproved and extended postings are not due");
+        assertEquals("Pending", pending.getStatus());
+        assertEquals("Approved", extended.getStatus());
+
+        // Approving a posting whose deadline already passed closes it on the next tick
+        pending.setStatus("Approved");
+        assertEquals(1, deadlines.tick());
+        assertEquals("Closed", pending.getStatus());
+
+        today = EpochDays.parse("2026-02-02");
+        internshipManager.removeInternship(extended);
+        assertEquals(0, deadlines.tick(), "Removed postings are no longer tracked");
+    }
+
+    @Test
+    void tick_closesFilledPostingsThatReopenAfterTheirDeadline() {
+        Internship internship = TestFixtures.makeInternship("Role", "Basic", "CSC", "rep");
+        internship.setTotalSlots(1);
+        internshipManager.addInternship(internship);
+        DeadlineScheduler deadlines = new DeadlineScheduler(internshipManager, applicationManager, clock, false);
+        deadlines.start(0);
+
+        assertTrue(internship.tryReserveSlot());
+        assertEquals("Filled", internship.getStatus());
+        today = EpochDays.parse("2026-01-02");
+        assertEquals(0, deadlines.tick(), "Filled postings have nothing to close");
+
+        internship.releaseSlot();
+        assertEquals("Approved", internship.getStatus());
+        assertFalse(internship.isOpenForApplications(clock.today()));
+        assertEquals(1, deadlines.tick());
+        assertEquals("Closed", internship.getStatus());
+
+        // Slots changing hands after closing leave the posting closed
+        assertTrue(internship.tryReserveSlot());
+        assertEquals("Closed", internship.getStatus());
+    }
+}
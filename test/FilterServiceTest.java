@@ -0,0 +1,62 @@
+import org.junit.jupiter.api.Test;
+
+import model.Internship;
+import service.FilterService;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FilterServiceTest {
+    @Test
+    void applyFilters_matchesAllCriteriaIgnoringCase() {
+        Internship match = TestFixtures.makeInternship("Match", "Basic", "CSC", "rep");
+        Internship wrongLevel = TestFixtures.makeInternship("Wrong Level", "Advanced", "CSC", "rep");
+        Internship wrongMajor = TestFixtures.makeInternship("Wrong Major", "Basic", "EEE", "rep");
+        FilterService filterService = new FilterService();
+
+        filterService.setFilters(" approved ", "csc", "BASIC", "2026-01-01");
+
+        assertEquals(List.of(match), filterService.applyFilters(List.of(match, wrongLevel, wrongMajor)));
+    }
+
+    @Test
+    void getCompiledFilter_isReusedUntilCriteriaChange() {
+        Internship basic = TestFixtures.makeInternship("Basic", "Basic", "CSC", "rep");
+        Internship advanced = TestFixtures.makeInternship("Advanced", "Advanced", "CSC", "rep");
+        FilterService filterService = new FilterService();
+        filterService.setFilters(null, null, "Basic", null);
+
+        Predicate<Internship> compiled = filterService.getCompiledFilter();
+        assertSame(compiled, filterService.getCompiledFilter());
+        assertTrue(compiled.test(basic));
+        assertFalse(compiled.test(advanced));
+
+        filterService.getCurrentFilter().setLevel("Advanced");
+        assertNotSame(compiled, filterService.getCompiledFilter());
+        assertEquals(List.of(advanced), filterService.applyFilters(List.of(basic, advanced)));
+
+        filterService.clearFilters();
+        assertEquals(List.of(basic, advanced), filterService.applyFilters(List.of(basic, advanced)));
+    }
+
+    @Test
+    void getCompiledFilter_givesTheSameAnswerOnRepeatedAndCollidingSymbols() {
+        FilterService filterService = new FilterService();
+        filterService.setFilters(null, "major7", null, null);
+        Predicate<Internship> compiled = filterService.getCompiledFilter();
+
+        // More majors than the compiled check remembers, visited twice so remembered verdicts get reused
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < 100; i++) {
+                Internship internship = TestFixtures.makeInternship("Role " + i, "Basic", "MAJOR" + i, "rep");
+                assertEquals(i == 7, compiled.test(internship), "MAJOR" + i);
+            }
+        }
+
+        filterService.setFilters("Archived", null, null, null);
+        assertFalse(filterService.getCompiledFilter().test(TestFixtures.makeInternship("Any", "Basic", "CSC", "rep")),
+            "A status no posting can have matches nothing");
+    }
+}
@@ -99,7 +99,7 @@ public class FullWorkflowIntegrationTest {
         IValidationService validationService = new ValidationService();
         IUserManager userManager = new UserManager();
         IInternshipManager internshipManager = new InternshipManager();
-        IApplicationManager applicationManager = new ApplicationManager();
+        IApplicationManager applicationManager = new ApplicationManager(TestFixtures.fixedClock());
 
         Staff staff = new Staff("staff001", "admin123", "Admin User", "Career Center");
         userManager.addUser(staff);
@@ -108,7 +108,7 @@ public class FullWorkflowIntegrationTest {
 
         AuthenticationController authController = new AuthenticationController(userManager, validationService, ui);
         MenuHandlerFactoryRegistry registry = new MenuHandlerFactoryRegistry();
-        registry.register(new StudentMenuHandlerFactory(internshipManager, applicationManager, ui));
+        registry.register(new StudentMenuHandlerFactory(internshipManager, applicationManager, userManager, ui));
         registry.register(new CompanyRepMenuHandlerFactory(internshipManager, applicationManager, userManager, validationService, ui));
         registry.register(new StaffMenuHandlerFactory(userManager, internshipManager, applicationManager, ui));
 
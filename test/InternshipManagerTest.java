@@ -1,9 +1,17 @@
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import model.Filter;
 import model.Internship;
+import model.Student;
+import service.FilterCompiler;
+import service.Page;
 import service.InternshipManager;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class InternshipManagerTest {
@@ -40,5 +48,214 @@ public class InternshipManagerTest {
         assertEquals(2, internshipManager.getInternshipCountForCompany("rep"),
             "Only active or pending postings should count toward the limit");
     }
-}
 
+    @Test
+    void getPendingInternships_tracksStatusChangesAfterAdd() {
+        Internship internship = new Internship("Role", "Desc", "Basic", "CSC",
+            "2025-01-01", "2026-01-01", "TechCorp", "rep", 2);
+        internshipManager.addInternship(internship);
+
+        assertEquals(1, internshipManager.getPendingInternships().size());
+
+        internship.setStatus("Approved");
+
+        assertTrue(internshipManager.getPendingInternships().isEmpty(),
+            "Approved postings must leave the pending index");
+        assertEquals(1, internshipManager.generateReport("Approved", null, null).size());
+    }
+
+    @Test
+    void removeInternship_clearsAllIndexes() {
+        Internship internship = new Internship("Role", "Desc", "Basic", "CSC",
+            "2025-01-01", "2026-01-01", "TechCorp", "rep", 2);
+        internshipManager.addInternship(internship);
+        internshipManager.removeInternship(internship);
+
+        assertNull(internshipManager.getInternshipById(internship.getId()));
+        assertTrue(internshipManager.getInternshipsForCompany("rep").isEmpty());
+        assertTrue(internshipManager.getPendingInternships().isEmpty());
+
+        internship.setStatus("Approved");
+        assertTrue(internshipManager.generateReport("Approved", null, null).isEmpty(),
+            "Removed postings must not be re-indexed by later edits");
+    }
+
+    @Test
+    void findInternships_foldsCaseTheSameWayAsCompiledFilters() {
+        // Upper-casing the dotless i gives I, but lower-casing I gives the dotted i
+        Internship dotless = new Internship("Dotless", "Desc", "Basic", "D\u0131S",
+            "2025-01-01", "2026-01-01", "TechCorp", "rep", 2);
+        Internship other = new Internship("Other", "Desc", "Basic", "CSC",
+            "2025-01-01", "2026-01-01", "TechCorp", "rep", 2);
+        internshipManager.addInternship(dotless);
+        internshipManager.addInternship(other);
+
+        Filter filter = new Filter();
+        filter.setMajor("DIS");
+        assertEquals(List.of(dotless), internshipManager.findInternships(filter));
+        assertEquals(List.of(dotless),
+            FilterCompiler.apply(FilterCompiler.compile(filter), internshipManager.getAllInternships()));
+    }
+
+    @Test
+    void findInternships_intersectsCriteriaIgnoringCaseAndFollowsEdits() {
+        Internship basicCsc = new Internship("Basic CSC", "Desc", "Basic", "CSC",
+            "2025-01-01", "2026-01-01", "TechCorp", "rep", 2);
+        Internship advancedCsc = new Internship("Advanced CSC", "Desc", "Advanced", "CSC",
+            "2025-01-01", "2026-02-01", "TechCorp", "rep", 2);
+        Internship basicEee = new Internship("Basic EEE", "Desc", "Basic", "EEE",
+            "2025-01-01", "2026-01-01", "TechCorp", "rep", 2);
+        internshipManager.addInternship(basicCsc);
+        internshipManager.addInternship(advancedCsc);
+        internshipManager.addInternship(basicEee);
+
+        Filter filter = new Filter();
+        filter.setMajor("csc");
+        filter.setLevel("BASIC");
+        assertEquals(List.of(basicCsc), internshipManager.findInternships(filter));
+
+        advancedCsc.setLevel("Basic");
+        assertEquals(List.of(basicCsc, advancedCsc), internshipManager.findInternships(filter));
+
+        filter.setClosingDate("2026-02-01");
+        assertEquals(List.of(advancedCsc), internshipManager.findInternships(filter));
+
+        filter.clear();
+        assertEquals(3, internshipManager.findInternships(filter).size());
+        filter.setStatus("Approved");
+        assertTrue(internshipManager.findInternships(filter).isEmpty());
+        assertEquals(List.of(advancedCsc, basicCsc), internshipManager.generateReport("Pending", "CSC", "Basic"),
+            "Reports match exactly and sort by title");
+        assertTrue(internshipManager.generateReport("Pending", "csc", null).isEmpty());
+    }
+
+    @Test
+    void getInternshipsForStudent_followsApprovalVisibilityEditsAndYearBand() {
+        Internship zebra = new Internship("Zebra", "Desc", "Basic", "CSC",
+            "2025-01-01", "2026-01-01", "TechCorp", "rep", 1);
+        Internship alpha = new Internship("Alpha", "Desc", "Advanced", "CSC",
+            "2025-01-01", "2026-01-01", "TechCorp", "rep", 1);
+        internshipManager.addInternship(zebra);
+        internshipManager.addInternship(alpha);
+        Student junior = new Student("U1111111A", "password", "Junior", 2, "CSC");
+        Student senior = new Student("U2222222B", "password", "Senior", 3, "CSC");
+        Student otherMajor = new Student("U3333333C", "password", "Other", 3, "EEE");
+
+        zebra.setStatus("Approved");
+        alpha.setStatus("Approved");
+        assertTrue(internshipManager.getInternshipsForStudent(senior).isEmpty(), "Hidden postings are not listed");
+
+        zebra.setVisible(true);
+        alpha.setVisible(true);
+        assertEquals(List.of(alpha, zebra), internshipManager.getInternshipsForStudent(senior));
+        assertEquals(List.of(zebra), internshipManager.getInternshipsForStudent(junior));
+        assertTrue(internshipManager.getInternshipsForStudent(otherMajor).isEmpty());
+
+        zebra.setTitle("Aardvark");
+        assertEquals(List.of(zebra, alpha), internshipManager.getInternshipsForStudent(senior));
+        alpha.setLevel("Basic");
+        assertEquals(List.of(zebra, alpha), internshipManager.getInternshipsForStudent(junior));
+
+        assertTrue(zebra.tryReserveSlot());
+        assertEquals(List.of(alpha), internshipManager.getInternshipsForStudent(senior), "Filled postings drop out");
+        alpha.setVisible(false);
+        assertTrue(internshipManager.getInternshipsForStudent(junior).isEmpty());
+    }
+
+    @Test
+    void generateReport_staysTitleOrderedAcrossEditsForBroadAndNarrowQueries() {
+        for (int i = 0; i < 40; i++) {
+            internshipManager.addInternship(new Internship(String.format("Role %02d", i), "Desc", "Basic", "CSC",
+                "2025-01-01", "2026-01-01", "TechCorp", "rep", 1));
+        }
+        Internship rare = new Internship("Rare B", "Desc", "Advanced", "EEE",
+            "2025-01-01", "2026-01-01", "TechCorp", "rep", 1);
+        Internship rareToo = new Internship("Rare A", "Desc", "Advanced", "EEE",
+            "2025-01-01", "2026-01-01", "TechCorp", "rep", 1);
+        internshipManager.addInternship(rare);
+        internshipManager.addInternship(rareToo);
+
+        assertEquals(List.of(rareToo, rare), internshipManager.generateReport(null, "EEE", null));
+        rareToo.setTitle("Rare C");
+        assertEquals(List.of(rare, rareToo), internshipManager.generateReport(null, "EEE", null));
+
+        Internship first = internshipManager.generateReport("Pending", "CSC", null).get(0);
+        assertEquals("Role 00", first.getTitle());
+        first.setTitle("Role 99");
+        List<Internship> broad = internshipManager.generateReport("Pending", "CSC", null);
+        assertEquals(40, broad.size());
+        assertEquals("Role 01", broad.get(0).getTitle());
+        assertSame(first, broad.get(39));
+        assertEquals(42, internshipManager.getInternshipsByTitle().size());
+        assertSame(first, internshipManager.generateReport(null, null, null).get(41));
+    }
+
+    @Test
+    void pages_walkEveryInternshipOnceEvenWhenRowsChangeBetweenPages() {
+        List<Internship> added = new java.util.ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            Internship internship = new Internship("Role " + (char) ('z' - i), "Desc", i % 2 == 0 ? "Basic" : "Advanced",
+                "CSC", "2025-01-01", "2026-01-01", "TechCorp", "rep", 1);
+            internshipManager.addInternship(internship);
+            added.add(internship);
+        }
+
+        Page<Internship> first = internshipManager.getInternshipsPage(null, 10);
+        assertEquals(added.subList(0, 10), first.getItems());
+        internshipManager.removeInternship(added.get(3));
+        Page<Internship> second = internshipManager.getInternshipsPage(first.getNextCursor(), 10);
+        assertEquals(added.subList(10, 20), second.getItems(), "Removing an earlier row must not shift later pages");
+        Page<Internship> third = internshipManager.getInternshipsPage(second.getNextCursor(), 10);
+        assertEquals(added.subList(20, 25), third.getItems());
+        assertFalse(third.hasNext());
+
+        Page<Internship> byTitle = internshipManager.getInternshipsByTitle(null, 20);
+        assertEquals("Role b", byTitle.getItems().get(0).getTitle());
+        Page<Internship> byTitleRest = internshipManager.getInternshipsByTitle(byTitle.getNextCursor(), 20);
+        assertEquals(4, byTitleRest.getItems().size());
+        assertEquals("Role z", byTitleRest.getItems().get(3).getTitle());
+
+        Filter basic = new Filter();
+        basic.setLevel("basic");
+        Page<Internship> basicFirst = internshipManager.findInternships(basic, null, 5);
+        Page<Internship> basicRest = internshipManager.findInternships(basic, basicFirst.getNextCursor(), 20);
+        assertEquals(5, basicFirst.getItems().size());
+        assertEquals(8, basicRest.getItems().size());
+        assertFalse(basicRest.hasNext());
+        assertTrue(basicRest.getItems().get(0).getId() > basicFirst.getItems().get(4).getId());
+    }
+
+    @Test
+    void streams_matchListsStopEarlyAndRunInParallel() {
+        for (int i = 0; i < 200; i++) {
+            Internship internship = new Internship(String.format("Role %03d", 199 - i), "Desc",
+                i % 4 == 0 ? "Advanced" : "Basic", i % 2 == 0 ? "CSC" : "EEE",
+                "2025-01-01", "2026-01-01", "TechCorp", "rep", 1);
+            internshipManager.addInternship(internship);
+        }
+
+        for (String level : new String[] {null, "Advanced"}) {
+            List<Internship> report = internshipManager.generateReport(null, "CSC", level);
+            assertEquals(report, internshipManager.streamReport(null, "CSC", level).collect(Collectors.toList()));
+            assertEquals(report, internshipManager.streamReport(null, "CSC", level).parallel().collect(Collectors.toList()));
+            assertEquals(report.size(), internshipManager.countReport(null, "CSC", level));
+        }
+        assertEquals(200, internshipManager.countReport(null, null, null));
+        assertEquals(0, internshipManager.countReport("Approved", "CSC", null));
+
+        AtomicInteger visited = new AtomicInteger();
+        List<Internship> firstThree = internshipManager.streamReport(null, "EEE", null)
+            .peek(internship -> visited.incrementAndGet())
+            .limit(3)
+            .collect(Collectors.toList());
+        assertEquals(List.of("Role 000", "Role 002", "Role 004"),
+            firstThree.stream().map(Internship::getTitle).collect(Collectors.toList()));
+        assertEquals(3, visited.get(), "A short-circuiting consumer should stop the walk early");
+
+        Filter basic = new Filter();
+        basic.setLevel("basic");
+        assertEquals(internshipManager.findInternships(basic),
+            internshipManager.streamInternships(basic).parallel().collect(Collectors.toList()));
+        assertEquals(150, internshipManager.streamInternships(basic).count());
+    }
+}
@@ -0,0 +1,74 @@
+import org.junit.jupiter.api.Test;
+
+import model.Application;
+import model.Internship;
+import model.Student;
+import service.ColumnarApplicationManager;
+import service.OffHeapApplicationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the columnar manager's tests against the off-heap columns, plus a volume test that grows every table.
+ */
+public class OffHeapApplicationManagerTest extends ColumnarApplicationManagerTest {
+    @Override
+    protected ColumnarApplicationManager newManager() {
+        return new OffHeapApplicationManager(TestFixtures.fixedClock());
+    }
+
+    @Test
+    void lookups_surviveTableGrowthAcrossManyStudentsAndInternships() {
+        ColumnarApplicationManager manager = newManager();
+        List<Internship> internships = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            internships.add(TestFixtures.makeInternship("Role " + i, "Basic", "CSC", "rep"));
+        }
+        // Enough students and rows to rehash the off-heap tables and spill into a second record chunk
+        int students = 30_000;
+        for (int i = 0; i < students; i++) {
+            Student student = new Student(String.format("U%07dA", i), "pw", "Student " + i, 3, "CSC");
+            assertTrue(manager.applyForInternship(student, internships.get(i % internships.size())));
+            assertTrue(manager.applyForInternship(student, internships.get((i + 1) % internships.size())));
+            assertTrue(manager.applyForInternship(student, internships.get((i + 2) % internships.size())));
+        }
+
+        for (int i = 0; i < students; i += 997) {
+            String studentId = String.format("U%07dA", i);
+            List<Application> applications = manager.getApplicationsForStudent(studentId);
+            assertEquals(3, applications.size());
+            assertEquals(studentId, applications.get(0).getStudentId());
+            assertSame(internships.get((i + 2) % internships.size()), applications.get(2).getInternship());
+            assertTrue(manager.hasAppliedToInternship(studentId, internships.get(i % internships.size()).getId()));
+        }
+        assertEquals(30, manager.getApplicationsForInternship(internships.get(0).getId()).size());
+        assertEquals(0, manager.getApplicationCount("U9999999Z"));
+    }
+
+    @Test
+    void studentIds_roundTripThroughTheOffHeapTableInAnyScript() {
+        ColumnarApplicationManager manager = newManager();
+        Internship internship = TestFixtures.makeInternship("Role", "Basic", "CSC", "rep");
+        // One, two, three and four UTF-8 bytes per character
+        String id = "U\u00e9\u4e2d\ud83d\ude00";
+        assertTrue(manager.applyForInternship(new Student(id, "pw", "Name", 3, "CSC"), internship));
+
+        assertEquals(id, manager.getApplicationsForStudent(id).get(0).getStudentId());
+        assertTrue(manager.hasAppliedToInternship(id, internship.getId()));
+        assertFalse(manager.hasAppliedToInternship("U\u00e9\u4e2d", internship.getId()));
+    }
+
+    @Test
+    void release_freesTheColumnsSoLaterReadsFailInsteadOfReadingFreedMemory() {
+        ColumnarApplicationManager manager = newManager();
+        Student student = TestFixtures.makeStudent(3, "CSC");
+        assertTrue(manager.applyForInternship(student, TestFixtures.makeInternship("Role", "Basic", "CSC", "rep")));
+
+        manager.release();
+        manager.release();
+        assertThrows(IndexOutOfBoundsException.class, () -> manager.getApplicationCount(student.getUserId()));
+    }
+}
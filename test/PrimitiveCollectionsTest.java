@@ -0,0 +1,174 @@
+import org.junit.jupiter.api.Test;
+
+import util.primitive.IntIntMap;
+import util.primitive.IntObjectMap;
+import util.primitive.IntSet;
+import util.primitive.ObjectIntMap;
+import util.primitive.SortedIntObjectMap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrimitiveCollectionsTest {
+    @Test
+    void randomOperations_matchBoxedCollectionsThroughTombstonesAndRebuilds() {
+        Random random = new Random(7);
+        IntObjectMap<String> objects = new IntObjectMap<>();
+        IntIntMap ints = new IntIntMap();
+        IntSet set = new IntSet();
+        ObjectIntMap<String> byName = new ObjectIntMap<>();
+        Map<Integer, String> expectedObjects = new HashMap<>();
+        Map<Integer, Integer> expectedInts = new HashMap<>();
+        TreeSet<Integer> expectedSet = new TreeSet<>();
+
+        // A narrow key range keeps churning the same slots, so tombstones build up and force rebuilds
+        for (int i = 0; i < 200_000; i++) {
+            int key = random.nextInt(2_000) - 1_000;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expectedObjects.remove(key), objects.remove(key));
+                assertEquals(expectedInts.getOrDefault(key, -1), ints.remove(key, -1));
+                assertEquals(expectedInts.getOrDefault(key, -1), byName.remove("k" + key, -1));
+                expectedInts.remove(key);
+                assertEquals(expectedSet.remove(key), set.remove(key));
+            } else {
+                assertEquals(expectedObjects.put(key, "v" + i), objects.put(key, "v" + i));
+                ints.put(key, i);
+                byName.put("k" + key, i);
+                expectedInts.put(key, i);
+                assertEquals(expectedSet.add(key), set.add(key));
+            }
+        }
+
+        assertEquals(expectedObjects.size(), objects.size());
+        assertEquals(expectedInts.size(), ints.size());
+        assertEquals(expectedInts.size(), byName.size());
+        for (int key = -1_000; key < 1_000; key++) {
+            assertEquals(expectedObjects.get(key), objects.get(key));
+            assertEquals(expectedInts.getOrDefault(key, -1), ints.getOrDefault(key, -1));
+            assertEquals(expectedInts.getOrDefault(key, -1), byName.getOrDefault("k" + key, -1));
+            assertEquals(expectedSet.contains(key), set.contains(key));
+        }
+        assertArrayEquals(expectedSet.stream().mapToInt(Integer::intValue).toArray(), set.toSortedArray());
+    }
+
+    @Test
+    void intObjectMap_putIfAbsentAndConditionalRemove() {
+        IntObjectMap<String> map = new IntObjectMap<>();
+        assertNull(map.putIfAbsent(0, "zero"));
+        assertEquals("zero", map.putIfAbsent(0, "other"));
+        assertEquals("zero", map.computeIfAbsent(0, key -> "unused"));
+        assertEquals("one", map.computeIfAbsent(1, key -> "one"));
+        assertFalse(map.remove(0, "other"));
+        assertTrue(map.remove(0, "zero"));
+        assertFalse(map.containsKey(0));
+        assertThrows(NullPointerException.class, () -> map.put(2, null));
+    }
+
+    @Test
+    void intObjectMap_readersAlwaysSeeTheValueOfTheirOwnKey() throws InterruptedException {
+        IntObjectMap<Integer> map = new IntObjectMap<>();
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            Random random = new Random(3);
+            while (!done.get()) {
+                int key = random.nextInt(5_000);
+                Integer value = map.get(key);
+                if (value != null && value != key) {
+                    failure.set("key " + key + " read " + value);
+                }
+            }
+        });
+        reader.start();
+        for (int round = 0; round < 20; round++) {
+            for (int key = 0; key < 5_000; key++) {
+                map.put(key, key);
+            }
+            for (int key = 0; key < 5_000; key += 2) {
+                map.remove(key);
+            }
+        }
+        done.set(true);
+        reader.join();
+
+        assertNull(failure.get());
+        assertEquals(2_500, map.size());
+    }
+
+    @Test
+    void sortedIntObjectMap_matchesTreeMapInKeyOrder() {
+        Random random = new Random(11);
+        SortedIntObjectMap<String> map = new SortedIntObjectMap<>();
+        TreeMap<Integer, String> expected = new TreeMap<>();
+
+        // Mostly ascending keys, as ids arrive, with some out of order and enough removals to force compaction
+        int nextId = 0;
+        for (int i = 0; i < 20_000; i++) {
+            int choice = random.nextInt(10);
+            int key = choice < 6 ? nextId++ : random.nextInt(nextId + 1);
+            if (choice >= 8) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, "v" + i), map.put(key, "v" + i));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        assertEquals(new ArrayList<>(expected.values()), map.values());
+        for (int key = -1; key <= nextId; key++) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+        int after = nextId / 2;
+        List<String> tail = new ArrayList<>();
+        for (Iterator<String> values = map.iteratorAfter(after); values.hasNext(); ) {
+            tail.add(values.next());
+        }
+        assertEquals(new ArrayList<>(expected.tailMap(after, false).values()), tail);
+        assertFalse(map.remove(-5, "missing"));
+        assertThrows(NullPointerException.class, () -> map.put(0, null));
+    }
+
+    @Test
+    void sortedIntObjectMap_readersSeeAscendingKeysWhileWritersChurn() throws InterruptedException {
+        SortedIntObjectMap<Integer> map = new SortedIntObjectMap<>();
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                int previous = -1;
+                for (Integer value : map) {
+                    if (value <= previous) {
+                        failure.set(value + " came after " + previous);
+                    }
+                    previous = value;
+                }
+            }
+        });
+        reader.start();
+        for (int round = 0; round < 20; round++) {
+            for (int key = round * 1_000; key < (round + 1) * 1_000; key++) {
+                map.put(key, key);
+            }
+            for (int key = round * 1_000; key < (round + 1) * 1_000; key += 2) {
+                map.remove(key);
+            }
+            // Revives a removed key in place while the reader may be walking past it
+            map.put(round * 1_000, round * 1_000);
+        }
+        done.set(true);
+        reader.join();
+
+        assertNull(failure.get());
+        assertEquals(20 * 501, map.size());
+    }
+}
@@ -0,0 +1,56 @@
+import org.junit.jupiter.api.Test;
+
+import util.RoaringBitmap;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RoaringBitmapTest {
+    @Test
+    void addRemoveAndSetOperations_matchTreeSetAcrossContainerKinds() {
+        Random random = new Random(42);
+        RoaringBitmap a = new RoaringBitmap();
+        RoaringBitmap b = new RoaringBitmap();
+        TreeSet<Integer> expectedA = new TreeSet<>();
+        TreeSet<Integer> expectedB = new TreeSet<>();
+
+        // Dense values in the first group push it past the array limit; sparse ones spread over many groups
+        for (int i = 0; i < 20_000; i++) {
+            int dense = random.nextInt(10_000);
+            int sparse = random.nextInt(1 << 22);
+            assertEquals(expectedA.add(dense), a.add(dense));
+            assertEquals(expectedB.add(sparse), b.add(sparse));
+            if (i % 3 == 0) {
+                expectedB.add(dense);
+                b.add(dense);
+            }
+        }
+        for (int i = 0; i < 8_000; i++) {
+            int value = random.nextInt(10_000);
+            assertEquals(expectedA.remove(value), a.remove(value));
+        }
+
+        assertArrayEquals(toArray(expectedA), a.toArray());
+        assertEquals(expectedB.size(), b.getCardinality());
+
+        TreeSet<Integer> intersection = new TreeSet<>(expectedA);
+        intersection.retainAll(expectedB);
+        assertArrayEquals(toArray(intersection), a.and(b).toArray());
+
+        TreeSet<Integer> union = new TreeSet<>(expectedA);
+        union.addAll(expectedB);
+        assertArrayEquals(toArray(union), a.or(b).toArray());
+
+        for (int value : expectedA) {
+            a.remove(value);
+        }
+        assertTrue(a.isEmpty());
+        assertFalse(a.contains(expectedA.first()));
+    }
+
+    private static int[] toArray(TreeSet<Integer> set) {
+        return set.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -28,7 +28,7 @@ public class StaffControllerTest {
         staff = TestFixtures.makeStaff();
         userManager = new UserManager();
         internshipManager = new InternshipManager();
-        applicationManager = new ApplicationManager();
+        applicationManager = new ApplicationManager(TestFixtures.fixedClock());
         filterService = new FilterService();
     }
 
@@ -101,5 +101,18 @@ public class StaffControllerTest {
         assertFalse(ui.getMessages().stream().anyMatch(msg -> msg.contains("EEE Approved")));
         assertFalse(ui.getMessages().stream().anyMatch(msg -> msg.contains("CSC Pending")));
     }
-}
 
+    @Test
+    void viewAllInternships_pagesThroughResultsUntilStopped() {
+        for (int i = 0; i < 45; i++) {
+            internshipManager.addInternship(TestFixtures.makeInternship("Role " + i, "Basic", "CSC", "rep"));
+        }
+
+        TestConsoleUI ui = new TestConsoleUI(Arrays.asList("", "q"));
+        buildController(ui).viewAllInternships();
+
+        long shown = ui.getMessages().stream().filter(m -> m.startsWith("- Role ")).count();
+        assertEquals(40, shown, "Two pages shown before stopping on the second prompt");
+        assertEquals(2, ui.getMessages().stream().filter("MORE"::equals).count());
+    }
+}
@@ -0,0 +1,101 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import model.CompanyRep;
+import model.Staff;
+import model.Student;
+import service.CSVLoaderService;
+import service.StartupLoader;
+import service.UserManager;
+import service.ValidationService;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StartupLoaderTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void loadAll_loadsEverySourceAndReportsPerFileTimings() throws IOException {
+        Path students = tempDir.resolve("students.csv");
+        Files.writeString(students, "StudentID,Password,Name,Major,Year\n" +
+            "U1234567A,pass123,Alice,CSC,2\n" +
+            "U7654321B,pass456,Bob,EEE,3\n");
+        Path staff = tempDir.resolve("staff.csv");
+        Files.writeString(staff, "StaffID,Password,Email,Name,Department\n" +
+            "sng001,pass789,sng001@ntu.edu.sg,Dr. Sng,CCDS\n");
+        Path reps = tempDir.resolve("reps.csv");
+        Files.writeString(reps, "CompanyRepID,Name,CompanyName,Department,Position,Email,Status\n" +
+            "rep@acme.com,Ann,Acme,HR,Recruiter,rep@acme.com,Approved\n" +
+            "new@acme.com,Ned,Acme,HR,Recruiter,new@acme.com,Pending\n" +
+            "old@acme.com,Olu,Acme,HR,Recruiter,old@acme.com,Rejected\n");
+
+        UserManager userManager = new UserManager();
+        TestConsoleUI ui = new TestConsoleUI(Collections.emptyList());
+        CSVLoaderService csvLoader = new CSVLoaderService(userManager, new ValidationService(), ui);
+
+        int total = new StartupLoader(ui)
+            .addSource(students.toString(), csvLoader::loadStudents)
+            .addSource(staff.toString(), csvLoader::loadStaff)
+            .addSource(reps.toString(), csvLoader::loadCompanyReps)
+            .loadAll();
+
+        assertEquals(5, total);
+        assertTrue(userManager.getUserById("U1234567A") instanceof Student);
+        assertTrue(userManager.getUserById("sng001") instanceof Staff);
+        CompanyRep approved = (CompanyRep) userManager.login("rep@acme.com", "password");
+        assertNotNull(approved);
+        assertEquals("Acme", approved.getCompanyName());
+        assertEquals(1, userManager.getPendingCompanyReps().size());
+        assertEquals("new@acme.com", userManager.getPendingCompanyReps().get(0).getUserId());
+        assertNull(userManager.getUserById("old@acme.com"));
+
+        assertTrue(ui.getMessages().stream().anyMatch(m -> m.startsWith("  " + reps + ": 2 users in ")),
+            ui.getMessages().toString());
+        assertTrue(ui.getMessages().get(ui.getMessages().size() - 1).startsWith("Loaded 5 users from 3 files in "));
+        assertTrue(ui.getErrors().isEmpty(), ui.getErrors().toString());
+    }
+
+    @Test
+    void loadCompanyReps_countsOnlyTheRepsItAdds() throws IOException {
+        Path reps = tempDir.resolve("reps.csv");
+        Files.writeString(reps, "CompanyRepID,Name,CompanyName,Department,Position,Email,Status\n" +
+            "rep@acme.com,Ann,Acme,HR,Recruiter,rep@acme.com,Approved\n" +
+            "new@acme.com,Ned,Acme,HR,Recruiter,new@acme.com,Pending\n" +
+            "new@acme.com,Ned,Acme,HR,Recruiter,new@acme.com,Pending\n" +
+            "rep@acme.com,Ann,Acme,HR,Recruiter,rep@acme.com,Approved\n");
+
+        UserManager userManager = new UserManager();
+        TestConsoleUI ui = new TestConsoleUI(Collections.emptyList());
+        int loaded = new CSVLoaderService(userManager, new ValidationService(), ui).loadCompanyReps(reps.toString());
+
+        assertEquals(2, loaded);
+        assertEquals(1, userManager.getPendingCompanyReps().size());
+        assertEquals("Loaded 2 company representatives from " + reps, ui.getMessages().get(0));
+    }
+
+    @Test
+    void loadAll_reportsMissingFilesWithoutFailingOthers() throws IOException {
+        Path staff = tempDir.resolve("staff.csv");
+        Files.writeString(staff, "StaffID,Password,Email,Name,Department\n" +
+            "sng001,pass789,sng001@ntu.edu.sg,Dr. Sng,CCDS\n");
+
+        UserManager userManager = new UserManager();
+        TestConsoleUI ui = new TestConsoleUI(Collections.emptyList());
+        CSVLoaderService csvLoader = new CSVLoaderService(userManager, new ValidationService(), ui);
+
+        int total = new StartupLoader(ui)
+            .addSource(tempDir.resolve("missing.csv").toString(), csvLoader::loadStudents)
+            .addSource(staff.toString(), csvLoader::loadStaff)
+            .loadAll();
+
+        assertEquals(1, total);
+        assertNotNull(userManager.getUserById("sng001"));
+        assertTrue(ui.getErrors().get(0).startsWith("Student CSV file not found"));
+    }
+}
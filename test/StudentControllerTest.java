@@ -7,6 +7,7 @@ import model.Student;
 import service.ApplicationManager;
 import service.FilterService;
 import service.InternshipManager;
+import service.UserManager;
 import controller.StudentController;
 
 import java.util.Collections;
@@ -24,12 +25,12 @@ public class StudentControllerTest {
     void setUp() {
         student = new Student("U1234567A", "password", "Test Student", 2, "CSC");
         internshipManager = new InternshipManager();
-        applicationManager = new ApplicationManager();
+        applicationManager = new ApplicationManager(TestFixtures.fixedClock());
         filterService = new FilterService();
     }
 
     private StudentController buildController(TestConsoleUI ui) {
-        return new StudentController(student, internshipManager, applicationManager, filterService, ui);
+        return new StudentController(student, internshipManager, applicationManager, new UserManager(), filterService, ui);
     }
 
     @Test
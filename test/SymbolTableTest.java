@@ -0,0 +1,51 @@
+import org.junit.jupiter.api.Test;
+
+import model.CompanyRep;
+import model.Internship;
+import model.Student;
+import util.SymbolTable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SymbolTableTest {
+    @Test
+    void intern_returnsOneInstancePerValueWithAStableId() {
+        String first = SymbolTable.intern(new String("Symbol Test Major"));
+        String second = SymbolTable.intern(new String("Symbol Test Major"));
+
+        assertSame(first, second);
+        int id = SymbolTable.idOf(new String("Symbol Test Major"));
+        assertEquals(id, SymbolTable.idOf(first));
+        assertSame(first, SymbolTable.valueOf(id));
+        assertNotEquals(id, SymbolTable.idOf("Symbol Test Other"));
+        assertNull(SymbolTable.intern(null));
+        assertEquals(SymbolTable.NO_ID, SymbolTable.idOf(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> SymbolTable.valueOf(-1));
+    }
+
+    @Test
+    void modelSetters_shareRepeatedValues() {
+        Student first = new Student("U1111111A", "pw", "A", 3, new String("DSAI"));
+        Student second = new Student("U2222222B", "pw", "B", 3, new String("EEE"));
+        second.setMajor(new String("DSAI"));
+        assertSame(first.getMajor(), second.getMajor());
+
+        Internship posting = TestFixtures.makeInternship("One", "Basic", new String("DSAI"), "rep");
+        Internship other = TestFixtures.makeInternship("Two", new String("Basic"), "CSC", "rep");
+        assertSame(first.getMajor(), posting.getPreferredMajor());
+        assertSame(posting.getLevel(), other.getLevel());
+        assertSame(posting.getClosingDate(), other.getClosingDate());
+    }
+
+    @Test
+    void freeTextFields_stayOutOfTheTable() {
+        int size = SymbolTable.size();
+        CompanyRep rep = new CompanyRep("rep@unlisted.com", "pw", "Rep", "Unlisted Holdings " + System.nanoTime(),
+            "Ventures " + System.nanoTime(), "Chief Tinkerer " + System.nanoTime());
+        rep.setCompanyName("Renamed Holdings " + System.nanoTime());
+        new Internship("Role", "Desc", "Basic", "CSC", "2025-01-01", "2026-01-01", rep.getCompanyName(),
+            rep.getUserId(), 1);
+
+        assertEquals(size, SymbolTable.size());
+    }
+}
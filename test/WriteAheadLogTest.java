@@ -0,0 +1,269 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import model.Application;
+import model.CompanyRep;
+import model.Internship;
+import model.Student;
+import persistence.JournalRecord;
+import persistence.JournalReplayer;
+import persistence.WriteAheadLog;
+import service.ApplicationManager;
+import service.InternshipManager;
+import service.UserManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WriteAheadLogTest {
+    @TempDir
+    Path tempDir;
+
+    private Path logDir;
+    private Path segmentPath;
+    private UserManager userManager;
+    private InternshipManager internshipManager;
+    private ApplicationManager applicationManager;
+    private WriteAheadLog log;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        logDir = tempDir.resolve("data");
+        segmentPath = WriteAheadLog.segmentPath(logDir, 1);
+        userManager = new UserManager();
+        internshipManager = new InternshipManager();
+        applicationManager = new ApplicationManager();
+        log = WriteAheadLog.open(logDir, 0, record -> fail("New log must be empty"));
+        userManager.setJournal(log);
+        internshipManager.setJournal(log);
+        applicationManager.setJournal(log);
+    }
+
+    @Test
+    void replay_restoresRepsInternshipsAndApplications() throws IOException {
+        CompanyRep rep = new CompanyRep("rep@corp.com", "pass", "Rep", "TechCorp", "HR", "Manager");
+        userManager.addPendingCompanyRep(rep);
+        userManager.approveCompanyRep(rep);
+        userManager.changePassword(rep, "newpass");
+        userManager.addPendingCompanyRep(new CompanyRep("late@corp.com", "pass", "Late", "Corp", "HR", "Intern"));
+
+        Internship internship = postApprovedInternship("Backend Intern", rep.getUserId(), 3);
+        Internship removed = postApprovedInternship("Cancelled Role", rep.getUserId(), 1);
+
+        Student alice = new Student("U1111111A", "pw", "Alice", 3, "CSC");
+        Student bob = new Student("U2222222B", "pw", "Bob", 3, "CSC");
+        assertTrue(applicationManager.applyForInternship(alice, internship));
+        assertTrue(applicationManager.applyForInternship(bob, internship));
+        assertTrue(applicationManager.applyForInternship(bob, removed));
+        Application aliceApp = applicationManager.getApplicationsForStudent(alice.getUserId()).get(0);
+        applicationManager.updateApplicationStatus(aliceApp, "Successful");
+        assertTrue(applicationManager.acceptPlacement(alice.getUserId(), aliceApp));
+        Application bobApp = applicationManager.getApplicationsForStudent(bob.getUserId()).get(0);
+        assertTrue(applicationManager.requestWithdrawal(bob.getUserId(), bobApp.getId(), "Changed plans"));
+
+        applicationManager.removeApplicationsForInternship(removed.getId());
+        internshipManager.removeInternship(removed);
+        log.close();
+
+        UserManager restoredUsers = new UserManager();
+        InternshipManager restoredInternships = new InternshipManager();
+        ApplicationManager restoredApplications = new ApplicationManager();
+        reopen(restoredUsers, restoredInternships, restoredApplications);
+
+        assertNotNull(restoredUsers.login("rep@corp.com", "newpass"));
+        assertTrue(((CompanyRep) restoredUsers.getUserById("rep@corp.com")).isApproved());
+        assertEquals(1, restoredUsers.getPendingCompanyReps().size());
+
+        List<Internship> internships = restoredInternships.getAllInternships();
+        assertEquals(1, internships.size());
+        Internship restored = internships.get(0);
+        assertEquals(internship.getId(), restored.getId());
+        assertEquals("Backend Intern", restored.getTitle());
+        assertEquals("Approved", restored.getStatus());
+        assertTrue(restored.isVisible());
+        assertEquals(2, restored.getAvailableSlots(), "Slots are derived from accepted placements");
+
+        Application restoredAlice = restoredApplications.getApplicationById(aliceApp.getId());
+        assertTrue(restoredAlice.isPlacementAccepted());
+        assertEquals("Successful", restoredAlice.getStatus());
+        assertSame(restored, restoredAlice.getInternship());
+
+        assertEquals(1, restoredApplications.getApplicationsForStudent(bob.getUserId()).size());
+        List<Application> withdrawals = restoredApplications.getPendingWithdrawals();
+        assertEquals(1, withdrawals.size());
+        assertEquals("Changed plans", withdrawals.get(0).getWithdrawalReason());
+        assertTrue(restoredApplications.hasAppliedToInternship(bob.getUserId(), internship.getId()));
+    }
+
+    @Test
+    void replay_isIdempotent() throws IOException {
+        Internship internship = postApprovedInternship("Data Intern", "rep1", 2);
+        internship.setTitle("Data Engineering Intern");
+        Student student = new Student("U1111111A", "pw", "Alice", 3, "CSC");
+        assertTrue(applicationManager.applyForInternship(student, internship));
+        log.close();
+
+        InternshipManager restoredInternships = new InternshipManager();
+        ApplicationManager restoredApplications = new ApplicationManager();
+        JournalReplayer replayer = new JournalReplayer(new UserManager(), restoredInternships, restoredApplications);
+        WriteAheadLog.readRecords(segmentPath, replayer::apply);
+        WriteAheadLog.readRecords(segmentPath, replayer::apply);
+        replayer.finish();
+
+        assertEquals(1, restoredInternships.getAllInternships().size());
+        assertEquals("Data Engineering Intern", restoredInternships.getAllInternships().get(0).getTitle());
+        assertEquals(1, restoredApplications.getApplicationsForStudent(student.getUserId()).size());
+    }
+
+    @Test
+    void open_discardsTornTailAndKeepsAppending() throws IOException {
+        postApprovedInternship("First", "rep1", 1);
+        log.sync();
+        long intactLength = Files.size(segmentPath);
+        log.close();
+
+        // Simulate a crash halfway through writing a frame
+        Files.write(segmentPath, new byte[] {0, 0, 0, 40, 5, 1, 2}, StandardOpenOption.APPEND);
+
+        InternshipManager restored = new InternshipManager();
+        JournalReplayer replayer = new JournalReplayer(new UserManager(), restored, new ApplicationManager());
+        WriteAheadLog reopened = WriteAheadLog.open(logDir, 0, replayer::apply);
+        assertEquals(intactLength, Files.size(segmentPath));
+        assertEquals(1, restored.getAllInternships().size());
+
+        restored.setJournal(reopened);
+        restored.getAllInternships().get(0).setTitle("Renamed");
+        reopened.close();
+
+        InternshipManager again = new InternshipManager();
+        reopen(new UserManager(), again, new ApplicationManager());
+        assertEquals("Renamed", again.getAllInternships().get(0).getTitle());
+    }
+
+    @Test
+    void sync_makesAppendedRecordsReadable() throws IOException {
+        postApprovedInternship("Synced", "rep1", 1);
+        log.sync();
+
+        int[] count = {0};
+        WriteAheadLog.readRecords(segmentPath, record -> count[0]++);
+        assertEquals(3, count[0], "Posting plus approval and visibility changes");
+        log.close();
+    }
+
+    @Test
+    void append_returnsOnceTheRecordIsOnDisk() throws IOException {
+        // The setters only enqueue; adding the second posting waits for them too, since they went first
+        postApprovedInternship("Durable", "rep1", 1);
+        internshipManager.addInternship(new Internship("Second", "Description", "Basic", "CSC",
+            "2025-01-01", "2099-12-31", "TechCorp", "rep1", 1));
+
+        int[] count = {0};
+        WriteAheadLog.readRecords(segmentPath, record -> count[0]++);
+        assertEquals(4, count[0], "No sync needed: every change made so far has been forced");
+        log.close();
+    }
+
+    @Test
+    void await_coversEveryRecordEnqueuedBeforeTheTicket() throws IOException {
+        long first = log.enqueue(JournalRecord.internshipRemoved(1));
+        long second = log.enqueue(JournalRecord.internshipRemoved(2));
+        assertTrue(second > first, "Tickets follow enqueue order");
+        log.await(second);
+
+        int[] count = {0};
+        WriteAheadLog.readRecords(segmentPath, record -> count[0]++);
+        assertEquals(2, count[0]);
+        log.close();
+        assertEquals(0, log.enqueue(JournalRecord.internshipRemoved(3)), "Dropped records have nothing to wait for");
+    }
+
+    @Test
+    void append_afterCloseIsDroppedInsteadOfFailingTheChange() {
+        Internship internship = postApprovedInternship("Open", "rep1", 1);
+        log.close();
+
+        internship.setTitle("Renamed after shutdown");
+        assertEquals("Renamed after shutdown", internship.getTitle());
+        assertEquals(1, log.getDroppedCount());
+        assertNull(log.getFailure());
+        assertThrows(IOException.class, () -> log.rotate());
+    }
+
+    @Test
+    void replay_restoresTextLongerThanWriteUtfAllows() throws IOException {
+        String description = "\u00e9".repeat(40_000);
+        Internship internship = postApprovedInternship("Long", "rep1", 1);
+        internship.setDescription(description);
+        log.close();
+
+        InternshipManager restored = new InternshipManager();
+        reopen(new UserManager(), restored, new ApplicationManager());
+        assertEquals(description, restored.getInternshipById(internship.getId()).getDescription());
+    }
+
+    @Test
+    void replay_restoresNullText() throws IOException {
+        Internship internship = postApprovedInternship("Blank", "rep1", 1);
+        internship.setDescription(null);
+        log.close();
+        assertEquals(0, log.getDroppedCount());
+        assertNull(log.getFailure());
+
+        InternshipManager restored = new InternshipManager();
+        reopen(new UserManager(), restored, new ApplicationManager());
+        Internship replayed = restored.getInternshipById(internship.getId());
+        assertNull(replayed.getDescription());
+        assertEquals("Blank", replayed.getTitle());
+    }
+
+    @Test
+    void approveCompanyRep_journalsOnlyWhenStateChanges() {
+        CompanyRep rep = new CompanyRep("rep@corp.com", "pass", "Rep", "TechCorp", "HR", "Manager");
+        userManager.addPendingCompanyRep(rep);
+        userManager.approveCompanyRep(rep);
+        long appended = log.getAppendedCount();
+
+        userManager.approveCompanyRep(rep);
+        assertEquals(appended, log.getAppendedCount());
+        log.close();
+    }
+
+    @Test
+    void rotate_splitsRecordsAcrossSegments() throws IOException {
+        postApprovedInternship("Before", "rep1", 1);
+        assertEquals(2, log.rotate());
+        postApprovedInternship("After", "rep1", 1);
+        log.close();
+
+        InternshipManager fromSecond = new InternshipManager();
+        JournalReplayer replayer = new JournalReplayer(new UserManager(), fromSecond, new ApplicationManager());
+        WriteAheadLog.open(logDir, 2, replayer::apply).close();
+
+        assertEquals(1, fromSecond.getAllInternships().size());
+        assertEquals("After", fromSecond.getAllInternships().get(0).getTitle());
+        assertTrue(Files.exists(segmentPath), "Older segments are left for the data store to prune");
+    }
+
+    private Internship postApprovedInternship(String title, String repId, int slots) {
+        Internship internship = new Internship(title, "Description", "Basic", "CSC",
+            "2025-01-01", "2099-12-31", "TechCorp", repId, slots);
+        internshipManager.addInternship(internship);
+        internship.setStatus("Approved");
+        internship.setVisible(true);
+        return internship;
+    }
+
+    private void reopen(UserManager users, InternshipManager internships, ApplicationManager applications)
+            throws IOException {
+        JournalReplayer replayer = new JournalReplayer(users, internships, applications);
+        WriteAheadLog.open(logDir, 0, replayer::apply).close();
+        replayer.finish();
+    }
+}
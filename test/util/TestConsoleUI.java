@@ -1,4 +1,5 @@
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
@@ -19,8 +20,9 @@ public class TestConsoleUI implements ConsoleUI {
 
     public TestConsoleUI(List<String> scriptedInputs) {
         this.scriptedInputs = new LinkedList<>(scriptedInputs);
-        this.messages = new ArrayList<>();
-        this.errors = new ArrayList<>();
+        // Synchronized so loaders running on several threads can report at once
+        this.messages = Collections.synchronizedList(new ArrayList<>());
+        this.errors = Collections.synchronizedList(new ArrayList<>());
     }
 
     @Override
@@ -71,6 +73,12 @@ public class TestConsoleUI implements ConsoleUI {
         messages.add("SEPARATOR");
     }
 
+    @Override
+    public boolean promptNextPage() {
+        messages.add("MORE");
+        return !getInput("MORE").trim().equalsIgnoreCase("q");
+    }
+
     public List<String> getMessages() {
         return messages;
     }
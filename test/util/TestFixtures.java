@@ -1,11 +1,24 @@
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
 import model.CompanyRep;
 import model.Internship;
 import model.Staff;
 import model.Student;
+import service.ClockService;
+import service.IClockService;
 
 public final class TestFixtures {
+    // Before every fixture closing date, so tests do not start failing as real time passes them
+    public static final String FIXED_TODAY = "2025-06-01";
+
     private TestFixtures() {}
 
+    public static IClockService fixedClock() {
+        return new ClockService(Clock.fixed(Instant.parse(FIXED_TODAY + "T00:00:00Z"), ZoneOffset.UTC));
+    }
+
     public static Student makeStudent(int year, String major) {
         return new Student("U1234567A", "password", "Test Student", year, major);
     }